@@ -1,19 +1,37 @@
 package blackjack;
 
 import blackjack.engine.BlackjackGameEngine;
+import blackjack.event.GameEvent;
+import blackjack.event.GameEventType;
+import blackjack.logging.GameLogger;
+import blackjack.model.StandardDeckCardManager;
+import blackjack.rules.TableRules;
 import blackjack.ui.BlackjackGameWindow;
 
+import java.util.Random;
+
 /**
  * Launcher class for starting the Blackjack game with GUI.
+ * The rule set is chosen with -Dblackjack.rules=legacy (default) or -Dblackjack.rules=casino.
  */
 public class BlackjackLauncher
 {
 
 	public static void main(String[] args)
 	{
-		BlackjackGameEngine engine = new BlackjackGameEngine();
+		TableRules tableRules = TableRules.fromName(System.getProperty("blackjack.rules", "legacy"));
+		BlackjackGameEngine engine = new BlackjackGameEngine(false, new StandardDeckCardManager(new Random()), 1, tableRules);
 		BlackjackGameWindow gui = new BlackjackGameWindow(engine);
-		engine.addObserver(gui);
-		engine.runGameLoop();
+		engine.getEventBus().subscribe(gui, BlackjackGameWindow.swingDeliveryExecutor());
+		engine.getEventBus().subscribe(events ->
+		{
+			for (GameEvent event : events)
+			{
+				if (event.getType() == GameEventType.ROUND_SETTLED)
+				{
+					GameLogger.logEvent("Round settled: " + event.getOutcome());
+				}
+			}
+		});
 	}
 }
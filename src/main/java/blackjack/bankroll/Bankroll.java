@@ -0,0 +1,139 @@
+package blackjack.bankroll;
+
+import blackjack.model.StandardDeckCardManager;
+
+/**
+ * Money behind one seat. The engine opens a round before the first card is dealt, which fixes the
+ * wager from the betting strategy, and settles it with the seat's net result in betting units, so a
+ * lost double costs twice the wager and a natural paid 3:2 wins one and a half times it.
+ * The balance only changes at settlement; a round abandoned with Reset costs nothing.
+ * Doubles and splits are assumed to be covered even when they exceed the balance, so a ruined
+ * bankroll can end slightly below zero. Like the engine, a bankroll is confined to one thread.
+ */
+public class Bankroll
+{
+	private final double initialBalance;
+	private final double minimumWager;
+	private final BettingStrategy bettingStrategy;
+	private double balance;
+	private double lowestBalance;
+	private double highestBalance;
+	private double currentWager;
+	private long roundsSettled;
+
+	/**
+	 * Creates a bankroll.
+	 * @param initialBalance starting money
+	 * @param minimumWager table minimum; a balance below it counts as ruin
+	 * @param bettingStrategy chooses the wager of every round
+	 */
+	public Bankroll(double initialBalance, double minimumWager, BettingStrategy bettingStrategy)
+	{
+		if (minimumWager <= 0)
+		{
+			throw new IllegalArgumentException("Minimum wager must be positive: " + minimumWager);
+		}
+		this.initialBalance = initialBalance;
+		this.minimumWager = minimumWager;
+		this.bettingStrategy = bettingStrategy;
+		reset();
+	}
+
+	/**
+	 * Restores the starting balance and forgets all settled rounds.
+	 */
+	public void reset()
+	{
+		balance = initialBalance;
+		lowestBalance = initialBalance;
+		highestBalance = initialBalance;
+		currentWager = 0.0;
+		roundsSettled = 0;
+	}
+
+	/**
+	 * Fixes the wager of the next round: the strategy's choice, at least the table minimum and at
+	 * most the balance. A ruined bankroll wagers nothing.
+	 * @param shoe shoe the round will be dealt from
+	 * @return wager of the round
+	 */
+	public double openRound(StandardDeckCardManager shoe)
+	{
+		if (isRuined())
+		{
+			currentWager = 0.0;
+		}
+		else
+		{
+			currentWager = Math.min(balance, Math.max(minimumWager, bettingStrategy.chooseWager(balance, shoe)));
+		}
+		return currentWager;
+	}
+
+	/**
+	 * Pays out the open round.
+	 * @param netUnits seat's net result in betting units
+	 * @return change of the balance
+	 */
+	public double settleRound(double netUnits)
+	{
+		double change = currentWager * netUnits;
+		balance += change;
+		lowestBalance = Math.min(lowestBalance, balance);
+		highestBalance = Math.max(highestBalance, balance);
+		currentWager = 0.0;
+		roundsSettled++;
+		return change;
+	}
+
+	/**
+	 * Returns true once the balance no longer covers the table minimum.
+	 */
+	public boolean isRuined()
+	{
+		return balance < minimumWager;
+	}
+
+	public double getBalance()
+	{
+		return balance;
+	}
+
+	public double getInitialBalance()
+	{
+		return initialBalance;
+	}
+
+	public double getMinimumWager()
+	{
+		return minimumWager;
+	}
+
+	public BettingStrategy getBettingStrategy()
+	{
+		return bettingStrategy;
+	}
+
+	/**
+	 * Returns the wager of the open round, or 0 between rounds.
+	 */
+	public double getCurrentWager()
+	{
+		return currentWager;
+	}
+
+	public double getLowestBalance()
+	{
+		return lowestBalance;
+	}
+
+	public double getHighestBalance()
+	{
+		return highestBalance;
+	}
+
+	public long getRoundsSettled()
+	{
+		return roundsSettled;
+	}
+}
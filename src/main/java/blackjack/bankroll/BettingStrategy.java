@@ -0,0 +1,63 @@
+package blackjack.bankroll;
+
+import blackjack.model.StandardDeckCardManager;
+
+/**
+ * Decides how much to wager on the next round, before any card of it is dealt.
+ */
+public interface BettingStrategy
+{
+	/**
+	 * Chooses the wager for the next round. The bankroll clamps the result to the table minimum
+	 * and to the money it holds.
+	 * @param balance money currently in the bankroll
+	 * @param shoe shoe the round will be dealt from, e.g. to read the true count
+	 * @return wager in money, not betting units
+	 */
+	double chooseWager(double balance, StandardDeckCardManager shoe);
+
+	/**
+	 * Returns a strategy that always wagers the same amount.
+	 * @param wager amount wagered every round
+	 * @return flat betting strategy
+	 */
+	static BettingStrategy flat(double wager)
+	{
+		return (balance, shoe) -> wager;
+	}
+
+	/**
+	 * Returns a strategy that wagers a multiple of a betting unit chosen by the Hi-Lo true count.
+	 * The true count is rounded down and used as index into the spread; counts below zero use the
+	 * first entry and counts past the end use the last.
+	 * @param unit size of one betting unit
+	 * @param unitsByTrueCount units wagered at true count 0, 1, 2, ...
+	 * @return count-based bet spread
+	 */
+	static BettingStrategy countSpread(double unit, double... unitsByTrueCount)
+	{
+		if (unitsByTrueCount.length == 0)
+		{
+			throw new IllegalArgumentException("A bet spread needs at least one entry");
+		}
+		double[] spread = unitsByTrueCount.clone();
+		return (balance, shoe) ->
+		{
+			int index = (int) Math.floor(shoe.getTrueCount());
+			return unit * spread[Math.max(0, Math.min(index, spread.length - 1))];
+		};
+	}
+
+	/**
+	 * Returns a strategy that bets a fraction of the Kelly wager for the edge the Hi-Lo true count
+	 * suggests, and the minimum whenever that edge is not positive.
+	 * @param fraction fraction of the full Kelly wager, e.g. 0.5 for half Kelly
+	 * @param minimumWager wager when the player has no edge
+	 * @return Kelly-fraction betting strategy
+	 */
+	static BettingStrategy kellyFraction(double fraction, double minimumWager)
+	{
+		return new KellyBettingStrategy(fraction, minimumWager, KellyBettingStrategy.HI_LO_BASE_EDGE,
+				KellyBettingStrategy.HI_LO_EDGE_PER_TRUE_COUNT, KellyBettingStrategy.HAND_VARIANCE);
+	}
+}
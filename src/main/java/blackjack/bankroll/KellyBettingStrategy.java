@@ -0,0 +1,74 @@
+package blackjack.bankroll;
+
+import blackjack.model.StandardDeckCardManager;
+
+/**
+ * Wagers a fraction of the Kelly bet, edge / variance of the bankroll, for the edge estimated
+ * from the true count: baseEdge + edgePerTrueCount * trueCount.
+ * Full Kelly maximises long-run growth but swings hard; fractions of one half or less trade a little
+ * growth for a much lower risk of ruin.
+ */
+public final class KellyBettingStrategy implements BettingStrategy
+{
+	/** Player edge of basic strategy off the top of a six-deck shoe */
+	public static final double HI_LO_BASE_EDGE = -0.005;
+
+	/** Edge gained per point of Hi-Lo true count */
+	public static final double HI_LO_EDGE_PER_TRUE_COUNT = 0.005;
+
+	/** Variance of one hand's net result with doubles and splits, in squared betting units */
+	public static final double HAND_VARIANCE = 1.3;
+
+	private final double fraction;
+	private final double minimumWager;
+	private final double baseEdge;
+	private final double edgePerTrueCount;
+	private final double variance;
+
+	/**
+	 * Creates a Kelly-fraction strategy with its own edge model.
+	 * @param fraction fraction of the full Kelly wager (0 to 1)
+	 * @param minimumWager wager when the estimated edge is not positive
+	 * @param baseEdge estimated edge at true count 0
+	 * @param edgePerTrueCount estimated edge gained per point of true count
+	 * @param variance variance of one hand's net result
+	 */
+	public KellyBettingStrategy(double fraction, double minimumWager, double baseEdge, double edgePerTrueCount, double variance)
+	{
+		if (fraction <= 0 || fraction > 1)
+		{
+			throw new IllegalArgumentException("Kelly fraction must be in (0, 1]: " + fraction);
+		}
+		if (variance <= 0)
+		{
+			throw new IllegalArgumentException("Variance must be positive: " + variance);
+		}
+		this.fraction = fraction;
+		this.minimumWager = minimumWager;
+		this.baseEdge = baseEdge;
+		this.edgePerTrueCount = edgePerTrueCount;
+		this.variance = variance;
+	}
+
+	@Override
+	public double chooseWager(double balance, StandardDeckCardManager shoe)
+	{
+		double edge = baseEdge + edgePerTrueCount * shoe.getTrueCount();
+		if (edge <= 0)
+		{
+			return minimumWager;
+		}
+		return Math.max(minimumWager, fraction * edge / variance * balance);
+	}
+
+	public double getFraction()
+	{
+		return fraction;
+	}
+
+	@Override
+	public String toString()
+	{
+		return String.format("%.2f Kelly", fraction);
+	}
+}
@@ -5,22 +5,39 @@ import blackjack.state.GameStatePlayerTurn;
 import blackjack.state.GameStateDealerTurn;
 import blackjack.state.GameStateRoundEnded;
 
+import blackjack.bankroll.Bankroll;
+import blackjack.event.GameEvent;
+import blackjack.event.GameEventBus;
+import blackjack.event.GameEventType;
+import blackjack.metrics.EngineMetrics;
 import blackjack.model.PlayingCardRepresentation;
 import blackjack.model.StandardDeckCardManager;
+import blackjack.rules.CompiledTableRules;
+import blackjack.rules.TableRules;
 import blackjack.state.GameState;
 import blackjack.stats.PlayerStatisticsTracker;
+import blackjack.stats.StatisticsBreakdown;
+import blackjack.stats.StatisticsSnapshot;
+import blackjack.tracing.RoundTracer;
 import blackjack.util.BlackjackDealer;
-import blackjack.util.BlackjackParticipant;
+import blackjack.util.PlayerHand;
 
 import java.util.ArrayList;
-import java.util.Observable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
 
 /**
  * Core game engine for running a single instance of Blackjack.
  * Manages states, transitions, players, and card drawing logic.
+ * A table seats up to seven players who act in seat order against one dealer.
+ * The table rules are compiled once at construction; splitting gives a seat extra hands, which act
+ * right after the hand they were split from.
  */
-public class BlackjackGameEngine extends Observable
+public class BlackjackGameEngine
 {
+	/** Largest number of player seats at one table */
+	public static final int MAXIMUM_SEAT_COUNT = 7;
 
 	// Game states
 	private GameState gameStartState;
@@ -29,21 +46,98 @@ public class BlackjackGameEngine extends Observable
 	private GameState gameRoundEndState;
 	private GameState currentGameState;
 
-	// Game statistics tracker
-	private PlayerStatisticsTracker statsTracker;
+	// Game statistics trackers: whole table and one per seat; seats roll up into the table
+	private final PlayerStatisticsTracker statsTracker;
+	private final PlayerStatisticsTracker[] seatStatistics;
 
-	// Game participants
-	public BlackjackParticipant primaryPlayer;
-	public BlackjackDealer mainDealer;
+	// Game participants; hands act in list order, which is seat order with split hands after their origin
+	private final ArrayList<PlayerHand> playerHands;
+	private final PlayerHand[] seatPrimaryHands;
+	private final int[] seatHandCounts;
+	private final BlackjackDealer mainDealer;
+	private int activeHandIndex;
+
+	// Dealer and settlement rules, resolved at construction
+	private final CompiledTableRules compiledRules;
 
 	// Card deck
-	private StandardDeckCardManager centralDeckManager;
+	private final StandardDeckCardManager centralDeckManager;
+
+	// Headless engines skip all event traffic
+	private final boolean headlessMode;
+
+	// Typed events for the UI, logger, statistics and spectators
+	private final GameEventBus eventBus = new GameEventBus();
+
+	// Result of the most recently settled round, per seat
+	private final RoundOutcome[] lastSeatOutcomes;
+	private final double[] lastSeatNetUnits;
+
+	// Optional money behind each seat, opened at the deal and paid at settlement
+	private final Bankroll[] seatBankrolls;
+
+	// Process-wide throughput and latency metrics, exposed over JMX
+	private final EngineMetrics metrics = EngineMetrics.getInstance();
+
+	// Spans of sampled rounds; disabled unless -Dblackjack.trace.file is set
+	private RoundTracer roundTracer;
+
+	// Runs dealer actions after the player's turn; guarded by this engine's monitor
+	private DealerTurnScheduler dealerTurnScheduler;
+	private boolean dealerStepPending;
 
 	/**
 	 * Initializes game engine, state machine, and participants.
 	 */
 	public BlackjackGameEngine()
 	{
+		this(false);
+	}
+
+	/**
+	 * Initializes game engine, optionally without any event notifications.
+	 * @param headlessMode true to run without UI traffic (simulations, batch play)
+	 */
+	public BlackjackGameEngine(boolean headlessMode)
+	{
+		this(headlessMode, new StandardDeckCardManager(new Random()));
+	}
+
+	/**
+	 * Initializes game engine that deals from its own deck.
+	 * @param headlessMode true to run without UI traffic (simulations, batch play)
+	 * @param deckManager deck used exclusively by this engine
+	 */
+	public BlackjackGameEngine(boolean headlessMode, StandardDeckCardManager deckManager)
+	{
+		this(headlessMode, deckManager, 1);
+	}
+
+	/**
+	 * Initializes game engine with several player seats sharing one deck and dealer.
+	 * @param headlessMode true to run without UI traffic (simulations, batch play)
+	 * @param deckManager deck used exclusively by this engine
+	 * @param seatCount number of player seats (1 to MAXIMUM_SEAT_COUNT)
+	 */
+	public BlackjackGameEngine(boolean headlessMode, StandardDeckCardManager deckManager, int seatCount)
+	{
+		this(headlessMode, deckManager, seatCount, TableRules.legacy());
+	}
+
+	/**
+	 * Initializes game engine playing under the given table rules.
+	 * @param headlessMode true to run without UI traffic (simulations, batch play)
+	 * @param deckManager deck used exclusively by this engine
+	 * @param seatCount number of player seats (1 to MAXIMUM_SEAT_COUNT)
+	 * @param tableRules rules compiled into this engine's dealer and settlement code
+	 */
+	public BlackjackGameEngine(boolean headlessMode, StandardDeckCardManager deckManager, int seatCount, TableRules tableRules)
+	{
+		if (seatCount < 1 || seatCount > MAXIMUM_SEAT_COUNT)
+		{
+			throw new IllegalArgumentException("Seat count must be between 1 and " + MAXIMUM_SEAT_COUNT + ": " + seatCount);
+		}
+		this.headlessMode = headlessMode;
 		gameStartState = new GameStateStart(this);
 		gamePlayerTurnState = new GameStatePlayerTurn(this);
 		gameDealerTurnState = new GameStateDealerTurn(this);
@@ -51,9 +145,27 @@ public class BlackjackGameEngine extends Observable
 		currentGameState = gameStartState;
 		statsTracker = new PlayerStatisticsTracker();
 
-		primaryPlayer = new BlackjackParticipant();
+		playerHands = new ArrayList<>(seatCount * TableRules.MAXIMUM_HANDS_PER_SEAT);
+		seatPrimaryHands = new PlayerHand[seatCount];
+		seatHandCounts = new int[seatCount];
+		seatStatistics = new PlayerStatisticsTracker[seatCount];
+		for (int i = 0; i < seatCount; i++)
+		{
+			seatPrimaryHands[i] = new PlayerHand(i);
+			playerHands.add(seatPrimaryHands[i]);
+			seatHandCounts[i] = 1;
+			seatStatistics[i] = statsTracker.createChild();
+		}
+		lastSeatOutcomes = new RoundOutcome[seatCount];
+		lastSeatNetUnits = new double[seatCount];
+		seatBankrolls = new Bankroll[seatCount];
+		compiledRules = tableRules.compile();
 		mainDealer = new BlackjackDealer();
-		centralDeckManager = StandardDeckCardManager.getInstance();
+		centralDeckManager = deckManager;
+		dealerTurnScheduler = headlessMode
+				? DealerTurnScheduler.immediate()
+				: DealerTurnScheduler.pacedOnSharedThread(DealerTurnScheduler.DEFAULT_UI_PACING_MILLIS);
+		setRoundTracer(RoundTracer.fromSystemProperties(headlessMode));
 	}
 
 	/**
@@ -62,6 +174,17 @@ public class BlackjackGameEngine extends Observable
 	public void updateGameState(GameState newState)
 	{
 		currentGameState = newState;
+		if (roundTracer.isTracing())
+		{
+			if (newState == gameRoundEndState || newState == gameStartState)
+			{
+				roundTracer.endRound(eventBus.getPublishedSequence());
+			}
+			else
+			{
+				roundTracer.stateChanged(newState.getClass().getSimpleName());
+			}
+		}
 	}
 
 	/**
@@ -105,17 +228,114 @@ public class BlackjackGameEngine extends Observable
 	}
 
 	/**
-	 * Returns the player participant object.
+	 * Returns the hand whose turn it is (the first seat's hand before the turn begins).
+	 */
+	public PlayerHand getPlayer()
+	{
+		return playerHands.get(activeHandIndex);
+	}
+
+	/**
+	 * Returns the first hand of the given seat; split hands are reached through {@link #getHand(int)}.
+	 * @param seatIndex zero-based seat index
+	 */
+	public PlayerHand getSeat(int seatIndex)
+	{
+		return seatPrimaryHands[seatIndex];
+	}
+
+	/**
+	 * Returns the number of player seats at this table.
+	 */
+	public int getSeatCount()
+	{
+		return seatPrimaryHands.length;
+	}
+
+	/**
+	 * Returns the number of hands in play, which exceeds the seat count after splits.
+	 */
+	public int getHandCount()
+	{
+		return playerHands.size();
+	}
+
+	/**
+	 * Returns a hand in acting order.
+	 * @param handIndex zero-based index below {@link #getHandCount()}
+	 */
+	public PlayerHand getHand(int handIndex)
+	{
+		return playerHands.get(handIndex);
+	}
+
+	/**
+	 * Returns the number of hands the given seat holds this round.
+	 * @param seatIndex zero-based seat index
+	 */
+	public int getSeatHandCount(int seatIndex)
+	{
+		return seatHandCounts[seatIndex];
+	}
+
+	/**
+	 * Returns the index of the seat whose turn it is.
+	 */
+	public int getActiveSeatIndex()
+	{
+		return getPlayer().getSeatIndex();
+	}
+
+	/**
+	 * Returns the index of the hand whose turn it is.
+	 */
+	public int getActiveHandIndex()
+	{
+		return activeHandIndex;
+	}
+
+	/**
+	 * Passes the turn to the next hand, which is a split hand of the same seat or the next seat.
+	 * @return true if another hand is now acting, false if the last hand has finished
+	 */
+	public boolean advanceToNextSeat()
+	{
+		if (activeHandIndex + 1 < playerHands.size())
+		{
+			activeHandIndex++;
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the rules this table plays by.
+	 */
+	public TableRules getTableRules()
+	{
+		return compiledRules.getRules();
+	}
+
+	/**
+	 * Returns the dealer participant object.
+	 */
+	public BlackjackDealer getDealer()
+	{
+		return mainDealer;
+	}
+
+	/**
+	 * Returns the shoe this engine deals from.
 	 */
-	public BlackjackParticipant getPlayer()
+	public StandardDeckCardManager getDeckManager()
 	{
-		return primaryPlayer;
+		return centralDeckManager;
 	}
 
 	/**
-	 * Returns cards currently held by the player.
+	 * Returns cards currently held by the first seat.
 	 */
-	public ArrayList<PlayingCardRepresentation> getPlayersCards()
+	public List<PlayingCardRepresentation> getPlayersCards()
 	{
 		return getCardsHeldByPlayer();
 	}
@@ -123,25 +343,77 @@ public class BlackjackGameEngine extends Observable
 	/**
 	 * Returns cards currently held by the dealer.
 	 */
-	public ArrayList<PlayingCardRepresentation> getDealersCards()
+	public List<PlayingCardRepresentation> getDealersCards()
 	{
 		return getCardsHeldByDealer();
 	}
 
 	/**
-	 * Starts the main game loop (used for dealer's automatic actions).
+	 * Replaces the scheduler that runs the dealer's turn (e.g. with a host's shared executor or custom pacing).
+	 * @param dealerTurnScheduler scheduler for dealer steps
+	 */
+	public synchronized void setDealerTurnScheduler(DealerTurnScheduler dealerTurnScheduler)
+	{
+		this.dealerTurnScheduler = dealerTurnScheduler;
+	}
+
+	/**
+	 * Returns true if this engine runs without event notifications.
+	 */
+	public boolean isHeadless()
+	{
+		return headlessMode;
+	}
+
+	/**
+	 * Replaces the tracer, e.g. to trace into a file of its own or with a different sample rate.
+	 * Takes effect from the next deal.
+	 * @param roundTracer tracer for this engine's rounds
 	 */
-	public void runGameLoop() {
-		beginGameLoopExecution();
+	public void setRoundTracer(RoundTracer roundTracer)
+	{
+		this.roundTracer = roundTracer;
+		eventBus.setRoundTracer(roundTracer);
+	}
+
+	/**
+	 * Returns the tracer for this engine's rounds; {@link RoundTracer#disabled()} when tracing is off.
+	 */
+	public RoundTracer getRoundTracer()
+	{
+		return roundTracer;
+	}
+
+	/**
+	 * Returns the bus on which the engine publishes its events.
+	 */
+	public GameEventBus getEventBus()
+	{
+		return eventBus;
 	}
 
 	/**
-	 * Notifies observers (e.g., UI) with a log message.
+	 * Publishes a typed event without payload (headless engines publish nothing).
+	 */
+	public void broadcastGameEvent(GameEventType eventType)
+	{
+		if (headlessMode)
+		{
+			return;
+		}
+		eventBus.publish(eventType);
+	}
+
+	/**
+	 * Notifies subscribers (e.g., UI) with a log message.
 	 */
 	public void broadcastGameLogMessage(String messageContent)
 	{
-		setChanged();
-		notifyObservers(messageContent);
+		if (headlessMode)
+		{
+			return;
+		}
+		eventBus.publish(GameEventType.LOG_MESSAGE, GameEvent.NO_SEAT, messageContent, null, null);
 	}
 
 	/**
@@ -149,145 +421,408 @@ public class BlackjackGameEngine extends Observable
 	 */
 	public void broadcastUIRepaint()
 	{
-		setChanged();
-		notifyObservers("repaint");
+		broadcastGameEvent(GameEventType.TABLE_UPDATED);
 	}
 
 	/**
-	 * Notifies observers to reset the game log (typically clears event log panel).
+	 * Notifies subscribers to reset the game log (typically clears event log panel).
 	 */
 	public void broadcastGameLogReset()
 	{
-		setChanged();
-		notifyObservers("reset game log");
+		broadcastGameEvent(GameEventType.LOG_RESET);
+	}
+
+	/**
+	 * Notifies subscribers about a dealt card; face-down cards are announced without their value.
+	 * @param seatIndex receiving seat, or GameEvent.DEALER_SEAT
+	 */
+	private void broadcastCardDealt(PlayingCardRepresentation card, boolean faceDown, int seatIndex)
+	{
+		if (headlessMode)
+		{
+			return;
+		}
+		eventBus.publish(GameEventType.CARD_DEALT, seatIndex, null, faceDown ? null : card, null);
+	}
+
+	/**
+	 * Schedules the next dealer action. Called when the dealer's turn begins and after each
+	 * dealer step; at most one step is pending at a time.
+	 */
+	public synchronized void scheduleDealerStep()
+	{
+		if (dealerStepPending)
+		{
+			return;
+		}
+		dealerStepPending = true;
+		dealerTurnScheduler.schedule(this::runScheduledDealerStep);
+	}
+
+	/**
+	 * Runs one dealer step and schedules the next one while the dealer is still acting.
+	 * Interactive engines time each step as one game loop iteration.
+	 */
+	private synchronized void runScheduledDealerStep()
+	{
+		long startNanos = headlessMode ? 0 : System.nanoTime();
+		dealerStepPending = false;
+		performAutomatedStep();
+		broadcastUIRepaint();
+		if (!headlessMode)
+		{
+			metrics.recordGameLoopIteration(System.nanoTime() - startNanos);
+		}
+		if (currentGameState == gameDealerTurnState)
+		{
+			scheduleDealerStep();
+		}
 	}
 
 	/**
-	 * Executes the game loop, mainly handling dealer AI actions and transitions.
+	 * Performs one pass of the automatic rules: ends the active seat's turn on bust/21
+	 * and lets the dealer act. Runs after each player hit and for each scheduled dealer step.
 	 */
-	public void beginGameLoopExecution()
+	public void performAutomatedStep()
 	{
-		boolean engineRunning = true;
-		while (engineRunning)
+		/**
+		 * Player turn logic
+		 */
+		if (currentGameState.equals(gamePlayerTurnState))
 		{
-			/**
-			 * Player turn logic
-			 */
-			if (currentGameState.equals(gamePlayerTurnState))
+			PlayerHand activePlayer = getPlayer();
+			if (activePlayer.isHandBusted())
 			{
-				if (primaryPlayer.isHandBusted())
+				if (!headlessMode)
 				{
-					broadcastGameLogMessage("Player Busted!\n" + determineWinnerAnnouncement());
-					currentGameState.endRound();
+					eventBus.publish(GameEventType.PLAYER_BUSTED, activePlayer.getSeatIndex(), null, null, null);
 				}
-				if (primaryPlayer.doesHavePerfectBlackjack())
+				finishActiveSeatTurn("Player Busted!");
+			}
+			else if (activePlayer.doesHavePerfectBlackjack())
+			{
+				finishActiveSeatTurn("Player hits 21!");
+			}
+		}
+		/**
+		 * Dealer turn logic
+		 */
+		if (currentGameState.equals(gameDealerTurnState))
+		{
+			if (isDealerTurnFinished())
+			{
+				if (mainDealer.doesHavePerfectBlackjack())
 				{
-					broadcastGameLogMessage("Player hits 21!\n" + determineWinnerAnnouncement());
-					currentGameState.endRound();
+					broadcastGameLogMessage("Dealer hits 21!\n" + determineWinnerAnnouncement());
+				}
+				else if (mainDealer.isHandBusted())
+				{
+					broadcastGameEvent(GameEventType.DEALER_BUSTED);
+					broadcastGameLogMessage("Dealer Busted!\n" + determineWinnerAnnouncement());
 				}
+				else
+				{
+					broadcastGameLogMessage("Dealer Holds.\n" + determineWinnerAnnouncement());
+				}
+				currentGameState.endRound();
 			}
-			/**
-			 * Dealer turn logic
-			 */
-			if (currentGameState.equals(gameDealerTurnState))
+
+			if (!isDealerTurnFinished())
 			{
-				if (isDealerTurnFinished())
+				broadcastGameLogMessage("Dealer draws a card.");
+				drawCardForDealer(false);
+				if (mainDealer.doesHavePerfectBlackjack())
 				{
-					if (mainDealer.doesHavePerfectBlackjack())
-					{
-						broadcastGameLogMessage("Dealer hits 21!\n" + determineWinnerAnnouncement());
-					}
-					else if (mainDealer.isHandBusted())
-					{
-						broadcastGameLogMessage("Dealer Busted!\n" + determineWinnerAnnouncement());
-					}
-					else
-					{
-						broadcastGameLogMessage("Dealer Holds.\n" + determineWinnerAnnouncement());
-					}
+					broadcastGameLogMessage("Dealer hits 21!\n" + determineWinnerAnnouncement());
 					currentGameState.endRound();
 				}
-
-				if (!isDealerTurnFinished())
+				if (mainDealer.isHandBusted())
 				{
-					broadcastGameLogMessage("Dealer draws a card.");
-					drawCardForDealer(false);
-					if (mainDealer.doesHavePerfectBlackjack())
-					{
-						broadcastGameLogMessage("Dealer hits 21!\n" + determineWinnerAnnouncement());
-						currentGameState.endRound();
-					}
-					if (mainDealer.isHandBusted())
-					{
-						broadcastGameLogMessage("Dealer Busted!\n" + determineWinnerAnnouncement());
-						currentGameState.endRound();
-					}
+					broadcastGameEvent(GameEventType.DEALER_BUSTED);
+					broadcastGameLogMessage("Dealer Busted!\n" + determineWinnerAnnouncement());
+					currentGameState.endRound();
 				}
 			}
+		}
+	}
 
-			try
-			{
-				Thread.sleep(1000);
-			}
-			catch (InterruptedException e)
+	/**
+	 * Ends the active hand's turn after a bust, 21 or surrender. The next hand acts if there is one;
+	 * after the last hand the dealer plays only if some hand still needs to be beaten,
+	 * otherwise the round is settled right away.
+	 * @param reason log text describing why the turn ended
+	 */
+	private void finishActiveSeatTurn(String reason)
+	{
+		int finishedSeatNumber = getActiveSeatIndex() + 1;
+		if (advanceToNextSeat())
+		{
+			broadcastGameLogMessage("Seat " + finishedSeatNumber + ": " + reason);
+			return;
+		}
+		if (isDealerTurnNeeded())
+		{
+			broadcastGameLogMessage(reason);
+			currentGameState.endPlayerTurn();
+		}
+		else
+		{
+			broadcastGameLogMessage(reason + "\n" + determineWinnerAnnouncement());
+			currentGameState.endRound();
+		}
+	}
+
+	/**
+	 * Checks whether any seat stands on a hand the dealer has to play against. Under the legacy
+	 * rules that is a live total below 21 or a natural blackjack; under casino rules any live hand
+	 * except a natural.
+	 * @return true if the dealer must take a turn
+	 */
+	public boolean isDealerTurnNeeded()
+	{
+		for (PlayerHand hand : playerHands)
+		{
+			if (compiledRules.needsDealerTurn(hand))
 			{
-				e.printStackTrace();
+				return true;
 			}
-
-			broadcastUIRepaint();
 		}
+		return false;
 	}
 
 	/**
-	 * Fully resets the game by reshuffling the deck and clearing all hands.
+	 * Fully resets the game by clearing all hands. The shoe is reshuffled once its cut card has
+	 * come out, which with the default single deck is before every round; a continuous shoe takes
+	 * the used cards back instead. Split hands are dropped so every seat starts with one hand.
 	 */
 	public void fullyResetGame()
 	{
-		reshuffleDeck();
-		primaryPlayer.discardAllCardsFromHand();
+		if (centralDeckManager.prepareForNextRound())
+		{
+			metrics.recordReshuffle();
+		}
+		playerHands.clear();
+		for (int seatIndex = 0; seatIndex < seatPrimaryHands.length; seatIndex++)
+		{
+			seatPrimaryHands[seatIndex].discardAllCardsFromHand();
+			playerHands.add(seatPrimaryHands[seatIndex]);
+			seatHandCounts[seatIndex] = 1;
+		}
+		activeHandIndex = 0;
 		mainDealer.revealAllDealerCardsToPlayer();
 		mainDealer.discardAllCardsFromHand();
 	}
 
 	/**
-	 * Deals two cards to each participant. First dealer card is hidden.
+	 * Deals two cards to each seat and the dealer, seat by seat. First dealer card is hidden.
+	 * Seats with a bankroll place their wager first, while the shoe still shows the pre-deal count.
+	 * The deal starts the round's trace if it is sampled.
 	 */
 	public void executeCardDealSequence()
 	{
+		roundTracer.beginRound(currentGameState.getClass().getSimpleName(), eventBus.getPublishedSequence());
+		long spanStart = roundTracer.startSpan();
+		broadcastGameEvent(GameEventType.ROUND_STARTED);
+		metrics.recordRoundStarted();
+		activeHandIndex = 0;
+		for (Bankroll bankroll : seatBankrolls)
+		{
+			if (bankroll != null)
+			{
+				bankroll.openRound(centralDeckManager);
+			}
+		}
 		for (int i = 0; i < 2; i++)
 		{
-			drawCardForPlayer();
+			for (PlayerHand seatHand : seatPrimaryHands)
+			{
+				drawCardIntoHand(seatHand);
+			}
 			drawCardForDealer(i == 0);
 		}
+		roundTracer.endSpan("executeCardDealSequence", RoundTracer.ENGINE, spanStart);
 	}
 
 	/**
 	 * Draws a card for the dealer. Can be hidden (face-down).
 	 * @param shouldHideCard whether the card should be turned face-down
+	 * @throws IllegalStateException if every card of the shoe is in play
 	 */
 	public void drawCardForDealer(boolean shouldHideCard)
 	{
-		if (centralDeckManager.hasNext())
+		long spanStart = roundTracer.startSpan();
+		PlayingCardRepresentation drawn = drawFromShoe();
+		mainDealer.acquireCardIntoHand(drawn, shouldHideCard);
+		broadcastCardDealt(drawn, shouldHideCard, GameEvent.DEALER_SEAT);
+		roundTracer.endSpan("drawCardForDealer", RoundTracer.ENGINE, spanStart);
+	}
+
+	/**
+	 * Draws a visible card for the hand whose turn it is. During the player's turn the hand is
+	 * checked for bust/21 right away.
+	 */
+	public void drawCardForPlayer()
+	{
+		long spanStart = roundTracer.startSpan();
+		drawCardIntoHand(getPlayer());
+		if (currentGameState == gamePlayerTurnState)
+		{
+			performAutomatedStep();
+		}
+		roundTracer.endSpan("drawCardForPlayer", RoundTracer.ENGINE, spanStart);
+	}
+
+	/**
+	 * Draws a visible card into the given player hand.
+	 * @param hand receiving hand
+	 */
+	private void drawCardIntoHand(PlayerHand hand)
+	{
+		PlayingCardRepresentation drawn = drawFromShoe();
+		hand.acquireCardIntoHand(drawn);
+		broadcastCardDealt(drawn, false, hand.getSeatIndex());
+	}
+
+	/**
+	 * Takes the next card from the shoe. A shoe that runs out in the middle of a round gets every
+	 * discard that is not in play shuffled back in, as a dealer would do at the table.
+	 * @return drawn card
+	 * @throws IllegalStateException if every card of the shoe is in play
+	 */
+	private PlayingCardRepresentation drawFromShoe()
+	{
+		if (!centralDeckManager.hasNext())
 		{
-			PlayingCardRepresentation drawn = centralDeckManager.next();
-			if (shouldHideCard)
+			ArrayList<PlayingCardRepresentation> cardsInPlay = new ArrayList<>(mainDealer.getHandCards());
+			for (PlayerHand hand : playerHands)
+			{
+				cardsInPlay.addAll(hand.getHandCards());
+			}
+			centralDeckManager.reshuffleDiscards(cardsInPlay);
+			metrics.recordReshuffle();
+			broadcastGameLogMessage("Shoe is empty. Reshuffling the discards.");
+			if (!centralDeckManager.hasNext())
 			{
-				drawn.turnCardFaceDown();
+				throw new IllegalStateException("Shoe is empty and every card is in play");
 			}
-			mainDealer.acquireCardIntoHand(drawn);
 		}
+		return centralDeckManager.next();
 	}
 
 	/**
-	 * Draws a visible card for the player.
+	 * Checks whether the active hand may double down under the table rules.
+	 * @return true during the player turn on a two-card hand that may double
 	 */
-	public void drawCardForPlayer()
+	public boolean canDoubleDown()
+	{
+		return currentGameState == gamePlayerTurnState && compiledRules.canDoubleDown(getPlayer());
+	}
+
+	/**
+	 * Doubles the active hand's wager, draws exactly one card and ends the hand's turn.
+	 * @return true if the hand was doubled, false if the rules do not allow it now
+	 */
+	public boolean doubleDownActiveHand()
+	{
+		if (!canDoubleDown())
+		{
+			broadcastGameLogMessage("Double down is not allowed on this hand.");
+			return false;
+		}
+		PlayerHand hand = getPlayer();
+		hand.markDoubled();
+		broadcastGameLogMessage("Player doubles down.");
+		drawCardForPlayer();
+		// A bust or 21 has already ended the turn
+		if (currentGameState == gamePlayerTurnState && getPlayer() == hand)
+		{
+			currentGameState.endPlayerTurn();
+		}
+		return true;
+	}
+
+	/**
+	 * Checks whether the active hand may be split under the table rules.
+	 * @return true during the player turn on a pair while the seat is below its hand limit
+	 */
+	public boolean canSplit()
+	{
+		return currentGameState == gamePlayerTurnState
+				&& compiledRules.canSplit(getPlayer(), seatHandCounts[getActiveSeatIndex()]);
+	}
+
+	/**
+	 * Splits the active pair into two hands and deals a second card to each. The new hand acts
+	 * right after the current one. Split aces get one card each and both turns end at once.
+	 * @return true if the hand was split, false if the rules do not allow it now
+	 */
+	public boolean splitActiveHand()
+	{
+		if (!canSplit())
+		{
+			broadcastGameLogMessage("Split is not allowed on this hand.");
+			return false;
+		}
+		PlayerHand hand = getPlayer();
+		PlayerHand splitHand = new PlayerHand(hand.getSeatIndex());
+		hand.splitInto(splitHand);
+		playerHands.add(activeHandIndex + 1, splitHand);
+		seatHandCounts[hand.getSeatIndex()]++;
+		broadcastGameLogMessage("Player splits.");
+		drawCardIntoHand(hand);
+		drawCardIntoHand(splitHand);
+		if (hand.isSplitAces())
+		{
+			currentGameState.endPlayerTurn();
+			currentGameState.endPlayerTurn();
+		}
+		else
+		{
+			performAutomatedStep();
+		}
+		return true;
+	}
+
+	/**
+	 * Checks whether the active hand may surrender under the table rules.
+	 * @return true during the player turn on an unsplit two-card hand when late surrender is offered
+	 */
+	public boolean canSurrender()
+	{
+		return currentGameState == gamePlayerTurnState && compiledRules.canSurrender(getPlayer());
+	}
+
+	/**
+	 * Gives up the active hand for half its wager and ends its turn.
+	 * @return true if the hand was surrendered, false if the rules do not allow it now
+	 */
+	public boolean surrenderActiveHand()
+	{
+		if (!canSurrender())
+		{
+			broadcastGameLogMessage("Surrender is not allowed on this hand.");
+			return false;
+		}
+		getPlayer().markSurrendered();
+		finishActiveSeatTurn("Player surrenders.");
+		return true;
+	}
+
+	/**
+	 * Under casino rules the dealer checks the hole card right after the deal and a dealer
+	 * blackjack settles the round before anyone acts. Does nothing under the legacy rules.
+	 * @return true if the round was ended by a dealer blackjack
+	 */
+	public boolean peekForDealerBlackjack()
 	{
-		if (centralDeckManager.hasNext())
+		if (!compiledRules.isDealerPeeking() || !mainDealer.hasBlackjackImmediately())
 		{
-			PlayingCardRepresentation drawn = centralDeckManager.next();
-			primaryPlayer.acquireCardIntoHand(drawn);
+			return false;
 		}
+		revealAllDealerCards();
+		broadcastGameLogMessage("Dealer has Blackjack!\n" + determineWinnerAnnouncement());
+		currentGameState.endRound();
+		return true;
 	}
 
 	/**
@@ -296,36 +831,53 @@ public class BlackjackGameEngine extends Observable
 	public void reshuffleDeck()
 	{
 		centralDeckManager.shuffleDeck();
+		metrics.recordReshuffle();
 	}
 
 	/**
-	 * Returns the player's current hand.
+	 * Returns the first seat's current hand.
 	 */
-	public ArrayList<PlayingCardRepresentation> getCardsHeldByPlayer()
+	public List<PlayingCardRepresentation> getCardsHeldByPlayer()
 	{
-		return primaryPlayer.getHandCards();
+		return seatPrimaryHands[0].getHandCards();
 	}
 
 	/**
 	 * Returns the dealer's current hand.
 	 */
-	public ArrayList<PlayingCardRepresentation> getCardsHeldByDealer()
+	public List<PlayingCardRepresentation> getCardsHeldByDealer()
 	{
 		return mainDealer.getHandCards();
 	}
 
 	/**
 	 * Checks if the dealer is done drawing cards.
+	 * The dealer stops at 21, on a bust or when the table's stand rule says so.
 	 * @return true if dealer should stop drawing, false otherwise
 	 */
 	public boolean isDealerTurnFinished()
 	{
-		int dealerTotal = mainDealer.calculateTotalHandValue();
-		int playerTotal = primaryPlayer.calculateTotalHandValue();
-
 		return mainDealer.doesHavePerfectBlackjack()
 				|| mainDealer.isHandBusted()
-				|| (dealerTotal >= 17 && dealerTotal >= playerTotal);
+				|| compiledRules.shouldDealerStand(mainDealer, getBestLivePlayerTotal());
+	}
+
+	/**
+	 * Gets the highest total among the hands of every seat that are neither busted nor surrendered,
+	 * the total the dealer's stand rule compares against.
+	 * @return best live total, or 0 if no hand is live
+	 */
+	public int getBestLivePlayerTotal()
+	{
+		int playerTotal = 0;
+		for (PlayerHand hand : playerHands)
+		{
+			if (hand.isLive())
+			{
+				playerTotal = Math.max(playerTotal, hand.calculateTotalHandValue());
+			}
+		}
+		return playerTotal;
 	}
 
 	/**
@@ -337,7 +889,69 @@ public class BlackjackGameEngine extends Observable
 	}
 
 	/**
-	 * Returns the game statistics tracker (wins/losses/draws).
+	 * Returns the dealer's first face-up card, or null if none is visible yet.
+	 */
+	public PlayingCardRepresentation getDealerUpCard()
+	{
+		List<PlayingCardRepresentation> dealerCards = mainDealer.getHandCards();
+		for (int i = 0; i < dealerCards.size(); i++)
+		{
+			if (!mainDealer.isCardFaceDown(i))
+			{
+				return dealerCards.get(i);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the first seat's outcome of the most recently settled round, or null if none was settled yet.
+	 */
+	public RoundOutcome getLastRoundOutcome()
+	{
+		return lastSeatOutcomes[0];
+	}
+
+	/**
+	 * Returns a seat's outcome of the most recently settled round, or null if none was settled yet.
+	 * @param seatIndex zero-based seat index
+	 */
+	public RoundOutcome getLastRoundOutcome(int seatIndex)
+	{
+		return lastSeatOutcomes[seatIndex];
+	}
+
+	/**
+	 * Returns a seat's net result of the most recently settled round in betting units, summed over
+	 * its hands (e.g. 1.5 for a natural paid 3:2, -2 for a lost double).
+	 * @param seatIndex zero-based seat index
+	 */
+	public double getLastRoundNet(int seatIndex)
+	{
+		return lastSeatNetUnits[seatIndex];
+	}
+
+	/**
+	 * Puts money behind a seat; from the next deal on its wagers are placed and paid every round.
+	 * @param seatIndex zero-based seat index
+	 * @param bankroll bankroll of the seat, or null to play for betting units only
+	 */
+	public void setSeatBankroll(int seatIndex, Bankroll bankroll)
+	{
+		seatBankrolls[seatIndex] = bankroll;
+	}
+
+	/**
+	 * Returns a seat's bankroll, or null if it plays for betting units only.
+	 * @param seatIndex zero-based seat index
+	 */
+	public Bankroll getSeatBankroll(int seatIndex)
+	{
+		return seatBankrolls[seatIndex];
+	}
+
+	/**
+	 * Returns the game statistics tracker (wins/losses/draws) of the whole table.
 	 */
 	public PlayerStatisticsTracker getStatistics()
 	{
@@ -345,39 +959,116 @@ public class BlackjackGameEngine extends Observable
 	}
 
 	/**
-	 * Determines the winner based on hand values and bust conditions.
-	 * Updates statistics accordingly.
+	 * Returns the statistics tracker of a single seat.
+	 * @param seatIndex zero-based seat index
+	 */
+	public PlayerStatisticsTracker getSeatStatistics(int seatIndex)
+	{
+		return seatStatistics[seatIndex];
+	}
+
+	/**
+	 * Takes snapshots of the table and every seat; safe to call from any thread.
+	 * @return table and per-seat counts
+	 */
+	public StatisticsBreakdown getStatisticsBreakdown()
+	{
+		StatisticsSnapshot[] seats = new StatisticsSnapshot[seatStatistics.length];
+		for (int seatIndex = 0; seatIndex < seats.length; seatIndex++)
+		{
+			seats[seatIndex] = seatStatistics[seatIndex].snapshot();
+		}
+		return new StatisticsBreakdown(statsTracker.snapshot(), seats);
+	}
+
+	/**
+	 * Determines the winner of every hand with the table's settlement rules.
+	 * Updates table and seat statistics once per hand; a seat's outcome is the sign of its net result.
+	 * Seats with a bankroll are paid their wager times their net result.
 	 * @return result message for the game log
 	 */
 	public String determineWinnerAnnouncement()
 	{
-		int playerTotal = primaryPlayer.calculateTotalHandValue();
-		int dealerTotal = mainDealer.calculateTotalHandValue();
-
-		if (primaryPlayer.isHandBusted() && !mainDealer.isHandBusted())
+		long spanStart = roundTracer.startSpan();
+		Arrays.fill(lastSeatNetUnits, 0.0);
+		metrics.recordRoundSettled();
+		StringBuilder announcement = new StringBuilder();
+		int handNumber = 0;
+		for (int handIndex = 0; handIndex < playerHands.size(); handIndex++)
 		{
-			statsTracker.recordLoss();
-			return "Dealer wins!\nClick Reset to try again.";
+			PlayerHand hand = playerHands.get(handIndex);
+			int seatIndex = hand.getSeatIndex();
+			handNumber = handIndex > 0 && playerHands.get(handIndex - 1).getSeatIndex() == seatIndex ? handNumber + 1 : 1;
+			if (seatPrimaryHands.length > 1)
+			{
+				announcement.append("Seat ").append(seatIndex + 1);
+			}
+			if (seatHandCounts[seatIndex] > 1)
+			{
+				announcement.append(seatPrimaryHands.length > 1 ? " hand " : "Hand ").append(handNumber);
+			}
+			if (seatPrimaryHands.length > 1 || seatHandCounts[seatIndex] > 1)
+			{
+				announcement.append(": ");
+			}
+			announcement.append(settleHand(hand)).append('\n');
 		}
-		else if (!primaryPlayer.isHandBusted() && mainDealer.isHandBusted())
+
+		for (int seatIndex = 0; seatIndex < seatPrimaryHands.length; seatIndex++)
 		{
-			statsTracker.recordWin();
-			return "Player wins!\nClick Reset to try again.";
+			RoundOutcome outcome = toOutcome(lastSeatNetUnits[seatIndex]);
+			lastSeatOutcomes[seatIndex] = outcome;
+			Bankroll bankroll = seatBankrolls[seatIndex];
+			if (bankroll != null)
+			{
+				bankroll.settleRound(lastSeatNetUnits[seatIndex]);
+				announcement.append(seatPrimaryHands.length > 1 ? "Seat " + (seatIndex + 1) + " bankroll: " : "Bankroll: ")
+						.append(String.format("%.2f", bankroll.getBalance())).append('\n');
+			}
+			if (!headlessMode)
+			{
+				eventBus.publish(GameEventType.ROUND_SETTLED, seatIndex, null, null, outcome);
+			}
 		}
-		else if (playerTotal > dealerTotal)
+		String result = announcement.append("Click Reset to try again.").toString();
+		roundTracer.endSpan("determineWinnerAnnouncement", RoundTracer.ENGINE, spanStart);
+		return result;
+	}
+
+	/**
+	 * Settles one hand against the dealer and adds its result to the seat's net.
+	 * @param hand finished player hand
+	 * @return result line for the game log
+	 */
+	private String settleHand(PlayerHand hand)
+	{
+		double net = compiledRules.settle(hand, mainDealer);
+		lastSeatNetUnits[hand.getSeatIndex()] += net;
+		RoundOutcome outcome = toOutcome(net);
+		seatStatistics[hand.getSeatIndex()].recordRound(net, hand.calculateTotalHandValue(),
+				mainDealer.calculateTotalHandValue(), hand.getNumberOfCardsInHand());
+
+		if (hand.isSurrendered())
 		{
-			statsTracker.recordWin();
-			return "Player wins!\nClick Reset to try again.";
+			return "Player surrenders.";
 		}
-		else if (playerTotal < dealerTotal)
+		switch (outcome)
 		{
-			statsTracker.recordLoss();
-			return "Dealer wins!\nClick Reset to try again.";
+			case PLAYER_WIN:
+				return "Player wins!";
+			case DEALER_WIN:
+				return "Dealer wins!";
+			default:
+				return "It's a tie!";
 		}
-		else
+	}
+
+	private static RoundOutcome toOutcome(double net)
+	{
+		if (net > 0)
 		{
-			statsTracker.recordDraw();
-			return "It's a tie!\nClick Reset to try again.";
+			return RoundOutcome.PLAYER_WIN;
 		}
+		return net < 0 ? RoundOutcome.DEALER_WIN : RoundOutcome.DRAW;
 	}
 }
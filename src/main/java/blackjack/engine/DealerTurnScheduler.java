@@ -0,0 +1,98 @@
+package blackjack.engine;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the dealer's automatic actions once the player's turn has ended.
+ * The engine schedules one step at a time, so nothing runs while a table waits for the player.
+ */
+public interface DealerTurnScheduler
+{
+	/** Pause between dealer actions in the GUI, matching the former game loop pace */
+	long DEFAULT_UI_PACING_MILLIS = 1000;
+
+	/**
+	 * Schedules a single dealer step.
+	 * @param dealerStep step to execute
+	 */
+	void schedule(Runnable dealerStep);
+
+	/**
+	 * Returns a scheduler that runs steps right away on the calling thread (headless play).
+	 * Steps scheduled from inside a running step are queued, so a whole dealer turn runs
+	 * as a flat loop. The returned scheduler must be used by a single engine only.
+	 * @return immediate scheduler
+	 */
+	static DealerTurnScheduler immediate()
+	{
+		return new DealerTurnScheduler()
+		{
+			private final ArrayDeque<Runnable> queuedSteps = new ArrayDeque<>();
+			private boolean running;
+
+			@Override
+			public void schedule(Runnable dealerStep)
+			{
+				queuedSteps.add(dealerStep);
+				if (running)
+				{
+					return;
+				}
+				running = true;
+				try
+				{
+					Runnable step;
+					while ((step = queuedSteps.poll()) != null)
+					{
+						step.run();
+					}
+				}
+				finally
+				{
+					running = false;
+				}
+			}
+		};
+	}
+
+	/**
+	 * Returns a scheduler that runs each step after a fixed delay on the given executor.
+	 * @param executor executor shared by any number of engines
+	 * @param pacingMillis delay before each dealer action
+	 * @return paced scheduler
+	 */
+	static DealerTurnScheduler paced(ScheduledExecutorService executor, long pacingMillis)
+	{
+		return dealerStep -> executor.schedule(dealerStep, pacingMillis, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Returns a paced scheduler on a shared daemon thread, used by GUI engines.
+	 * @param pacingMillis delay before each dealer action
+	 * @return paced scheduler
+	 */
+	static DealerTurnScheduler pacedOnSharedThread(long pacingMillis)
+	{
+		return paced(SharedPacingExecutor.INSTANCE, pacingMillis);
+	}
+
+	/**
+	 * Lazily created daemon executor for paced dealer turns.
+	 */
+	final class SharedPacingExecutor
+	{
+		private static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(task ->
+		{
+			Thread thread = new Thread(task, "blackjack-dealer-pacing");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		private SharedPacingExecutor()
+		{
+		}
+	}
+}
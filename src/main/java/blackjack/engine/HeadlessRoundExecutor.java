@@ -0,0 +1,105 @@
+package blackjack.engine;
+
+import blackjack.state.GameState;
+
+/**
+ * Plays complete rounds synchronously on a headless engine.
+ * Drives the regular GameState transitions without pacing delays or observer notifications.
+ */
+public class HeadlessRoundExecutor
+{
+	private final BlackjackGameEngine gameEngine;
+
+	/**
+	 * Creates an executor for the given engine.
+	 * @param gameEngine engine to drive; must be created in headless mode
+	 */
+	public HeadlessRoundExecutor(BlackjackGameEngine gameEngine)
+	{
+		if (!gameEngine.isHeadless())
+		{
+			throw new IllegalArgumentException("Headless execution requires an engine created in headless mode.");
+		}
+		this.gameEngine = gameEngine;
+	}
+
+	/**
+	 * Returns the engine driven by this executor.
+	 */
+	public BlackjackGameEngine getGameEngine()
+	{
+		return gameEngine;
+	}
+
+	/**
+	 * Plays one full round: reset, deal, decisions of every hand, dealer turn and settlement.
+	 * A double, split or surrender the table rules do not allow right now is played as a hit.
+	 * @param strategy decides the actions of all seats
+	 * @return outcome of the first seat; other seats via {@link BlackjackGameEngine#getLastRoundOutcome(int)}
+	 */
+	public RoundOutcome playRound(PlayerDecisionStrategy strategy)
+	{
+		gameEngine.getCurrentGameState().resetGame();
+		gameEngine.getCurrentGameState().startGame();
+
+		// Hits check for bust/21 and the last Stay runs the whole dealer turn inline (immediate scheduler)
+		while (isCurrentState(gameEngine.getPlayerTurnState()))
+		{
+			// Same as the Deal button: a natural blackjack ends the seat's turn right away
+			if (gameEngine.getPlayer().hasBlackjackImmediately())
+			{
+				gameEngine.getCurrentGameState().endPlayerTurn();
+				continue;
+			}
+
+			PlayerAction action = strategy.decideAction(gameEngine.getPlayer(), gameEngine.getDealerUpCard());
+			switch (action)
+			{
+				case STAY:
+					gameEngine.getCurrentGameState().endPlayerTurn();
+					break;
+				case DOUBLE:
+					if (!gameEngine.doubleDownActiveHand())
+					{
+						gameEngine.drawCardForPlayer();
+					}
+					break;
+				case SPLIT:
+					if (!gameEngine.splitActiveHand())
+					{
+						gameEngine.drawCardForPlayer();
+					}
+					break;
+				case SURRENDER:
+					if (!gameEngine.surrenderActiveHand())
+					{
+						gameEngine.drawCardForPlayer();
+					}
+					break;
+				default:
+					gameEngine.drawCardForPlayer();
+					break;
+			}
+		}
+
+		return gameEngine.getLastRoundOutcome();
+	}
+
+	/**
+	 * Plays the given number of rounds with the same strategy.
+	 * @param roundCount number of rounds to play
+	 * @param strategy decides the player's actions
+	 */
+	public void playRounds(long roundCount, PlayerDecisionStrategy strategy)
+	{
+		for (long i = 0; i < roundCount; i++)
+		{
+			playRound(strategy);
+		}
+	}
+
+	private boolean isCurrentState(GameState state)
+	{
+		return gameEngine.getCurrentGameState() == state;
+	}
+}
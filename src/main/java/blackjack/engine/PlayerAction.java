@@ -0,0 +1,14 @@
+package blackjack.engine;
+
+/**
+ * Decision a player can take during their turn. Whether DOUBLE, SPLIT and SURRENDER are available
+ * depends on the table rules. Recorded sessions store the ordinal, so new actions go at the end.
+ */
+public enum PlayerAction
+{
+	HIT,
+	STAY,
+	DOUBLE,
+	SPLIT,
+	SURRENDER
+}
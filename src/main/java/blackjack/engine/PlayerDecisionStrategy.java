@@ -0,0 +1,29 @@
+package blackjack.engine;
+
+import blackjack.model.PlayingCardRepresentation;
+import blackjack.util.BlackjackParticipant;
+
+/**
+ * Decides the player's next action when rounds are played without a human (headless mode).
+ */
+public interface PlayerDecisionStrategy
+{
+	/**
+	 * Chooses the next action for the player.
+	 * @param player the player whose turn it is
+	 * @param dealerUpCard the dealer's visible card
+	 * @return action to perform
+	 */
+	PlayerAction decideAction(BlackjackParticipant player, PlayingCardRepresentation dealerUpCard);
+
+	/**
+	 * Returns a strategy that hits until the hand total reaches the given threshold.
+	 * @param threshold total at which the player stays
+	 * @return threshold strategy
+	 */
+	static PlayerDecisionStrategy stayOnOrAbove(int threshold)
+	{
+		return (player, dealerUpCard) ->
+				player.calculateTotalHandValue() >= threshold ? PlayerAction.STAY : PlayerAction.HIT;
+	}
+}
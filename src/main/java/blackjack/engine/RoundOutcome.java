@@ -0,0 +1,11 @@
+package blackjack.engine;
+
+/**
+ * Result of a settled round from the player's point of view.
+ */
+public enum RoundOutcome
+{
+	PLAYER_WIN,
+	DEALER_WIN,
+	DRAW
+}
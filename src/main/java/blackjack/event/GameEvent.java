@@ -0,0 +1,97 @@
+package blackjack.event;
+
+import blackjack.engine.RoundOutcome;
+import blackjack.model.PlayingCardRepresentation;
+
+/**
+ * Immutable event published through the {@link GameEventBus}.
+ * Optional fields are null when they do not apply to the event type.
+ */
+public final class GameEvent
+{
+	/** Seat index of events that concern the dealer */
+	public static final int DEALER_SEAT = -1;
+	/** Seat index of events that concern the whole table */
+	public static final int NO_SEAT = -2;
+
+	private final long sequence;
+	private final GameEventType type;
+	private final int seatIndex;
+	private final String message;
+	private final PlayingCardRepresentation card;
+	private final RoundOutcome outcome;
+
+	GameEvent(long sequence, GameEventType type, int seatIndex, String message, PlayingCardRepresentation card,
+			RoundOutcome outcome)
+	{
+		this.sequence = sequence;
+		this.type = type;
+		this.seatIndex = seatIndex;
+		this.message = message;
+		this.card = card;
+		this.outcome = outcome;
+	}
+
+	/**
+	 * Position of the event in the bus; consecutive events have consecutive sequences.
+	 */
+	public long getSequence()
+	{
+		return sequence;
+	}
+
+	public GameEventType getType()
+	{
+		return type;
+	}
+
+	/**
+	 * Log text for LOG_MESSAGE events.
+	 */
+	public String getMessage()
+	{
+		return message;
+	}
+
+	/**
+	 * Dealt card for CARD_DEALT events; null when the card was dealt face-down.
+	 */
+	public PlayingCardRepresentation getCard()
+	{
+		return card;
+	}
+
+	/**
+	 * Seat the event concerns: a zero-based seat index, DEALER_SEAT or NO_SEAT.
+	 */
+	public int getSeatIndex()
+	{
+		return seatIndex;
+	}
+
+	/**
+	 * True if a CARD_DEALT event went to the dealer.
+	 */
+	public boolean isDealerCard()
+	{
+		return type == GameEventType.CARD_DEALT && seatIndex == DEALER_SEAT;
+	}
+
+	/**
+	 * Outcome for ROUND_SETTLED events.
+	 */
+	public RoundOutcome getOutcome()
+	{
+		return outcome;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "#" + sequence + " " + type
+				+ (seatIndex >= 0 ? " seat " + seatIndex : "")
+				+ (message != null ? " " + message : "")
+				+ (card != null ? " " + card.getCardSymbolCode() : "")
+				+ (outcome != null ? " " + outcome : "");
+	}
+}
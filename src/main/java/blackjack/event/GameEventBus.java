@@ -0,0 +1,161 @@
+package blackjack.event;
+
+import blackjack.engine.RoundOutcome;
+import blackjack.model.PlayingCardRepresentation;
+import blackjack.tracing.RoundTracer;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Ring buffer that delivers typed engine events to any number of subscribers.
+ * Publishers only write into the ring and flag subscribers; each subscriber drains
+ * all available events as one batch on its own executor, so slow consumers never block the engine.
+ * A subscriber that falls more than a full ring behind skips the overwritten events and counts them as dropped.
+ * Any number of threads may publish concurrently: each claims its sequence atomically and the
+ * published cursor advances in sequence order, so subscribers never see a gap.
+ */
+public class GameEventBus
+{
+	private static final int DEFAULT_CAPACITY = 1024;
+
+	private final AtomicReferenceArray<GameEvent> ring;
+	private final int capacity;
+	private final int indexMask;
+	private final AtomicLong claimedSequence = new AtomicLong(-1);
+	private volatile long publishedSequence = -1;
+	private final CopyOnWriteArrayList<GameEventSubscription> subscriptions = new CopyOnWriteArrayList<>();
+	private volatile RoundTracer roundTracer = RoundTracer.disabled();
+
+	/**
+	 * Creates a bus with the default ring capacity.
+	 */
+	public GameEventBus()
+	{
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates a bus with a custom ring capacity.
+	 * @param capacity number of events kept for lagging subscribers; must be a power of two
+	 */
+	public GameEventBus(int capacity)
+	{
+		if (capacity <= 0 || Integer.bitCount(capacity) != 1)
+		{
+			throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+		}
+		this.capacity = capacity;
+		this.indexMask = capacity - 1;
+		this.ring = new AtomicReferenceArray<>(capacity);
+	}
+
+	/**
+	 * Subscribes a listener that is called on the common fork-join pool.
+	 * @param listener receiver of event batches
+	 * @return subscription, close it to stop delivery
+	 */
+	public GameEventSubscription subscribe(GameEventListener listener)
+	{
+		return subscribe(listener, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Subscribes a listener that is called on the given executor (e.g. the Swing event thread).
+	 * @param listener receiver of event batches
+	 * @param deliveryExecutor executor running the listener
+	 * @return subscription, close it to stop delivery
+	 */
+	public GameEventSubscription subscribe(GameEventListener listener, Executor deliveryExecutor)
+	{
+		GameEventSubscription subscription = new GameEventSubscription(this, listener, deliveryExecutor, publishedSequence + 1);
+		subscriptions.add(subscription);
+		return subscription;
+	}
+
+	/**
+	 * Returns true if at least one listener is subscribed.
+	 */
+	public boolean hasSubscribers()
+	{
+		return !subscriptions.isEmpty();
+	}
+
+	/**
+	 * Publishes an event without optional fields.
+	 * @param type event type
+	 */
+	public void publish(GameEventType type)
+	{
+		publish(type, GameEvent.NO_SEAT, null, null, null);
+	}
+
+	/**
+	 * Publishes an event. Nothing is allocated when there are no subscribers.
+	 * @param type event type
+	 * @param seatIndex seat the event concerns, GameEvent.DEALER_SEAT or GameEvent.NO_SEAT
+	 * @param message log text, or null
+	 * @param card dealt card, or null
+	 * @param outcome settled outcome, or null
+	 */
+	public void publish(GameEventType type, int seatIndex, String message, PlayingCardRepresentation card, RoundOutcome outcome)
+	{
+		if (subscriptions.isEmpty())
+		{
+			return;
+		}
+		long sequence = claimedSequence.incrementAndGet();
+		ring.lazySet((int) sequence & indexMask, new GameEvent(sequence, type, seatIndex, message, card, outcome));
+		// Earlier claims are still being written; wait for them so the cursor only ever covers filled slots
+		while (publishedSequence != sequence - 1)
+		{
+			Thread.onSpinWait();
+		}
+		publishedSequence = sequence;
+
+		for (GameEventSubscription subscription : subscriptions)
+		{
+			subscription.signal();
+		}
+	}
+
+	/**
+	 * Sets the tracer that records deliveries of traced rounds' events to subscribers.
+	 * @param roundTracer tracer of the engine publishing on this bus
+	 */
+	public void setRoundTracer(RoundTracer roundTracer)
+	{
+		this.roundTracer = roundTracer;
+	}
+
+	RoundTracer getRoundTracer()
+	{
+		return roundTracer;
+	}
+
+	/**
+	 * Returns the sequence number of the most recently published event, or -1 before the first.
+	 */
+	public long getPublishedSequence()
+	{
+		return publishedSequence;
+	}
+
+	void unsubscribe(GameEventSubscription subscription)
+	{
+		subscriptions.remove(subscription);
+	}
+
+	int getCapacity()
+	{
+		return capacity;
+	}
+
+	GameEvent eventAt(long sequence)
+	{
+		return ring.get((int) sequence & indexMask);
+	}
+}
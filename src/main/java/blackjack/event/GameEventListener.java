@@ -0,0 +1,16 @@
+package blackjack.event;
+
+import java.util.List;
+
+/**
+ * Receives engine events in batches.
+ */
+public interface GameEventListener
+{
+	/**
+	 * Called with all events that became available since the previous call, in publish order.
+	 * The list is reused for the next batch and must not be kept.
+	 * @param events batch of events
+	 */
+	void onGameEvents(List<GameEvent> events);
+}
@@ -0,0 +1,112 @@
+package blackjack.event;
+
+import blackjack.metrics.EngineMetrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A listener's position in the {@link GameEventBus} ring.
+ * At most one drain task per subscription is queued at any time; it delivers everything
+ * published so far as a single batch. The listener's handling time is recorded as observer
+ * notification time in the {@link EngineMetrics} and, for traced rounds, as a trace span.
+ */
+public class GameEventSubscription implements AutoCloseable
+{
+	private final GameEventBus eventBus;
+	private final GameEventListener listener;
+	private final Executor deliveryExecutor;
+	private final AtomicBoolean drainScheduled = new AtomicBoolean();
+	private final ArrayList<GameEvent> batch = new ArrayList<>();
+	private final List<GameEvent> batchView = Collections.unmodifiableList(batch);
+
+	// Only touched by the drain task, which never runs concurrently with itself
+	private long nextSequence;
+	private volatile long droppedEventCount;
+	private volatile boolean closed;
+
+	GameEventSubscription(GameEventBus eventBus, GameEventListener listener, Executor deliveryExecutor, long firstSequence)
+	{
+		this.eventBus = eventBus;
+		this.listener = listener;
+		this.deliveryExecutor = deliveryExecutor;
+		this.nextSequence = firstSequence;
+	}
+
+	/**
+	 * Number of events this subscriber missed because it fell a full ring behind.
+	 */
+	public long getDroppedEventCount()
+	{
+		return droppedEventCount;
+	}
+
+	/**
+	 * Stops delivery to the listener.
+	 */
+	@Override
+	public void close()
+	{
+		closed = true;
+		eventBus.unsubscribe(this);
+	}
+
+	/**
+	 * Called by the publisher; queues a drain task unless one is already pending.
+	 */
+	void signal()
+	{
+		if (!drainScheduled.get() && drainScheduled.compareAndSet(false, true))
+		{
+			deliveryExecutor.execute(this::drain);
+		}
+	}
+
+	private void drain()
+	{
+		do
+		{
+			collectAvailableEvents();
+			if (!batch.isEmpty() && !closed)
+			{
+				long startNanos = System.nanoTime();
+				listener.onGameEvents(batchView);
+				EngineMetrics.getInstance().recordObserverNotification(System.nanoTime() - startNanos);
+				eventBus.getRoundTracer().recordDelivery(batch.get(0).getSequence(), batch.get(batch.size() - 1).getSequence(),
+						listener.getClass().getSimpleName(), startNanos);
+			}
+			batch.clear();
+			drainScheduled.set(false);
+		}
+		while (eventBus.getPublishedSequence() >= nextSequence && drainScheduled.compareAndSet(false, true));
+	}
+
+	private void collectAvailableEvents()
+	{
+		long available = eventBus.getPublishedSequence();
+		long oldestKept = available - eventBus.getCapacity() + 1;
+		if (nextSequence < oldestKept)
+		{
+			droppedEventCount += oldestKept - nextSequence;
+			nextSequence = oldestKept;
+		}
+
+		while (nextSequence <= available)
+		{
+			GameEvent event = eventBus.eventAt(nextSequence);
+			if (event == null || event.getSequence() != nextSequence)
+			{
+				// Overwritten by the producer while we were reading
+				droppedEventCount++;
+			}
+			else
+			{
+				batch.add(event);
+			}
+			nextSequence++;
+		}
+	}
+}
@@ -0,0 +1,24 @@
+package blackjack.event;
+
+/**
+ * Kinds of events published by the game engine.
+ */
+public enum GameEventType
+{
+	/** Cards are about to be dealt for a new round */
+	ROUND_STARTED,
+	/** A card was dealt to the player or the dealer */
+	CARD_DEALT,
+	/** The player's hand went over 21 */
+	PLAYER_BUSTED,
+	/** The dealer's hand went over 21 */
+	DEALER_BUSTED,
+	/** The round was settled; the event carries the outcome */
+	ROUND_SETTLED,
+	/** Free-form message for the game log */
+	LOG_MESSAGE,
+	/** The game log should be cleared */
+	LOG_RESET,
+	/** Table contents changed and should be redrawn */
+	TABLE_UPDATED
+}
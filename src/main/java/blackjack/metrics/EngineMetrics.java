@@ -0,0 +1,228 @@
+package blackjack.metrics;
+
+import blackjack.logging.GameLogger;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Process-wide throughput and latency metrics of all engines, exposed over JMX.
+ * Every counter and histogram is allocated up front and updated without locks, so recording can
+ * stay on permanently: counting a round is a striped-adder increment and timing an action costs
+ * two System.nanoTime() calls plus a histogram update. Round and reshuffle counts include headless
+ * engines; latencies are only taken by interactive engines and the UI, which keeps timing calls
+ * out of simulations.
+ * The instance registers itself in the platform MBean server when first used.
+ */
+public final class EngineMetrics implements EngineMetricsMXBean
+{
+	/** Name under which the metrics are registered */
+	public static final String OBJECT_NAME = "blackjack:type=EngineMetrics";
+
+	private final RateMeter roundsStarted = new RateMeter();
+	private final RateMeter roundsSettled = new RateMeter();
+	private final RateMeter deckReshuffles = new RateMeter();
+	private final LatencyHistogram[] actionLatencies = new LatencyHistogram[TimedAction.values().length];
+	private final LatencyHistogram gameLoopIterations = new LatencyHistogram();
+	private final LatencyHistogram observerNotifications = new LatencyHistogram();
+
+	private EngineMetrics()
+	{
+		for (int i = 0; i < actionLatencies.length; i++)
+		{
+			actionLatencies[i] = new LatencyHistogram();
+		}
+	}
+
+	private static final class Holder
+	{
+		private static final EngineMetrics INSTANCE = register(new EngineMetrics());
+	}
+
+	private static EngineMetrics register(EngineMetrics metrics)
+	{
+		try
+		{
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName name = new ObjectName(OBJECT_NAME);
+			if (!server.isRegistered(name))
+			{
+				server.registerMBean(metrics, name);
+			}
+		}
+		catch (JMException | SecurityException e)
+		{
+			GameLogger.logEvent("Engine metrics are not available over JMX: " + e.getMessage());
+		}
+		return metrics;
+	}
+
+	/**
+	 * Returns the metrics shared by every engine in this process.
+	 */
+	public static EngineMetrics getInstance()
+	{
+		return Holder.INSTANCE;
+	}
+
+	/**
+	 * Counts a round whose cards are being dealt.
+	 */
+	public void recordRoundStarted()
+	{
+		roundsStarted.mark();
+	}
+
+	/**
+	 * Counts a settled round.
+	 */
+	public void recordRoundSettled()
+	{
+		roundsSettled.mark();
+	}
+
+	/**
+	 * Counts a reshuffle of a shoe.
+	 */
+	public void recordReshuffle()
+	{
+		deckReshuffles.mark();
+	}
+
+	/**
+	 * Records how long handling a player action took.
+	 * @param action handled action
+	 * @param nanos handling time in nanoseconds
+	 */
+	public void recordAction(TimedAction action, long nanos)
+	{
+		actionLatencies[action.ordinal()].record(nanos);
+	}
+
+	/**
+	 * Records the duration of one dealer loop iteration.
+	 * @param nanos iteration time in nanoseconds
+	 */
+	public void recordGameLoopIteration(long nanos)
+	{
+		gameLoopIterations.record(nanos);
+	}
+
+	/**
+	 * Records how long a subscriber took to handle a batch of events.
+	 * @param nanos notification time in nanoseconds
+	 */
+	public void recordObserverNotification(long nanos)
+	{
+		observerNotifications.record(nanos);
+	}
+
+	/**
+	 * Returns the latency histogram of one action.
+	 * @param action timed action
+	 */
+	public LatencySnapshot getActionLatency(TimedAction action)
+	{
+		return actionLatencies[action.ordinal()].snapshot();
+	}
+
+	@Override
+	public long getRoundsStarted()
+	{
+		return roundsStarted.getTotal();
+	}
+
+	@Override
+	public long getRoundsSettled()
+	{
+		return roundsSettled.getTotal();
+	}
+
+	@Override
+	public double getRoundsStartedPerSecond()
+	{
+		return roundsStarted.getRatePerSecond();
+	}
+
+	@Override
+	public double getRoundsSettledPerSecond()
+	{
+		return roundsSettled.getRatePerSecond();
+	}
+
+	@Override
+	public long getDeckReshuffles()
+	{
+		return deckReshuffles.getTotal();
+	}
+
+	@Override
+	public LatencySnapshot getDealLatency()
+	{
+		return getActionLatency(TimedAction.DEAL);
+	}
+
+	@Override
+	public LatencySnapshot getHitLatency()
+	{
+		return getActionLatency(TimedAction.HIT);
+	}
+
+	@Override
+	public LatencySnapshot getStayLatency()
+	{
+		return getActionLatency(TimedAction.STAY);
+	}
+
+	@Override
+	public LatencySnapshot getDoubleLatency()
+	{
+		return getActionLatency(TimedAction.DOUBLE);
+	}
+
+	@Override
+	public LatencySnapshot getSplitLatency()
+	{
+		return getActionLatency(TimedAction.SPLIT);
+	}
+
+	@Override
+	public LatencySnapshot getSurrenderLatency()
+	{
+		return getActionLatency(TimedAction.SURRENDER);
+	}
+
+	@Override
+	public LatencySnapshot getResetLatency()
+	{
+		return getActionLatency(TimedAction.RESET);
+	}
+
+	@Override
+	public LatencySnapshot getGameLoopIterationLatency()
+	{
+		return gameLoopIterations.snapshot();
+	}
+
+	@Override
+	public LatencySnapshot getObserverNotificationLatency()
+	{
+		return observerNotifications.snapshot();
+	}
+
+	@Override
+	public void reset()
+	{
+		roundsStarted.reset();
+		roundsSettled.reset();
+		deckReshuffles.reset();
+		for (LatencyHistogram histogram : actionLatencies)
+		{
+			histogram.reset();
+		}
+		gameLoopIterations.reset();
+		observerNotifications.reset();
+	}
+}
@@ -0,0 +1,47 @@
+package blackjack.metrics;
+
+/**
+ * Management interface of the engine metrics, registered as {@value EngineMetrics#OBJECT_NAME}.
+ * Latencies are composite attributes with count, mean, p50, p90, p99 and maximum in microseconds.
+ */
+public interface EngineMetricsMXBean
+{
+	long getRoundsStarted();
+
+	long getRoundsSettled();
+
+	double getRoundsStartedPerSecond();
+
+	double getRoundsSettledPerSecond();
+
+	long getDeckReshuffles();
+
+	LatencySnapshot getDealLatency();
+
+	LatencySnapshot getHitLatency();
+
+	LatencySnapshot getStayLatency();
+
+	LatencySnapshot getDoubleLatency();
+
+	LatencySnapshot getSplitLatency();
+
+	LatencySnapshot getSurrenderLatency();
+
+	LatencySnapshot getResetLatency();
+
+	/**
+	 * Time of one iteration of the dealer loop: a dealer step and the repaint request after it.
+	 */
+	LatencySnapshot getGameLoopIterationLatency();
+
+	/**
+	 * Time subscribers spend handling one batch of game events.
+	 */
+	LatencySnapshot getObserverNotificationLatency();
+
+	/**
+	 * Sets every counter and histogram back to zero.
+	 */
+	void reset();
+}
@@ -0,0 +1,133 @@
+package blackjack.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of durations in nanoseconds with a fixed, preallocated set of buckets.
+ * Buckets are log-linear: every power of two is split into four, so a reported percentile is at
+ * most 25% above the true value, from single nanoseconds up to centuries. Recording touches one
+ * bucket, two striped adders and, rarely, the maximum; it never allocates or blocks.
+ * Snapshots taken while other threads record may be off by the few values in flight.
+ */
+public final class LatencyHistogram
+{
+	private static final int SUB_BUCKET_BITS = 2;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder totalNanos = new LongAdder();
+	private final AtomicLong maximumNanos = new AtomicLong();
+
+	/**
+	 * Records one duration; negative values count as zero.
+	 * @param nanos duration in nanoseconds
+	 */
+	public void record(long nanos)
+	{
+		long value = Math.max(0, nanos);
+		buckets.incrementAndGet(bucketIndex(value));
+		count.increment();
+		totalNanos.add(value);
+		long maximum = maximumNanos.get();
+		while (value > maximum && !maximumNanos.compareAndSet(maximum, value))
+		{
+			maximum = maximumNanos.get();
+		}
+	}
+
+	/**
+	 * Forgets all recorded durations.
+	 */
+	public void reset()
+	{
+		for (int i = 0; i < BUCKET_COUNT; i++)
+		{
+			buckets.set(i, 0);
+		}
+		count.reset();
+		totalNanos.reset();
+		maximumNanos.set(0);
+	}
+
+	/**
+	 * Reads the histogram once.
+	 * @return count, mean, percentiles and maximum in microseconds
+	 */
+	public LatencySnapshot snapshot()
+	{
+		long[] counts = new long[BUCKET_COUNT];
+		long total = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++)
+		{
+			counts[i] = buckets.get(i);
+			total += counts[i];
+		}
+		long maximum = maximumNanos.get();
+		return new LatencySnapshot(total,
+				total == 0 ? 0.0 : totalNanos.sum() / 1000.0 / total,
+				percentileMicros(counts, total, 50, maximum),
+				percentileMicros(counts, total, 90, maximum),
+				percentileMicros(counts, total, 99, maximum),
+				maximum / 1000.0);
+	}
+
+	public long getCount()
+	{
+		return count.sum();
+	}
+
+	/**
+	 * Returns the upper bound of the bucket holding the given percentile, capped at the maximum.
+	 */
+	private static double percentileMicros(long[] counts, long total, double percentile, long maximum)
+	{
+		if (total == 0)
+		{
+			return 0.0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+		long seen = 0;
+		for (int i = 0; i < counts.length; i++)
+		{
+			seen += counts[i];
+			if (seen >= rank)
+			{
+				return Math.min(bucketUpperBound(i), maximum) / 1000.0;
+			}
+		}
+		return maximum / 1000.0;
+	}
+
+	/**
+	 * Maps a duration to its bucket: values below four have a bucket each, larger values share a
+	 * bucket with those having the same highest bit and the same two bits below it.
+	 */
+	static int bucketIndex(long nanos)
+	{
+		if (nanos < SUB_BUCKET_COUNT)
+		{
+			return (int) nanos;
+		}
+		int highestBit = Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos);
+		int subBucket = (int) (nanos >>> (highestBit - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+		return (highestBit - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+	}
+
+	/**
+	 * Returns the largest duration mapped to the given bucket.
+	 */
+	static long bucketUpperBound(int index)
+	{
+		if (index < SUB_BUCKET_COUNT)
+		{
+			return index;
+		}
+		int shift = index / SUB_BUCKET_COUNT - 1;
+		long lowerBound = (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+		return lowerBound + (1L << shift) - 1;
+	}
+}
@@ -0,0 +1,61 @@
+package blackjack.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts events and reports their rate. Marking an event is a single striped-adder increment;
+ * the rate is worked out on read, over the time since the previous reading that is at least a
+ * second old, so a JMX console polling every few seconds sees the rate of its polling interval.
+ */
+public final class RateMeter
+{
+	private static final long MINIMUM_WINDOW_NANOS = 1_000_000_000L;
+
+	private final LongAdder total = new LongAdder();
+
+	// Read side only, guarded by this meter's monitor
+	private long windowStartNanos = System.nanoTime();
+	private long windowStartTotal;
+	private double lastRate;
+
+	/**
+	 * Counts one event.
+	 */
+	public void mark()
+	{
+		total.increment();
+	}
+
+	public long getTotal()
+	{
+		return total.sum();
+	}
+
+	/**
+	 * Returns events per second over the latest window of at least one second.
+	 */
+	public synchronized double getRatePerSecond()
+	{
+		long now = System.nanoTime();
+		long elapsed = now - windowStartNanos;
+		if (elapsed >= MINIMUM_WINDOW_NANOS)
+		{
+			long current = total.sum();
+			lastRate = (current - windowStartTotal) * 1e9 / elapsed;
+			windowStartNanos = now;
+			windowStartTotal = current;
+		}
+		return lastRate;
+	}
+
+	/**
+	 * Sets the count back to zero and starts a new rate window.
+	 */
+	public synchronized void reset()
+	{
+		total.reset();
+		windowStartNanos = System.nanoTime();
+		windowStartTotal = 0;
+		lastRate = 0.0;
+	}
+}
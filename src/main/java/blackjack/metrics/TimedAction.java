@@ -0,0 +1,15 @@
+package blackjack.metrics;
+
+/**
+ * Player actions whose handling time is measured, one per button of the action panel.
+ */
+public enum TimedAction
+{
+	DEAL,
+	HIT,
+	STAY,
+	DOUBLE,
+	SPLIT,
+	SURRENDER,
+	RESET
+}
@@ -0,0 +1,12 @@
+package blackjack.model;
+
+/**
+ * How a shoe gets its cards back between rounds.
+ */
+public enum DeckShuffleMode
+{
+	/** Cards stay out until the cut card is reached, then the whole shoe is reshuffled */
+	CUT_CARD,
+	/** Used cards go straight back into the shoe at random positions after every round */
+	CONTINUOUS
+}
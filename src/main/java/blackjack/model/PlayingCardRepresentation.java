@@ -2,20 +2,110 @@ package blackjack.model;
 
 /**
  * Represents a playing card used in the Blackjack game.
- * Each card has a code (like "AH", "2D") and can be face-down or face-up.
+ * Each card has a code (like "AH", "2D"). Cards are immutable flyweights: there are exactly
+ * 52 instances, shared by every deck, hand, engine and thread. Whether a card lies face-down
+ * is a property of the hand holding it, not of the card.
  */
-public class PlayingCardRepresentation
+public final class PlayingCardRepresentation
 {
-	private String cardSymbolCode;
-	private boolean isCardFaceDown;
+	/** Number of distinct cards in a standard deck */
+	public static final int CARD_COUNT = 52;
+
+	/** Image shown for any face-down card */
+	public static final String CARD_BACK_IMAGE_PATH = "assets/img/CardBack.png";
+
+	private static final String BASE_IMAGE_DIRECTORY = "assets/img/";
+
+	private static final String[] STANDARD_CARD_SYMBOLS =
+			{
+			"AC", "AD", "AH", "AS", "2C", "2D", "2H", "2S",
+			"3C", "3D", "3H", "3S", "4C", "4D", "4H", "4S",
+			"5C", "5D", "5H", "5S", "6C", "6D", "6H", "6S",
+			"7C", "7D", "7H", "7S", "8C", "8D", "8H", "8S",
+			"9C", "9D", "9H", "9S", "0C", "0D", "0H", "0S",
+			"JC", "JD", "JH", "JS", "QC", "QD", "QH", "QS",
+			"KC", "KD", "KH", "KS"
+		};
+
+	private static final PlayingCardRepresentation[] CANONICAL_CARDS = new PlayingCardRepresentation[CARD_COUNT];
+
+	static
+	{
+		for (int i = 0; i < CARD_COUNT; i++)
+		{
+			CANONICAL_CARDS[i] = new PlayingCardRepresentation(i, STANDARD_CARD_SYMBOLS[i]);
+		}
+	}
+
+	private final int cardIndex;
+	private final String cardSymbolCode;
+	private final char rankSymbol;
+	private final char suitSymbol;
+	private final int blackjackValue;
+	private final String cardImagePath;
 
 	/**
-	 * Constructs a new card with a given code.
+	 * Constructs one of the canonical cards.
+	 * @param cardIndex position in the standard order (0-51)
 	 * @param cardSymbolCode the symbol of the card (e.g. "AS" for Ace of Spades)
 	 */
-	public PlayingCardRepresentation(String cardSymbolCode)
+	private PlayingCardRepresentation(int cardIndex, String cardSymbolCode)
 	{
+		this.cardIndex = cardIndex;
 		this.cardSymbolCode = cardSymbolCode;
+		this.rankSymbol = cardSymbolCode.charAt(0);
+		this.suitSymbol = cardSymbolCode.charAt(1);
+		this.blackjackValue = computeBlackjackValue(rankSymbol);
+		this.cardImagePath = BASE_IMAGE_DIRECTORY + cardSymbolCode + ".png";
+	}
+
+	private static int computeBlackjackValue(char rankSymbol)
+	{
+		if (rankSymbol == 'A')
+		{
+			return 1;
+		}
+		if (rankSymbol >= '2' && rankSymbol <= '9')
+		{
+			return rankSymbol - '0';
+		}
+		return 10;
+	}
+
+	/**
+	 * Returns the canonical card at the given position of the standard order.
+	 * @param cardIndex index between 0 and 51
+	 * @return shared card instance
+	 */
+	public static PlayingCardRepresentation fromIndex(int cardIndex)
+	{
+		return CANONICAL_CARDS[cardIndex];
+	}
+
+	/**
+	 * Returns the canonical card with the given symbol code.
+	 * @param cardSymbolCode the symbol of the card (e.g. "AS" for Ace of Spades)
+	 * @return shared card instance
+	 */
+	public static PlayingCardRepresentation valueOf(String cardSymbolCode)
+	{
+		for (PlayingCardRepresentation card : CANONICAL_CARDS)
+		{
+			if (card.cardSymbolCode.equals(cardSymbolCode))
+			{
+				return card;
+			}
+		}
+		throw new IllegalArgumentException("Unknown card symbol: " + cardSymbolCode);
+	}
+
+	/**
+	 * Gets the position of this card in the standard order (0-51).
+	 * @return card index
+	 */
+	public int getCardIndex()
+	{
+		return cardIndex;
 	}
 
 	/**
@@ -28,47 +118,66 @@ public class PlayingCardRepresentation
 	}
 
 	/**
-	 * Gets the file path to the card image, depending on whether it's face-down or face-up.
-	 * @return path to card image
+	 * Gets the rank character ('A', '2'-'9', '0' for ten, 'J', 'Q', 'K').
+	 * @return rank symbol
 	 */
-	public String retrieveCardImagePath()
+	public char getRankSymbol()
 	{
-		String baseImageDirectory = "assets/img/";
-		return isCardFaceDown ? baseImageDirectory + "CardBack.png" : baseImageDirectory + cardSymbolCode + ".png";
+		return rankSymbol;
 	}
 
 	/**
-	 * Checks if the card is face-down.
-	 * @return true if face-down, false if face-up
+	 * Gets the suit character ('C', 'D', 'H', 'S').
+	 * @return suit symbol
 	 */
-	public boolean isCardCurrentlyFaceDown()
+	public char getSuitSymbol()
 	{
-		return isCardFaceDown;
+		return suitSymbol;
 	}
 
 	/**
-	 * Flips the card to face-down position.
+	 * Gets the blackjack value of the card, counting an ace as 1.
+	 * @return value between 1 and 10
 	 */
-	public void turnCardFaceDown()
+	public int getBlackjackValue()
 	{
-		isCardFaceDown = true;
+		return blackjackValue;
 	}
 
 	/**
-	 * Flips the card to face-up position.
+	 * Gets the rank slot used for shoe composition: 0 for aces, 1-8 for two to nine, 9 for tens and faces.
+	 * @return slot between 0 and 9
 	 */
-	public void turnCardFaceUp()
+	public int getRankSlot()
 	{
-		isCardFaceDown = false;
+		return blackjackValue - 1;
+	}
+
+	/**
+	 * Checks if the card is an ace.
+	 * @return true for aces
+	 */
+	public boolean isAce()
+	{
+		return blackjackValue == 1;
+	}
+
+	/**
+	 * Gets the file path to the face-up card image.
+	 * @return path to card image
+	 */
+	public String retrieveCardImagePath()
+	{
+		return cardImagePath;
 	}
 
 	/**
 	 * Returns a string representation of the card.
-	 * @return string with code and face-down state
+	 * @return the symbol code
 	 */
 	@Override
 	public String toString()
 	{
-		return cardSymbolCode + " [Face down: " + isCardFaceDown + "]";
+		return cardSymbolCode;
 	}
 }
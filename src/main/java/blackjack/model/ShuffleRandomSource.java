@@ -0,0 +1,81 @@
+package blackjack.model;
+
+import java.security.SecureRandom;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * Source of random numbers used by a deck to shuffle.
+ * Each deck owns its source, so no generator is shared between engines or threads.
+ */
+public interface ShuffleRandomSource
+{
+	/**
+	 * Returns a uniformly distributed value in [0, bound).
+	 * @param bound exclusive upper bound, must be positive
+	 * @return random index
+	 */
+	int nextInt(int bound);
+
+	/**
+	 * Wraps a java.util.Random; shuffles match Collections.shuffle with the same generator.
+	 * @param random generator to draw from
+	 * @return random source
+	 */
+	static ShuffleRandomSource fromRandom(Random random)
+	{
+		return random::nextInt;
+	}
+
+	/**
+	 * Returns a fast generator whose whole state is one seed value, so shuffles can be reproduced.
+	 * @param seed initial seed
+	 * @return seeded random source
+	 */
+	static SplitMix64RandomSource seeded(long seed)
+	{
+		return new SplitMix64RandomSource(seed);
+	}
+
+	/**
+	 * Returns a fast xoshiro256** generator for long simulations.
+	 * @param seed initial seed
+	 * @return seeded random source
+	 */
+	static Xoshiro256StarStarRandomSource xoshiro256(long seed)
+	{
+		return new Xoshiro256StarStarRandomSource(seed);
+	}
+
+	/**
+	 * Wraps a java.util.SplittableRandom, e.g. one split off per simulation worker.
+	 * @param random generator to draw from
+	 * @return random source
+	 */
+	static ShuffleRandomSource fromSplittable(SplittableRandom random)
+	{
+		return random::nextInt;
+	}
+
+	/**
+	 * Returns a cryptographically strong generator for tables where shuffles must not be predictable,
+	 * such as real-money play. Much slower than the other sources.
+	 * @return secure random source
+	 */
+	static ShuffleRandomSource secure()
+	{
+		return fromRandom(new SecureRandom());
+	}
+
+	/**
+	 * Returns the antithetic counterpart of a source: every draw k becomes bound - 1 - k.
+	 * The result shuffles just as uniformly, but a deck shuffled with it is negatively
+	 * correlated with one shuffled by an identically seeded plain source.
+	 * @param source source to mirror
+	 * @return antithetic random source
+	 */
+	static ShuffleRandomSource antithetic(ShuffleRandomSource source)
+	{
+		return bound -> bound - 1 - source.nextInt(bound);
+	}
+}
@@ -0,0 +1,71 @@
+package blackjack.model;
+
+/**
+ * SplitMix64 generator (the algorithm behind java.util.SplittableRandom).
+ * Its complete state is a single long that can be read and restored, which lets a recorded
+ * round be shuffled again bit for bit.
+ */
+public class SplitMix64RandomSource implements ShuffleRandomSource
+{
+	private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+	private long state;
+
+	/**
+	 * Creates a generator starting from the given seed.
+	 * @param seed initial state
+	 */
+	public SplitMix64RandomSource(long seed)
+	{
+		this.state = seed;
+	}
+
+	/**
+	 * Returns the current state; restoring it with {@link #setState(long)} repeats all following values.
+	 */
+	public long getState()
+	{
+		return state;
+	}
+
+	/**
+	 * Restores a previously captured state.
+	 * @param state value returned by {@link #getState()}
+	 */
+	public void setState(long state)
+	{
+		this.state = state;
+	}
+
+	/**
+	 * Returns the next 64 random bits.
+	 */
+	public long nextLong()
+	{
+		long z = (state += GOLDEN_GAMMA);
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+
+	/**
+	 * Returns a uniformly distributed value in [0, bound) using unbiased rejection sampling.
+	 */
+	@Override
+	public int nextInt(int bound)
+	{
+		if (bound <= 0)
+		{
+			throw new IllegalArgumentException("Bound must be positive: " + bound);
+		}
+		int bits;
+		int value;
+		do
+		{
+			bits = (int) (nextLong() >>> 33);
+			value = bits % bound;
+		}
+		while (bits - value + (bound - 1) < 0);
+		return value;
+	}
+}
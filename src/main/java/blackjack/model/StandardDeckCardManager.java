@@ -1,76 +1,250 @@
 package blackjack.model;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
 
 /**
- * Singleton class responsible for managing a standard deck of playing cards.
+ * Class responsible for managing a shoe of one or more standard decks of playing cards.
+ * Every engine creates its own independent shoe, so engines can run concurrently.
+ * Cards are stored as indices into the shared card flyweights, so shuffling and dealing never allocate.
+ * A cut card placed at the configured penetration decides when the shoe is reshuffled between rounds;
+ * a continuous shoe instead reinserts the used cards at random positions after every round.
+ * The shoe keeps the remaining count of each rank and the Hi-Lo running count up to date as cards
+ * are dealt, so counting and composition queries are O(1).
  * Provides shuffling and iteration using the Iterator pattern.
  */
 public class StandardDeckCardManager implements Iterator<PlayingCardRepresentation>
 {
 
-	private static final String[] DEFAULT_CARD_SYMBOLS =
-			{
-			"AC", "AD", "AH", "AS", "2C", "2D", "2H", "2S",
-			"3C", "3D", "3H", "3S", "4C", "4D", "4H", "4S",
-			"5C", "5D", "5H", "5S", "6C", "6D", "6H", "6S",
-			"7C", "7D", "7H", "7S", "8C", "8D", "8H", "8S",
-			"9C", "9D", "9H", "9S", "0C", "0D", "0H", "0S",
-			"JC", "JD", "JH", "JS", "QC", "QD", "QH", "QS",
-			"KC", "KD", "KH", "KS"
-		};
+	/** Largest number of decks a shoe may hold */
+	public static final int MAXIMUM_DECK_COUNT = 8;
+
+	/** Number of distinct blackjack ranks: slot 0 is the ace, slots 1-8 are two to nine, slot 9 holds all tens */
+	public static final int RANK_SLOT_COUNT = 10;
 
-	private static final int MAXIMUM_CARD_COUNT = 52;
+	/** Hi-Lo tag for each rank slot: two to six count +1, seven to nine 0, tens and aces -1 */
+	private static final int[] HI_LO_TAGS = { -1, 1, 1, 1, 1, 1, 0, 0, 0, -1 };
 
 	private int currentDeckPosition = 0;
-	private ArrayList<PlayingCardRepresentation> cardCollection;
+	private final int[] shoeCardIndices;
+	private final int deckCount;
+	private final double penetration;
+	private final int cutCardPosition;
+	private final DeckShuffleMode shuffleMode;
+	private final int[] remainingRankCounts = new int[RANK_SLOT_COUNT];
+	private int runningCount;
+	private final ShuffleRandomSource shuffleRandom;
 
-	private static StandardDeckCardManager instance;
+	/**
+	 * Creates an independent deck that shuffles with its own random generator.
+	 * Used where several engines deal at the same time (e.g. simulation workers).
+	 * @param shuffleRandom random generator owned by this deck
+	 */
+	public StandardDeckCardManager(Random shuffleRandom)
+	{
+		this(ShuffleRandomSource.fromRandom(shuffleRandom));
+	}
 
 	/**
-	 * Private constructor initializes the deck with all standard cards and shuffles them.
+	 * Creates an independent deck with a pluggable random source (e.g. a seeded one for replays).
+	 * The single deck is reshuffled before every round.
+	 * @param shuffleRandom random source owned by this deck
 	 */
-	private StandardDeckCardManager()
+	public StandardDeckCardManager(ShuffleRandomSource shuffleRandom)
 	{
-		cardCollection = new ArrayList<>();
-		initializeStandardDeck();
-		shuffleDeck();
+		this(shuffleRandom, 1, 0.0);
 	}
 
 	/**
-	 * Initializes the deck with 52 standard cards.
+	 * Creates an independent shoe of several decks with a cut card.
+	 * @param shuffleRandom random source owned by this shoe
+	 * @param deckCount number of standard decks (1 to MAXIMUM_DECK_COUNT)
+	 * @param penetration fraction of the shoe dealt before the cut card comes out (0 reshuffles every round)
 	 */
-	private void initializeStandardDeck()
+	public StandardDeckCardManager(ShuffleRandomSource shuffleRandom, int deckCount, double penetration)
 	{
-		for (String symbol : DEFAULT_CARD_SYMBOLS)
-		{
-			cardCollection.add(new PlayingCardRepresentation(symbol));
-		}
+		this(shuffleRandom, deckCount, penetration, DeckShuffleMode.CUT_CARD);
 	}
 
 	/**
-	 * Returns the singleton instance of this deck manager.
-	 * @return instance of deck manager
+	 * Creates an independent continuous shuffling shoe. Used cards are reinserted after every
+	 * round, so the cost of a round is proportional to the cards it used, not the shoe size.
+	 * @param shuffleRandom random source owned by this shoe
+	 * @param deckCount number of standard decks (1 to MAXIMUM_DECK_COUNT)
+	 * @return the new shoe
 	 */
-	public static StandardDeckCardManager getInstance()
+	public static StandardDeckCardManager continuousShuffler(ShuffleRandomSource shuffleRandom, int deckCount)
 	{
-		if (instance == null)
+		return new StandardDeckCardManager(shuffleRandom, deckCount, 0.0, DeckShuffleMode.CONTINUOUS);
+	}
+
+	private StandardDeckCardManager(ShuffleRandomSource shuffleRandom, int deckCount, double penetration, DeckShuffleMode shuffleMode)
+	{
+		if (deckCount < 1 || deckCount > MAXIMUM_DECK_COUNT)
+		{
+			throw new IllegalArgumentException("Deck count must be between 1 and " + MAXIMUM_DECK_COUNT + ": " + deckCount);
+		}
+		if (!(penetration >= 0.0 && penetration < 1.0))
 		{
-			instance = new StandardDeckCardManager();
+			throw new IllegalArgumentException("Penetration must be at least 0 and below 1: " + penetration);
 		}
+		this.shuffleRandom = shuffleRandom;
+		this.deckCount = deckCount;
+		this.penetration = penetration;
+		this.shuffleMode = shuffleMode;
+		shoeCardIndices = new int[deckCount * PlayingCardRepresentation.CARD_COUNT];
+		cutCardPosition = (int) (shoeCardIndices.length * penetration);
+		shuffleDeck();
+	}
 
-		return instance;
+	/**
+	 * Returns the random source this deck shuffles with.
+	 */
+	public ShuffleRandomSource getShuffleRandomSource()
+	{
+		return shuffleRandom;
 	}
 
 	/**
 	 * Randomly shuffles the cards and resets iterator position.
+	 * Every shuffle starts from the standard card order, so the result depends only on the
+	 * random source's state and can be reproduced from it.
 	 */
 	public void shuffleDeck()
 	{
-		Collections.shuffle(cardCollection);
+		int[] cards = shoeCardIndices;
+		for (int i = 0; i < cards.length; i++)
+		{
+			cards[i] = i % PlayingCardRepresentation.CARD_COUNT;
+		}
+		for (int i = cards.length; i > 1; i--)
+		{
+			int j = shuffleRandom.nextInt(i);
+			int swapped = cards[i - 1];
+			cards[i - 1] = cards[j];
+			cards[j] = swapped;
+		}
 		currentDeckPosition = 0;
+		resetComposition();
+	}
+
+	/**
+	 * Sets the rank counts to a full shoe and the running count to zero.
+	 */
+	private void resetComposition()
+	{
+		for (int slot = 0; slot < RANK_SLOT_COUNT - 1; slot++)
+		{
+			remainingRankCounts[slot] = 4 * deckCount;
+		}
+		remainingRankCounts[RANK_SLOT_COUNT - 1] = 16 * deckCount;
+		runningCount = 0;
+	}
+
+	/**
+	 * Gets the shoe back into play between rounds, once every hand has been discarded.
+	 * A continuous shoe takes back all dealt cards; otherwise the shoe is reshuffled if the cut card is out.
+	 * @return true if the shoe was reshuffled
+	 */
+	public boolean prepareForNextRound()
+	{
+		if (shuffleMode == DeckShuffleMode.CONTINUOUS)
+		{
+			returnDealtCardsToShoe();
+			return false;
+		}
+		return reshuffleIfCutCardReached();
+	}
+
+	/**
+	 * Puts every dealt card back among the undealt ones. Each card is inserted at a uniformly
+	 * random position with an inside-out Fisher-Yates step, so the undealt cards stay a uniform
+	 * random order and the work done is proportional to the number of cards returned.
+	 */
+	public void returnDealtCardsToShoe()
+	{
+		int[] cards = shoeCardIndices;
+		int undealtCardCount = cards.length - currentDeckPosition;
+		while (currentDeckPosition > 0)
+		{
+			currentDeckPosition--;
+			undealtCardCount++;
+			int rankSlot = PlayingCardRepresentation.fromIndex(cards[currentDeckPosition]).getRankSlot();
+			remainingRankCounts[rankSlot]++;
+			runningCount -= HI_LO_TAGS[rankSlot];
+			int j = currentDeckPosition + shuffleRandom.nextInt(undealtCardCount);
+			int swapped = cards[currentDeckPosition];
+			cards[currentDeckPosition] = cards[j];
+			cards[j] = swapped;
+		}
+	}
+
+	/**
+	 * Shuffles every dealt card that is no longer in play back into the shoe, for when the shoe runs
+	 * out in the middle of a round. The cards in play stay dealt, so the rank counts and the running
+	 * count afterwards describe exactly those cards.
+	 * @param cardsInPlay cards still held by the players and the dealer
+	 * @throws IllegalArgumentException if a card in play was never dealt from this shoe
+	 */
+	public void reshuffleDiscards(Collection<PlayingCardRepresentation> cardsInPlay)
+	{
+		int[] cards = shoeCardIndices;
+		int keptCount = 0;
+		for (PlayingCardRepresentation card : cardsInPlay)
+		{
+			int position = keptCount;
+			while (position < currentDeckPosition && cards[position] != card.getCardIndex())
+			{
+				position++;
+			}
+			if (position == currentDeckPosition)
+			{
+				throw new IllegalArgumentException("Card in play was not dealt from this shoe: " + card);
+			}
+			cards[position] = cards[keptCount];
+			cards[keptCount++] = card.getCardIndex();
+		}
+		for (int i = cards.length; i > keptCount + 1; i--)
+		{
+			int j = keptCount + shuffleRandom.nextInt(i - keptCount);
+			int swapped = cards[i - 1];
+			cards[i - 1] = cards[j];
+			cards[j] = swapped;
+		}
+		currentDeckPosition = keptCount;
+		resetComposition();
+		for (int i = 0; i < keptCount; i++)
+		{
+			int rankSlot = PlayingCardRepresentation.fromIndex(cards[i]).getRankSlot();
+			remainingRankCounts[rankSlot]--;
+			runningCount += HI_LO_TAGS[rankSlot];
+		}
+	}
+
+	/**
+	 * Reshuffles the shoe if the cut card has come out. Called between rounds, never mid-hand.
+	 * @return true if the shoe was reshuffled
+	 */
+	public boolean reshuffleIfCutCardReached()
+	{
+		if (isCutCardReached())
+		{
+			shuffleDeck();
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Checks whether dealing has reached the cut card.
+	 * @return true once the shoe is due for a reshuffle
+	 */
+	public boolean isCutCardReached()
+	{
+		return currentDeckPosition >= cutCardPosition;
 	}
 
 	/**
@@ -80,19 +254,85 @@ public class StandardDeckCardManager implements Iterator<PlayingCardRepresentati
 	@Override
 	public boolean hasNext()
 	{
-		return currentDeckPosition < MAXIMUM_CARD_COUNT;
+		return currentDeckPosition < shoeCardIndices.length;
 	}
 
 	/**
 	 * Returns the next card from the deck.
 	 * @return the next PlayingCardRepresentation
+	 * @throws NoSuchElementException if the shoe has been dealt out
 	 */
 	@Override
 	public PlayingCardRepresentation next()
 	{
-		PlayingCardRepresentation nextCard = cardCollection.get(currentDeckPosition);
-		currentDeckPosition++;
-		return nextCard;
+		if (currentDeckPosition >= shoeCardIndices.length)
+		{
+			throw new NoSuchElementException("Shoe is empty");
+		}
+		PlayingCardRepresentation card = PlayingCardRepresentation.fromIndex(shoeCardIndices[currentDeckPosition++]);
+		int rankSlot = card.getRankSlot();
+		remainingRankCounts[rankSlot]--;
+		runningCount += HI_LO_TAGS[rankSlot];
+		return card;
+	}
+
+	/**
+	 * Gets the Hi-Lo running count of the cards dealt since the last shuffle.
+	 * @return running count
+	 */
+	public int getRunningCount()
+	{
+		return runningCount;
+	}
+
+	/**
+	 * Gets the Hi-Lo tag of a card: +1 for two to six, 0 for seven to nine, -1 for tens and aces.
+	 * @param card card to tag
+	 * @return Hi-Lo tag
+	 */
+	public static int getHiLoTag(PlayingCardRepresentation card)
+	{
+		return HI_LO_TAGS[card.getRankSlot()];
+	}
+
+	/**
+	 * Gets the Hi-Lo true count: the running count per deck still in the shoe.
+	 * @return true count, or 0 once the shoe is empty
+	 */
+	public double getTrueCount()
+	{
+		int remaining = getRemainingCardCount();
+		return remaining == 0 ? 0.0 : runningCount * (double) PlayingCardRepresentation.CARD_COUNT / remaining;
+	}
+
+	/**
+	 * Gets how many cards of one rank are still in the shoe.
+	 * @param rankSlot rank slot as returned by PlayingCardRepresentation.getRankSlot()
+	 * @return remaining cards of that rank
+	 */
+	public int getRemainingRankCount(int rankSlot)
+	{
+		return remainingRankCounts[rankSlot];
+	}
+
+	/**
+	 * Copies the remaining count of every rank into the given array without allocating.
+	 * @param target array of at least RANK_SLOT_COUNT elements
+	 * @return the target array
+	 */
+	public int[] copyRemainingRankCounts(int[] target)
+	{
+		System.arraycopy(remainingRankCounts, 0, target, 0, RANK_SLOT_COUNT);
+		return target;
+	}
+
+	/**
+	 * Returns a snapshot of the remaining count of every rank.
+	 * @return new array indexed by rank slot
+	 */
+	public int[] getRemainingRankCounts()
+	{
+		return remainingRankCounts.clone();
 	}
 
 	/**
@@ -101,7 +341,61 @@ public class StandardDeckCardManager implements Iterator<PlayingCardRepresentati
 	 */
 	public int getRemainingCardCount()
 	{
-		return MAXIMUM_CARD_COUNT - currentDeckPosition;
+		return shoeCardIndices.length - currentDeckPosition;
+	}
+
+	/**
+	 * Gets the number of cards dealt since the last shuffle.
+	 * @return dealt card count
+	 */
+	public int getDealtCardCount()
+	{
+		return currentDeckPosition;
+	}
+
+	/**
+	 * Gets the number of standard decks in the shoe.
+	 * @return deck count
+	 */
+	public int getDeckCount()
+	{
+		return deckCount;
+	}
+
+	/**
+	 * Gets the total number of cards in the shoe.
+	 * @return shoe size
+	 */
+	public int getShoeSize()
+	{
+		return shoeCardIndices.length;
+	}
+
+	/**
+	 * Gets the fraction of the shoe dealt before the cut card.
+	 * @return penetration between 0 and 1
+	 */
+	public double getPenetration()
+	{
+		return penetration;
+	}
+
+	/**
+	 * Gets how the shoe gets its cards back between rounds.
+	 * @return shuffle mode
+	 */
+	public DeckShuffleMode getShuffleMode()
+	{
+		return shuffleMode;
+	}
+
+	/**
+	 * Gets the position of the cut card in the shoe.
+	 * @return number of cards dealt before the shoe is due for a reshuffle
+	 */
+	public int getCutCardPosition()
+	{
+		return cutCardPosition;
 	}
 
 	/**
@@ -110,6 +404,11 @@ public class StandardDeckCardManager implements Iterator<PlayingCardRepresentati
 	 */
 	public ArrayList<PlayingCardRepresentation> getAllCardsSnapshot()
 	{
-		return new ArrayList<>(cardCollection);
+		ArrayList<PlayingCardRepresentation> snapshot = new ArrayList<>(shoeCardIndices.length);
+		for (int cardIndex : shoeCardIndices)
+		{
+			snapshot.add(PlayingCardRepresentation.fromIndex(cardIndex));
+		}
+		return snapshot;
 	}
-} 
\ No newline at end of file
+}
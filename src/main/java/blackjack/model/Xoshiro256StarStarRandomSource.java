@@ -0,0 +1,68 @@
+package blackjack.model;
+
+/**
+ * xoshiro256** generator by Blackman and Vigna. Fast, with a 256-bit state and a period of 2^256 - 1,
+ * so it suits long simulations that shuffle large shoes many millions of times.
+ * Not suitable where shuffles must be unpredictable; use {@link ShuffleRandomSource#secure()} for that.
+ */
+public class Xoshiro256StarStarRandomSource implements ShuffleRandomSource
+{
+	private long s0;
+	private long s1;
+	private long s2;
+	private long s3;
+
+	/**
+	 * Creates a generator whose state is expanded from one seed with SplitMix64, as the authors recommend.
+	 * @param seed initial seed
+	 */
+	public Xoshiro256StarStarRandomSource(long seed)
+	{
+		SplitMix64RandomSource seeder = new SplitMix64RandomSource(seed);
+		s0 = seeder.nextLong();
+		s1 = seeder.nextLong();
+		s2 = seeder.nextLong();
+		s3 = seeder.nextLong();
+	}
+
+	/**
+	 * Returns the next 64 random bits.
+	 */
+	public long nextLong()
+	{
+		long result = Long.rotateLeft(s1 * 5, 7) * 9;
+		long t = s1 << 17;
+		s2 ^= s0;
+		s3 ^= s1;
+		s1 ^= s2;
+		s0 ^= s3;
+		s2 ^= t;
+		s3 = Long.rotateLeft(s3, 45);
+		return result;
+	}
+
+	/**
+	 * Returns a uniformly distributed value in [0, bound) using Lemire's multiply-and-shift
+	 * method, which needs a division only in the rare case a sample is rejected.
+	 */
+	@Override
+	public int nextInt(int bound)
+	{
+		if (bound <= 0)
+		{
+			throw new IllegalArgumentException("Bound must be positive: " + bound);
+		}
+		long product = (nextLong() >>> 32) * bound;
+		int low = (int) product;
+		if (Integer.compareUnsigned(low, bound) < 0)
+		{
+			int threshold = Integer.remainderUnsigned(-bound, bound);
+			while (Integer.compareUnsigned(low, threshold) < 0)
+			{
+				product = (nextLong() >>> 32) * bound;
+				low = (int) product;
+			}
+		}
+		return (int) (product >>> 32);
+	}
+}
@@ -0,0 +1,90 @@
+package blackjack.replay;
+
+import blackjack.engine.PlayerAction;
+import blackjack.engine.RoundOutcome;
+
+/**
+ * Everything needed to re-execute one round and check the result:
+ * the deck generator state before the round, whether the round opens a freshly shuffled shoe,
+ * the player actions in order, and the expected outcomes and card fingerprint.
+ * A round that opens a shoe can be replayed on its own; any other round continues the shoe
+ * left behind by the round before it.
+ */
+public class RecordedRound
+{
+	private final long roundIndex;
+	private final long deckStateBeforeRound;
+	private final boolean startsShoe;
+	private final byte[] playerActions;
+	private final RoundOutcome[] seatOutcomes;
+	private final long cardFingerprint;
+
+	public RecordedRound(long roundIndex, long deckStateBeforeRound, boolean startsShoe, byte[] playerActions,
+			RoundOutcome[] seatOutcomes, long cardFingerprint)
+	{
+		this.roundIndex = roundIndex;
+		this.deckStateBeforeRound = deckStateBeforeRound;
+		this.startsShoe = startsShoe;
+		this.playerActions = playerActions;
+		this.seatOutcomes = seatOutcomes;
+		this.cardFingerprint = cardFingerprint;
+	}
+
+	public long getRoundIndex()
+	{
+		return roundIndex;
+	}
+
+	public long getDeckStateBeforeRound()
+	{
+		return deckStateBeforeRound;
+	}
+
+	/**
+	 * Whether the shoe is shuffled from {@link #getDeckStateBeforeRound()} as this round starts.
+	 */
+	public boolean startsShoe()
+	{
+		return startsShoe;
+	}
+
+	/**
+	 * Number of decisions taken by all seats in this round.
+	 */
+	public int getActionCount()
+	{
+		return playerActions.length;
+	}
+
+	/**
+	 * Returns the decision taken at the given position.
+	 * @param actionIndex position in the round's action list
+	 */
+	public PlayerAction getAction(int actionIndex)
+	{
+		return PlayerAction.values()[playerActions[actionIndex]];
+	}
+
+	byte[] getEncodedActions()
+	{
+		return playerActions;
+	}
+
+	public RoundOutcome getSeatOutcome(int seatIndex)
+	{
+		return seatOutcomes[seatIndex];
+	}
+
+	RoundOutcome[] getSeatOutcomes()
+	{
+		return seatOutcomes;
+	}
+
+	/**
+	 * Hash over every card held by the seats and the dealer at the end of the round.
+	 */
+	public long getCardFingerprint()
+	{
+		return cardFingerprint;
+	}
+}
@@ -0,0 +1,175 @@
+package blackjack.replay;
+
+import blackjack.engine.RoundOutcome;
+import blackjack.rules.BlackjackPayout;
+import blackjack.rules.DealerStandRule;
+import blackjack.rules.TableRules;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A sequence of recorded rounds played at one table configuration: seat count, shoe size,
+ * penetration and table rules. Can be written to and read from a compact binary stream for
+ * later regression runs.
+ */
+public class RecordedSession
+{
+	private static final int FORMAT_VERSION = 2;
+
+	/** First format: single deck reshuffled every round under the legacy rules */
+	private static final int LEGACY_FORMAT_VERSION = 1;
+
+	private final long sessionSeed;
+	private final int seatCount;
+	private final int deckCount;
+	private final double penetration;
+	private final TableRules tableRules;
+	private final List<RecordedRound> rounds;
+
+	/**
+	 * Creates a session played on a single deck reshuffled every round under the legacy rules.
+	 */
+	public RecordedSession(long sessionSeed, int seatCount, List<RecordedRound> rounds)
+	{
+		this(sessionSeed, seatCount, 1, 0.0, TableRules.legacy(), rounds);
+	}
+
+	public RecordedSession(long sessionSeed, int seatCount, int deckCount, double penetration,
+			TableRules tableRules, List<RecordedRound> rounds)
+	{
+		this.sessionSeed = sessionSeed;
+		this.seatCount = seatCount;
+		this.deckCount = deckCount;
+		this.penetration = penetration;
+		this.tableRules = tableRules;
+		this.rounds = rounds;
+	}
+
+	public long getSessionSeed()
+	{
+		return sessionSeed;
+	}
+
+	public int getSeatCount()
+	{
+		return seatCount;
+	}
+
+	public int getDeckCount()
+	{
+		return deckCount;
+	}
+
+	public double getPenetration()
+	{
+		return penetration;
+	}
+
+	public TableRules getTableRules()
+	{
+		return tableRules;
+	}
+
+	public List<RecordedRound> getRounds()
+	{
+		return Collections.unmodifiableList(rounds);
+	}
+
+	/**
+	 * Writes the session in binary form.
+	 * @param output destination stream
+	 * @throws IOException if writing fails
+	 */
+	public void writeTo(DataOutputStream output) throws IOException
+	{
+		output.writeInt(FORMAT_VERSION);
+		output.writeLong(sessionSeed);
+		output.writeInt(seatCount);
+		output.writeInt(deckCount);
+		output.writeDouble(penetration);
+		writeRules(output, tableRules);
+		output.writeInt(rounds.size());
+		for (RecordedRound round : rounds)
+		{
+			output.writeLong(round.getRoundIndex());
+			output.writeLong(round.getDeckStateBeforeRound());
+			output.writeBoolean(round.startsShoe());
+			output.writeShort(round.getActionCount());
+			output.write(round.getEncodedActions());
+			for (RoundOutcome outcome : round.getSeatOutcomes())
+			{
+				output.writeByte(outcome.ordinal());
+			}
+			output.writeLong(round.getCardFingerprint());
+		}
+	}
+
+	/**
+	 * Reads a session written by {@link #writeTo(DataOutputStream)}. Sessions in the first format
+	 * are read as single-deck sessions under the legacy rules, which is how they were played.
+	 * @param input source stream
+	 * @return the recorded session
+	 * @throws IOException if reading fails or the format is unknown
+	 */
+	public static RecordedSession readFrom(DataInputStream input) throws IOException
+	{
+		int version = input.readInt();
+		if (version != FORMAT_VERSION && version != LEGACY_FORMAT_VERSION)
+		{
+			throw new IOException("Unsupported session format version: " + version);
+		}
+		boolean legacyFormat = version == LEGACY_FORMAT_VERSION;
+		long sessionSeed = input.readLong();
+		int seatCount = input.readInt();
+		int deckCount = legacyFormat ? 1 : input.readInt();
+		double penetration = legacyFormat ? 0.0 : input.readDouble();
+		TableRules tableRules = legacyFormat ? TableRules.legacy() : readRules(input);
+		int roundCount = input.readInt();
+
+		List<RecordedRound> rounds = new ArrayList<>(roundCount);
+		RoundOutcome[] outcomeValues = RoundOutcome.values();
+		for (int i = 0; i < roundCount; i++)
+		{
+			long roundIndex = input.readLong();
+			long deckState = input.readLong();
+			// The single deck of the first format was reshuffled before every round
+			boolean startsShoe = legacyFormat || input.readBoolean();
+			byte[] actions = new byte[input.readShort()];
+			input.readFully(actions);
+			RoundOutcome[] outcomes = new RoundOutcome[seatCount];
+			for (int seat = 0; seat < seatCount; seat++)
+			{
+				outcomes[seat] = outcomeValues[input.readByte()];
+			}
+			rounds.add(new RecordedRound(roundIndex, deckState, startsShoe, actions, outcomes, input.readLong()));
+		}
+		return new RecordedSession(sessionSeed, seatCount, deckCount, penetration, tableRules, rounds);
+	}
+
+	private static void writeRules(DataOutputStream output, TableRules tableRules) throws IOException
+	{
+		output.writeByte(tableRules.getDealerStandRule().ordinal());
+		output.writeByte(tableRules.getBlackjackPayout().ordinal());
+		output.writeBoolean(tableRules.isDoubleDownAllowed());
+		output.writeBoolean(tableRules.isDoubleAfterSplit());
+		output.writeBoolean(tableRules.isLateSurrender());
+		output.writeByte(tableRules.getMaximumHandsPerSeat());
+	}
+
+	private static TableRules readRules(DataInputStream input) throws IOException
+	{
+		return TableRules.builder()
+				.dealerStandRule(DealerStandRule.values()[input.readByte()])
+				.blackjackPayout(BlackjackPayout.values()[input.readByte()])
+				.doubleDownAllowed(input.readBoolean())
+				.doubleAfterSplit(input.readBoolean())
+				.lateSurrender(input.readBoolean())
+				.maximumHandsPerSeat(input.readByte())
+				.build();
+	}
+}
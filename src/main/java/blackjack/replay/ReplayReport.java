@@ -0,0 +1,54 @@
+package blackjack.replay;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of replaying recorded rounds: how many were checked and which ones diverged.
+ */
+public class ReplayReport
+{
+	private final long replayedRoundCount;
+	private final List<Long> divergedRoundIndices;
+	private final long elapsedNanos;
+
+	ReplayReport(long replayedRoundCount, List<Long> divergedRoundIndices, long elapsedNanos)
+	{
+		this.replayedRoundCount = replayedRoundCount;
+		this.divergedRoundIndices = divergedRoundIndices;
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	public long getReplayedRoundCount()
+	{
+		return replayedRoundCount;
+	}
+
+	/**
+	 * Indices of rounds whose cards or outcomes differed from the recording, in ascending order.
+	 */
+	public List<Long> getDivergedRoundIndices()
+	{
+		return Collections.unmodifiableList(divergedRoundIndices);
+	}
+
+	public boolean isIdentical()
+	{
+		return divergedRoundIndices.isEmpty();
+	}
+
+	public long getElapsedNanos()
+	{
+		return elapsedNanos;
+	}
+
+	/**
+	 * Returns a formatted summary of the replay.
+	 */
+	public String getSummary()
+	{
+		return String.format("Replayed: %d, Diverged: %d, Rounds/sec: %.0f", replayedRoundCount,
+				divergedRoundIndices.size(),
+				elapsedNanos == 0 ? 0.0 : replayedRoundCount * 1_000_000_000.0 / elapsedNanos);
+	}
+}
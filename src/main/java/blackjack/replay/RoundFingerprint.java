@@ -0,0 +1,36 @@
+package blackjack.replay;
+
+import blackjack.engine.BlackjackGameEngine;
+import blackjack.model.PlayingCardRepresentation;
+import blackjack.util.BlackjackParticipant;
+
+/**
+ * Computes a hash over all hands at the end of a round, used to prove that a replay dealt identical cards.
+ */
+final class RoundFingerprint
+{
+	private RoundFingerprint()
+	{
+	}
+
+	static long of(BlackjackGameEngine engine)
+	{
+		long fingerprint = 17;
+		// Every hand in acting order, so the cards of split hands are covered as well
+		for (int hand = 0; hand < engine.getHandCount(); hand++)
+		{
+			fingerprint = addHand(fingerprint, engine.getHand(hand));
+		}
+		return addHand(fingerprint, engine.getDealer());
+	}
+
+	private static long addHand(long fingerprint, BlackjackParticipant participant)
+	{
+		for (PlayingCardRepresentation card : participant.getHandCards())
+		{
+			fingerprint = fingerprint * 31 + card.getCardIndex();
+		}
+		// Hand separator so the same cards split differently between hands do not collide
+		return fingerprint * 31 + 1;
+	}
+}
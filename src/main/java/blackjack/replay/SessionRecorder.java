@@ -0,0 +1,106 @@
+package blackjack.replay;
+
+import blackjack.engine.BlackjackGameEngine;
+import blackjack.engine.HeadlessRoundExecutor;
+import blackjack.engine.PlayerAction;
+import blackjack.engine.PlayerDecisionStrategy;
+import blackjack.engine.RoundOutcome;
+import blackjack.model.ShuffleRandomSource;
+import blackjack.model.SplitMix64RandomSource;
+import blackjack.model.StandardDeckCardManager;
+import blackjack.rules.TableRules;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plays headless rounds on a seeded shoe and records each round's seed state, actions and results,
+ * together with the shoe size, penetration and table rules needed to rebuild the table.
+ */
+public class SessionRecorder
+{
+	private final long sessionSeed;
+	private final SplitMix64RandomSource randomSource;
+	private final long initialShuffleState;
+	private final StandardDeckCardManager shoe;
+	private final BlackjackGameEngine gameEngine;
+	private final HeadlessRoundExecutor roundExecutor;
+	private final List<RecordedRound> recordedRounds = new ArrayList<>();
+	private final ByteArrayOutputStream roundActions = new ByteArrayOutputStream();
+
+	/**
+	 * Creates a recorder for a single-deck table with the given seat count under the legacy rules.
+	 * @param sessionSeed seed of the deck's random source
+	 * @param seatCount number of player seats
+	 */
+	public SessionRecorder(long sessionSeed, int seatCount)
+	{
+		this(sessionSeed, seatCount, 1, 0.0, TableRules.legacy());
+	}
+
+	/**
+	 * Creates a recorder for a table with the given shoe and rules.
+	 * @param sessionSeed seed of the shoe's random source
+	 * @param seatCount number of player seats
+	 * @param deckCount number of decks in the shoe
+	 * @param penetration fraction of the shoe dealt before the cut card comes out (0 reshuffles every round)
+	 * @param tableRules rules of the table
+	 */
+	public SessionRecorder(long sessionSeed, int seatCount, int deckCount, double penetration, TableRules tableRules)
+	{
+		this.sessionSeed = sessionSeed;
+		this.randomSource = ShuffleRandomSource.seeded(sessionSeed);
+		this.initialShuffleState = randomSource.getState();
+		this.shoe = new StandardDeckCardManager(randomSource, deckCount, penetration);
+		this.gameEngine = new BlackjackGameEngine(true, shoe, seatCount, tableRules);
+		this.roundExecutor = new HeadlessRoundExecutor(gameEngine);
+	}
+
+	/**
+	 * Plays and records one round.
+	 * @param strategy decides the actions of all seats
+	 * @return outcome of the first seat
+	 */
+	public RoundOutcome playRound(PlayerDecisionStrategy strategy)
+	{
+		// The first round plays the shoe shuffled on construction; later shoes are shuffled as a round starts
+		boolean firstRound = recordedRounds.isEmpty();
+		boolean startsShoe = firstRound || shoe.isCutCardReached();
+		long deckState = firstRound && !shoe.isCutCardReached() ? initialShuffleState : randomSource.getState();
+		roundActions.reset();
+
+		RoundOutcome outcome = roundExecutor.playRound((player, dealerUpCard) ->
+		{
+			PlayerAction action = strategy.decideAction(player, dealerUpCard);
+			roundActions.write(action.ordinal());
+			return action;
+		});
+
+		RoundOutcome[] seatOutcomes = new RoundOutcome[gameEngine.getSeatCount()];
+		for (int seat = 0; seat < seatOutcomes.length; seat++)
+		{
+			seatOutcomes[seat] = gameEngine.getLastRoundOutcome(seat);
+		}
+		recordedRounds.add(new RecordedRound(recordedRounds.size(), deckState, startsShoe, roundActions.toByteArray(),
+				seatOutcomes, RoundFingerprint.of(gameEngine)));
+		return outcome;
+	}
+
+	/**
+	 * Returns the engine used for recording.
+	 */
+	public BlackjackGameEngine getGameEngine()
+	{
+		return gameEngine;
+	}
+
+	/**
+	 * Returns all rounds recorded so far as a session.
+	 */
+	public RecordedSession getRecordedSession()
+	{
+		return new RecordedSession(sessionSeed, gameEngine.getSeatCount(), shoe.getDeckCount(), shoe.getPenetration(),
+				gameEngine.getTableRules(), new ArrayList<>(recordedRounds));
+	}
+}
@@ -0,0 +1,162 @@
+package blackjack.replay;
+
+import blackjack.engine.BlackjackGameEngine;
+import blackjack.engine.HeadlessRoundExecutor;
+import blackjack.engine.PlayerAction;
+import blackjack.engine.PlayerDecisionStrategy;
+import blackjack.model.PlayingCardRepresentation;
+import blackjack.model.ShuffleRandomSource;
+import blackjack.model.SplitMix64RandomSource;
+import blackjack.model.StandardDeckCardManager;
+import blackjack.rules.TableRules;
+import blackjack.util.BlackjackParticipant;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Re-executes recorded rounds and checks that they produce identical cards and outcomes.
+ * The replay table is rebuilt with the recorded seat count, shoe and rules. A round that opens
+ * a shoe is restored from its own deck state, so shoes replay independently and a whole session
+ * is split across all cores; the rounds within one shoe are replayed in order.
+ */
+public class SessionReplayer
+{
+	private final SplitMix64RandomSource randomSource = ShuffleRandomSource.seeded(0L);
+	private final StandardDeckCardManager shoe;
+	private final BlackjackGameEngine gameEngine;
+	private final HeadlessRoundExecutor roundExecutor;
+	private final RecordedActionStrategy recordedActions = new RecordedActionStrategy();
+
+	/**
+	 * Creates a replayer for the table a session was recorded at.
+	 * @param session recorded session supplying the seat count, shoe and rules
+	 */
+	public SessionReplayer(RecordedSession session)
+	{
+		this(session.getSeatCount(), session.getDeckCount(), session.getPenetration(), session.getTableRules());
+	}
+
+	private SessionReplayer(int seatCount, int deckCount, double penetration, TableRules tableRules)
+	{
+		this.shoe = new StandardDeckCardManager(randomSource, deckCount, penetration);
+		this.gameEngine = new BlackjackGameEngine(true, shoe, seatCount, tableRules);
+		this.roundExecutor = new HeadlessRoundExecutor(gameEngine);
+	}
+
+	/**
+	 * Replays a single round. A round that opens a shoe can be replayed at any time; any other
+	 * round must directly follow the replay of the round before it.
+	 * @param round recorded round
+	 * @return true if cards and outcomes are identical to the recording
+	 */
+	public boolean replayRound(RecordedRound round)
+	{
+		if (round.startsShoe())
+		{
+			// Bring the cut card out so the round starts by shuffling from the recorded state
+			while (!shoe.isCutCardReached())
+			{
+				shoe.next();
+			}
+			randomSource.setState(round.getDeckStateBeforeRound());
+		}
+		else if (randomSource.getState() != round.getDeckStateBeforeRound())
+		{
+			return false;
+		}
+		recordedActions.start(round);
+		roundExecutor.playRound(recordedActions);
+
+		if (!recordedActions.isFullyConsumed() || RoundFingerprint.of(gameEngine) != round.getCardFingerprint())
+		{
+			return false;
+		}
+		for (int seat = 0; seat < gameEngine.getSeatCount(); seat++)
+		{
+			if (gameEngine.getLastRoundOutcome(seat) != round.getSeatOutcome(seat))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Replays every round of a session, with the shoes spread over all cores.
+	 * @param session recorded session
+	 * @return report listing diverged rounds
+	 */
+	public static ReplayReport replaySession(RecordedSession session)
+	{
+		List<RecordedRound> rounds = session.getRounds();
+		List<Integer> shoeStarts = new ArrayList<>();
+		for (int i = 0; i < rounds.size(); i++)
+		{
+			if (i == 0 || rounds.get(i).startsShoe())
+			{
+				shoeStarts.add(i);
+			}
+		}
+		shoeStarts.add(rounds.size());
+		int shoeCount = shoeStarts.size() - 1;
+		int workerCount = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), shoeCount));
+		long startNanos = System.nanoTime();
+
+		List<Long> diverged = Collections.synchronizedList(new ArrayList<>());
+		IntStream.range(0, workerCount).parallel().forEach(worker ->
+		{
+			SessionReplayer replayer = new SessionReplayer(session);
+			for (int shoeIndex = worker; shoeIndex < shoeCount; shoeIndex += workerCount)
+			{
+				for (int i = shoeStarts.get(shoeIndex); i < shoeStarts.get(shoeIndex + 1); i++)
+				{
+					RecordedRound round = rounds.get(i);
+					if (!replayer.replayRound(round))
+					{
+						diverged.add(round.getRoundIndex());
+					}
+				}
+			}
+		});
+
+		List<Long> sortedDiverged = new ArrayList<>(diverged);
+		Collections.sort(sortedDiverged);
+		return new ReplayReport(rounds.size(), sortedDiverged, System.nanoTime() - startNanos);
+	}
+
+	/**
+	 * Feeds the recorded actions back in order; answers STAY once the recording runs out.
+	 */
+	private static class RecordedActionStrategy implements PlayerDecisionStrategy
+	{
+		private RecordedRound round;
+		private int nextAction;
+		private boolean exhausted;
+
+		void start(RecordedRound round)
+		{
+			this.round = round;
+			this.nextAction = 0;
+			this.exhausted = false;
+		}
+
+		boolean isFullyConsumed()
+		{
+			return !exhausted && nextAction == round.getActionCount();
+		}
+
+		@Override
+		public PlayerAction decideAction(BlackjackParticipant player, PlayingCardRepresentation dealerUpCard)
+		{
+			if (nextAction >= round.getActionCount())
+			{
+				exhausted = true;
+				return PlayerAction.STAY;
+			}
+			return round.getAction(nextAction++);
+		}
+	}
+}
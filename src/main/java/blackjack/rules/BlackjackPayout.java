@@ -0,0 +1,38 @@
+package blackjack.rules;
+
+/**
+ * Amount paid for a natural blackjack, per unit wagered.
+ */
+public enum BlackjackPayout
+{
+	EVEN_MONEY(1, 1),
+	THREE_TO_TWO(3, 2),
+	SIX_TO_FIVE(6, 5);
+
+	private final int numerator;
+	private final int denominator;
+
+	BlackjackPayout(int numerator, int denominator)
+	{
+		this.numerator = numerator;
+		this.denominator = denominator;
+	}
+
+	/**
+	 * Gets the winnings per unit wagered, e.g. 1.5 for 3:2.
+	 * @return payout multiplier
+	 */
+	public double getMultiplier()
+	{
+		return (double) numerator / denominator;
+	}
+
+	/**
+	 * Returns the usual notation, e.g. "3:2".
+	 */
+	@Override
+	public String toString()
+	{
+		return numerator + ":" + denominator;
+	}
+}
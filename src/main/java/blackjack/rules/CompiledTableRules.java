@@ -0,0 +1,219 @@
+package blackjack.rules;
+
+import blackjack.util.BlackjackParticipant;
+import blackjack.util.PlayerHand;
+
+/**
+ * Rules resolved for one engine. The dealer's stopping test and the settlement code are picked
+ * once, in the constructor, and the option flags are folded into per-hand permissions, so the
+ * engine calls straight into the specialized code on every step without looking at the rule set again.
+ */
+public final class CompiledTableRules
+{
+	private final TableRules rules;
+	private final DealerStandRule dealerStandRule;
+	private final HandSettlement settlement;
+	private final boolean dealerPeeks;
+	private final boolean doubleOnFirstHand;
+	private final boolean doubleOnSplitHand;
+	private final boolean lateSurrender;
+	private final int maximumHandsPerSeat;
+
+	CompiledTableRules(TableRules rules)
+	{
+		this.rules = rules;
+		this.dealerStandRule = rules.getDealerStandRule();
+		double blackjackWin = rules.getBlackjackPayout().getMultiplier();
+		this.dealerPeeks = dealerStandRule.isCasinoSettlement();
+		this.settlement = dealerPeeks ? new CasinoSettlement(blackjackWin) : new TotalsOnlySettlement(blackjackWin);
+		this.doubleOnFirstHand = rules.isDoubleDownAllowed();
+		this.doubleOnSplitHand = rules.isDoubleDownAllowed() && rules.isDoubleAfterSplit();
+		this.lateSurrender = rules.isLateSurrender();
+		this.maximumHandsPerSeat = rules.getMaximumHandsPerSeat();
+	}
+
+	/**
+	 * Returns the rule set these rules were compiled from.
+	 */
+	public TableRules getRules()
+	{
+		return rules;
+	}
+
+	/**
+	 * Checks whether the dealer looks at the hole card for blackjack before the players act.
+	 * @return true for casino settlement
+	 */
+	public boolean isDealerPeeking()
+	{
+		return dealerPeeks;
+	}
+
+	/**
+	 * Checks whether the dealer stops drawing with the current hand.
+	 * @param dealer the dealer's hand, not busted and below 21
+	 * @param bestLivePlayerTotal highest total of the player hands still in play, 0 if none
+	 * @return true if the dealer stands
+	 */
+	public boolean shouldDealerStand(BlackjackParticipant dealer, int bestLivePlayerTotal)
+	{
+		return dealerStandRule.shouldStand(dealer, bestLivePlayerTotal);
+	}
+
+	/**
+	 * Checks whether a finished hand still has to be played against the dealer's drawing.
+	 * @param hand finished player hand
+	 * @return true if the dealer must take a turn for this hand
+	 */
+	public boolean needsDealerTurn(PlayerHand hand)
+	{
+		return settlement.needsDealerTurn(hand);
+	}
+
+	/**
+	 * Settles a hand against the dealer's final hand.
+	 * @param hand finished player hand
+	 * @param dealer the dealer's final hand
+	 * @return net result in betting units, e.g. 1.5 for a natural paid 3:2 or -2 for a lost double
+	 */
+	public double settle(PlayerHand hand, BlackjackParticipant dealer)
+	{
+		return settlement.settle(hand, dealer);
+	}
+
+	/**
+	 * Checks whether the hand may double down now.
+	 * @param hand the active hand
+	 * @return true on a two-card hand where the rules allow doubling
+	 */
+	public boolean canDoubleDown(PlayerHand hand)
+	{
+		return hand.getNumberOfCardsInHand() == 2 && !hand.isSplitAces()
+				&& (hand.isFromSplit() ? doubleOnSplitHand : doubleOnFirstHand);
+	}
+
+	/**
+	 * Checks whether the hand may be split now.
+	 * @param hand the active hand
+	 * @param seatHandCount number of hands the seat already holds
+	 * @return true on a pair when the seat is below its hand limit
+	 */
+	public boolean canSplit(PlayerHand hand, int seatHandCount)
+	{
+		return seatHandCount < maximumHandsPerSeat
+				&& hand.getNumberOfCardsInHand() == 2
+				&& hand.getHandCards().get(0).getRankSlot() == hand.getHandCards().get(1).getRankSlot()
+				&& !hand.isSplitAces();
+	}
+
+	/**
+	 * Checks whether the hand may surrender now.
+	 * @param hand the active hand
+	 * @return true on an unsplit two-card hand when late surrender is offered
+	 */
+	public boolean canSurrender(PlayerHand hand)
+	{
+		return lateSurrender && hand.getNumberOfCardsInHand() == 2 && !hand.isFromSplit();
+	}
+
+	/**
+	 * Settlement code chosen once per engine.
+	 */
+	private interface HandSettlement
+	{
+		boolean needsDealerTurn(PlayerHand hand);
+
+		double settle(PlayerHand hand, BlackjackParticipant dealer);
+	}
+
+	/**
+	 * Legacy settlement: totals decide, and a seat reaching 21 in three or more cards wins without
+	 * the dealer drawing further.
+	 */
+	private static final class TotalsOnlySettlement implements HandSettlement
+	{
+		private final double blackjackWin;
+
+		TotalsOnlySettlement(double blackjackWin)
+		{
+			this.blackjackWin = blackjackWin;
+		}
+
+		@Override
+		public boolean needsDealerTurn(PlayerHand hand)
+		{
+			return hand.isLive() && (hand.calculateTotalHandValue() < 21 || hand.hasBlackjackImmediately());
+		}
+
+		@Override
+		public double settle(PlayerHand hand, BlackjackParticipant dealer)
+		{
+			double stake = hand.isDoubled() ? 2.0 : 1.0;
+			if (hand.isSurrendered())
+			{
+				return -0.5;
+			}
+			if (hand.isHandBusted())
+			{
+				return -stake;
+			}
+			int playerTotal = hand.calculateTotalHandValue();
+			int dealerTotal = dealer.calculateTotalHandValue();
+			if (dealer.isHandBusted() || playerTotal > dealerTotal)
+			{
+				return hand.hasBlackjackImmediately() ? blackjackWin : stake;
+			}
+			return playerTotal < dealerTotal ? -stake : 0.0;
+		}
+	}
+
+	/**
+	 * Casino settlement: a natural beats every other 21 and pushes only against a dealer natural.
+	 * The dealer has already peeked, so naturals never need the dealer to draw.
+	 */
+	private static final class CasinoSettlement implements HandSettlement
+	{
+		private final double blackjackWin;
+
+		CasinoSettlement(double blackjackWin)
+		{
+			this.blackjackWin = blackjackWin;
+		}
+
+		@Override
+		public boolean needsDealerTurn(PlayerHand hand)
+		{
+			return hand.isLive() && !hand.hasBlackjackImmediately();
+		}
+
+		@Override
+		public double settle(PlayerHand hand, BlackjackParticipant dealer)
+		{
+			double stake = hand.isDoubled() ? 2.0 : 1.0;
+			if (hand.isSurrendered())
+			{
+				return -0.5;
+			}
+			if (hand.isHandBusted())
+			{
+				return -stake;
+			}
+			boolean dealerNatural = dealer.hasBlackjackImmediately();
+			if (hand.hasBlackjackImmediately())
+			{
+				return dealerNatural ? 0.0 : blackjackWin;
+			}
+			if (dealerNatural)
+			{
+				return -stake;
+			}
+			int playerTotal = hand.calculateTotalHandValue();
+			int dealerTotal = dealer.calculateTotalHandValue();
+			if (dealer.isHandBusted() || playerTotal > dealerTotal)
+			{
+				return stake;
+			}
+			return playerTotal < dealerTotal ? -stake : 0.0;
+		}
+	}
+}
@@ -0,0 +1,70 @@
+package blackjack.rules;
+
+import blackjack.util.BlackjackParticipant;
+
+/**
+ * How the dealer decides to stop drawing. Every constant carries its own stopping test, so a table
+ * picks the specialized code once when it is created instead of checking the rule on every step.
+ * Running out of cards and reaching 21 or busting always end the dealer's turn and are checked by the engine.
+ */
+public enum DealerStandRule
+{
+	/**
+	 * Original table rule: the dealer stops at 17 or more unless still behind the best live player hand.
+	 * Hands are settled on totals only and the dealer never peeks for blackjack.
+	 */
+	LEGACY_NOT_BEHIND_PLAYER(false)
+	{
+		@Override
+		public boolean shouldStand(BlackjackParticipant dealer, int bestLivePlayerTotal)
+		{
+			int dealerTotal = dealer.calculateTotalHandValue();
+			return dealerTotal >= 17 && dealerTotal >= bestLivePlayerTotal;
+		}
+	},
+
+	/** Dealer stands on every 17, soft or hard (S17). */
+	STAND_ON_SOFT_17(true)
+	{
+		@Override
+		public boolean shouldStand(BlackjackParticipant dealer, int bestLivePlayerTotal)
+		{
+			return dealer.calculateTotalHandValue() >= 17;
+		}
+	},
+
+	/** Dealer hits soft 17 and stands on hard 17 or any 18 and above (H17). */
+	HIT_ON_SOFT_17(true)
+	{
+		@Override
+		public boolean shouldStand(BlackjackParticipant dealer, int bestLivePlayerTotal)
+		{
+			int dealerTotal = dealer.calculateTotalHandValue();
+			return dealerTotal >= 18 || (dealerTotal == 17 && !dealer.isSoftHand());
+		}
+	};
+
+	private final boolean casinoSettlement;
+
+	DealerStandRule(boolean casinoSettlement)
+	{
+		this.casinoSettlement = casinoSettlement;
+	}
+
+	/**
+	 * Checks whether the dealer stops drawing with the current hand.
+	 * @param dealer the dealer's hand, not busted and below 21
+	 * @param bestLivePlayerTotal highest total of the player hands still in play, 0 if none
+	 * @return true if the dealer stands
+	 */
+	public abstract boolean shouldStand(BlackjackParticipant dealer, int bestLivePlayerTotal);
+
+	/**
+	 * Checks whether the dealer peeks for blackjack and naturals beat other 21s, as in casinos.
+	 * @return false for the legacy rule, which settles on totals only
+	 */
+	public boolean isCasinoSettlement()
+	{
+		return casinoSettlement;
+	}
+}
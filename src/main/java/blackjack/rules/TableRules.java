@@ -0,0 +1,244 @@
+package blackjack.rules;
+
+import java.util.Locale;
+
+/**
+ * Immutable rule set of a table: dealer rule, blackjack payout, doubling, splitting and surrender.
+ * An engine resolves its rules once, when it is created, through {@link #compile()}.
+ */
+public final class TableRules
+{
+	/** Largest number of hands one seat may hold after splitting */
+	public static final int MAXIMUM_HANDS_PER_SEAT = 4;
+
+	private static final TableRules LEGACY = builder().build();
+
+	private static final TableRules CASINO_STANDARD = builder()
+			.dealerStandRule(DealerStandRule.STAND_ON_SOFT_17)
+			.blackjackPayout(BlackjackPayout.THREE_TO_TWO)
+			.doubleDownAllowed(true)
+			.doubleAfterSplit(true)
+			.lateSurrender(true)
+			.maximumHandsPerSeat(MAXIMUM_HANDS_PER_SEAT)
+			.build();
+
+	private final DealerStandRule dealerStandRule;
+	private final BlackjackPayout blackjackPayout;
+	private final boolean doubleDownAllowed;
+	private final boolean doubleAfterSplit;
+	private final boolean lateSurrender;
+	private final int maximumHandsPerSeat;
+
+	private TableRules(Builder builder)
+	{
+		this.dealerStandRule = builder.dealerStandRule;
+		this.blackjackPayout = builder.blackjackPayout;
+		this.doubleDownAllowed = builder.doubleDownAllowed;
+		this.doubleAfterSplit = builder.doubleAfterSplit;
+		this.lateSurrender = builder.lateSurrender;
+		this.maximumHandsPerSeat = builder.maximumHandsPerSeat;
+	}
+
+	/**
+	 * Returns the original rules of this game: legacy dealer rule, even money for a natural and
+	 * hit or stay only.
+	 * @return legacy rule set
+	 */
+	public static TableRules legacy()
+	{
+		return LEGACY;
+	}
+
+	/**
+	 * Returns common casino rules: S17, 3:2, double on any two cards including after a split,
+	 * late surrender and splits up to four hands.
+	 * @return casino rule set
+	 */
+	public static TableRules casinoStandard()
+	{
+		return CASINO_STANDARD;
+	}
+
+	/**
+	 * Returns a preset by name, as given on the command line.
+	 * @param name "legacy" or "casino" (case-insensitive)
+	 * @return matching rule set
+	 */
+	public static TableRules fromName(String name)
+	{
+		switch (name.toLowerCase(Locale.ROOT))
+		{
+			case "legacy":
+				return LEGACY;
+			case "casino":
+				return CASINO_STANDARD;
+			default:
+				throw new IllegalArgumentException("Unknown rule set: " + name);
+		}
+	}
+
+	/**
+	 * Starts a rule set from the legacy defaults.
+	 * @return new builder
+	 */
+	public static Builder builder()
+	{
+		return new Builder();
+	}
+
+	/**
+	 * Resolves these rules into the dealer and settlement code used by an engine.
+	 * @return compiled rules
+	 */
+	public CompiledTableRules compile()
+	{
+		return new CompiledTableRules(this);
+	}
+
+	public DealerStandRule getDealerStandRule()
+	{
+		return dealerStandRule;
+	}
+
+	public BlackjackPayout getBlackjackPayout()
+	{
+		return blackjackPayout;
+	}
+
+	public boolean isDoubleDownAllowed()
+	{
+		return doubleDownAllowed;
+	}
+
+	public boolean isDoubleAfterSplit()
+	{
+		return doubleAfterSplit;
+	}
+
+	public boolean isLateSurrender()
+	{
+		return lateSurrender;
+	}
+
+	/**
+	 * Gets the number of hands a seat may hold; 1 means splitting is not allowed.
+	 * @return hand limit between 1 and MAXIMUM_HANDS_PER_SEAT
+	 */
+	public int getMaximumHandsPerSeat()
+	{
+		return maximumHandsPerSeat;
+	}
+
+	/**
+	 * Returns a short description, e.g. "S17, BJ 3:2, DAS, LS, split to 4".
+	 */
+	@Override
+	public String toString()
+	{
+		StringBuilder description = new StringBuilder();
+		switch (dealerStandRule)
+		{
+			case STAND_ON_SOFT_17:
+				description.append("S17");
+				break;
+			case HIT_ON_SOFT_17:
+				description.append("H17");
+				break;
+			default:
+				description.append("Legacy dealer");
+				break;
+		}
+		description.append(", BJ ").append(blackjackPayout);
+		if (doubleDownAllowed)
+		{
+			description.append(doubleAfterSplit ? ", DAS" : ", double");
+		}
+		if (lateSurrender)
+		{
+			description.append(", LS");
+		}
+		if (maximumHandsPerSeat > 1)
+		{
+			description.append(", split to ").append(maximumHandsPerSeat);
+		}
+		return description.toString();
+	}
+
+	/**
+	 * Collects rule options; starts from the legacy rules.
+	 */
+	public static final class Builder
+	{
+		private DealerStandRule dealerStandRule = DealerStandRule.LEGACY_NOT_BEHIND_PLAYER;
+		private BlackjackPayout blackjackPayout = BlackjackPayout.EVEN_MONEY;
+		private boolean doubleDownAllowed;
+		private boolean doubleAfterSplit;
+		private boolean lateSurrender;
+		private int maximumHandsPerSeat = 1;
+
+		private Builder()
+		{
+		}
+
+		public Builder dealerStandRule(DealerStandRule dealerStandRule)
+		{
+			if (dealerStandRule == null)
+			{
+				throw new IllegalArgumentException("Dealer stand rule must not be null.");
+			}
+			this.dealerStandRule = dealerStandRule;
+			return this;
+		}
+
+		public Builder blackjackPayout(BlackjackPayout blackjackPayout)
+		{
+			if (blackjackPayout == null)
+			{
+				throw new IllegalArgumentException("Blackjack payout must not be null.");
+			}
+			this.blackjackPayout = blackjackPayout;
+			return this;
+		}
+
+		public Builder doubleDownAllowed(boolean doubleDownAllowed)
+		{
+			this.doubleDownAllowed = doubleDownAllowed;
+			return this;
+		}
+
+		/**
+		 * Allows doubling on a hand created by a split; only effective when doubling is allowed.
+		 */
+		public Builder doubleAfterSplit(boolean doubleAfterSplit)
+		{
+			this.doubleAfterSplit = doubleAfterSplit;
+			return this;
+		}
+
+		public Builder lateSurrender(boolean lateSurrender)
+		{
+			this.lateSurrender = lateSurrender;
+			return this;
+		}
+
+		/**
+		 * Sets how many hands a seat may hold after splitting and resplitting. Split aces receive
+		 * one card each and are never resplit.
+		 * @param maximumHandsPerSeat 1 (no splits) to MAXIMUM_HANDS_PER_SEAT
+		 */
+		public Builder maximumHandsPerSeat(int maximumHandsPerSeat)
+		{
+			if (maximumHandsPerSeat < 1 || maximumHandsPerSeat > MAXIMUM_HANDS_PER_SEAT)
+			{
+				throw new IllegalArgumentException("Hands per seat must be between 1 and " + MAXIMUM_HANDS_PER_SEAT + ": " + maximumHandsPerSeat);
+			}
+			this.maximumHandsPerSeat = maximumHandsPerSeat;
+			return this;
+		}
+
+		public TableRules build()
+		{
+			return new TableRules(this);
+		}
+	}
+}
@@ -0,0 +1,215 @@
+package blackjack.simulation;
+
+import blackjack.engine.BlackjackGameEngine;
+import blackjack.engine.HeadlessRoundExecutor;
+import blackjack.engine.PlayerDecisionStrategy;
+import blackjack.engine.RoundOutcome;
+import blackjack.model.ShuffleRandomSource;
+import blackjack.model.StandardDeckCardManager;
+import blackjack.rules.TableRules;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+/**
+ * Runs headless rounds in parallel on a fork-join pool.
+ * Every worker owns its deck, engine and random generator, so workers never share mutable state
+ * and results are merged only once at the end.
+ * Workers deal from a single deck reshuffled every round unless a multi-deck shoe is configured.
+ */
+public class MonteCarloSimulator
+{
+	private final int workerCount;
+	private final long baseSeed;
+	private final int deckCount;
+	private final double penetration;
+	private final TableRules tableRules;
+
+	/**
+	 * Creates a simulator using one worker per available core.
+	 * @param baseSeed seed from which every worker's generator is derived
+	 */
+	public MonteCarloSimulator(long baseSeed)
+	{
+		this(Runtime.getRuntime().availableProcessors(), baseSeed);
+	}
+
+	/**
+	 * Creates a simulator with a fixed number of workers.
+	 * @param workerCount number of parallel workers
+	 * @param baseSeed seed from which every worker's generator is derived
+	 */
+	public MonteCarloSimulator(int workerCount, long baseSeed)
+	{
+		this(workerCount, baseSeed, 1, 0.0);
+	}
+
+	/**
+	 * Creates a simulator whose workers deal from multi-deck shoes with a cut card, e.g. to compare
+	 * count-based strategies.
+	 * @param workerCount number of parallel workers
+	 * @param baseSeed seed from which every worker's generator is derived
+	 * @param deckCount decks per shoe
+	 * @param penetration fraction of each shoe dealt before reshuffling
+	 */
+	public MonteCarloSimulator(int workerCount, long baseSeed, int deckCount, double penetration)
+	{
+		this(workerCount, baseSeed, deckCount, penetration, TableRules.legacy());
+	}
+
+	/**
+	 * Creates a simulator whose workers play under the given table rules, so expected values include
+	 * blackjack payouts, doubles, splits and surrenders.
+	 * @param workerCount number of parallel workers
+	 * @param baseSeed seed from which every worker's generator is derived
+	 * @param deckCount decks per shoe
+	 * @param penetration fraction of each shoe dealt before reshuffling
+	 * @param tableRules rules of every worker's table
+	 */
+	public MonteCarloSimulator(int workerCount, long baseSeed, int deckCount, double penetration, TableRules tableRules)
+	{
+		if (workerCount < 1)
+		{
+			throw new IllegalArgumentException("Worker count must be positive: " + workerCount);
+		}
+		this.workerCount = workerCount;
+		this.baseSeed = baseSeed;
+		this.deckCount = deckCount;
+		this.penetration = penetration;
+		this.tableRules = tableRules;
+	}
+
+	public int getWorkerCount()
+	{
+		return workerCount;
+	}
+
+	/**
+	 * Plays the given number of rounds split evenly over all workers.
+	 * @param roundCount total rounds to play
+	 * @param strategy player strategy shared by all workers (must be stateless)
+	 * @return merged result of all workers
+	 */
+	public SimulationResult run(long roundCount, PlayerDecisionStrategy strategy)
+	{
+		return run(roundCount, engine -> strategy);
+	}
+
+	/**
+	 * Plays the given number of rounds split evenly over all workers, creating one strategy per worker
+	 * engine. Used for strategies that read engine state, such as the running count.
+	 * @param roundCount total rounds to play
+	 * @param strategyFactory creates the strategy for a worker's engine
+	 * @return merged result of all workers
+	 */
+	public SimulationResult run(long roundCount, Function<BlackjackGameEngine, PlayerDecisionStrategy> strategyFactory)
+	{
+		ForkJoinPool pool = new ForkJoinPool(workerCount);
+		try
+		{
+			return run(roundCount, strategyFactory, pool);
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Plays the rounds on a pool owned by the caller, so repeated runs (e.g. evaluation batches) share one pool.
+	 * @param roundCount total rounds to play
+	 * @param strategyFactory creates the strategy for a worker's engine
+	 * @param pool pool running the workers; left open
+	 * @return merged result of all workers
+	 */
+	SimulationResult run(long roundCount, Function<BlackjackGameEngine, PlayerDecisionStrategy> strategyFactory, ForkJoinPool pool)
+	{
+		SplittableRandom seedSource = new SplittableRandom(baseSeed);
+		List<WorkerTask> tasks = new ArrayList<>(workerCount);
+		for (int i = 0; i < workerCount; i++)
+		{
+			long share = roundCount / workerCount + (i < roundCount % workerCount ? 1 : 0);
+			tasks.add(new WorkerTask(share, strategyFactory, seedSource.nextLong(), deckCount, penetration, tableRules));
+		}
+
+		long startNanos = System.nanoTime();
+		SimulationResult merged = pool.invoke(new MergeTask(tasks));
+		merged.setElapsedNanos(System.nanoTime() - startNanos);
+		return merged;
+	}
+
+	/**
+	 * Forks every worker and merges their results.
+	 */
+	private static class MergeTask extends RecursiveTask<SimulationResult>
+	{
+		private final List<WorkerTask> workers;
+
+		MergeTask(List<WorkerTask> workers)
+		{
+			this.workers = workers;
+		}
+
+		@Override
+		protected SimulationResult compute()
+		{
+			invokeAll(workers);
+			SimulationResult merged = new SimulationResult();
+			for (WorkerTask worker : workers)
+			{
+				merged.merge(worker.join());
+			}
+			return merged;
+		}
+	}
+
+	/**
+	 * Plays a share of the rounds on a private deck and engine.
+	 */
+	private static class WorkerTask extends RecursiveTask<SimulationResult>
+	{
+		private final long roundCount;
+		private final Function<BlackjackGameEngine, PlayerDecisionStrategy> strategyFactory;
+		private final long seed;
+		private final int deckCount;
+		private final double penetration;
+		private final TableRules tableRules;
+
+		WorkerTask(long roundCount, Function<BlackjackGameEngine, PlayerDecisionStrategy> strategyFactory, long seed,
+				int deckCount, double penetration, TableRules tableRules)
+		{
+			this.roundCount = roundCount;
+			this.strategyFactory = strategyFactory;
+			this.seed = seed;
+			this.deckCount = deckCount;
+			this.penetration = penetration;
+			this.tableRules = tableRules;
+		}
+
+		@Override
+		protected SimulationResult compute()
+		{
+			StandardDeckCardManager deck = new StandardDeckCardManager(
+					ShuffleRandomSource.fromRandom(new Random(seed)), deckCount, penetration);
+			BlackjackGameEngine engine = new BlackjackGameEngine(true, deck, 1, tableRules);
+			HeadlessRoundExecutor executor = new HeadlessRoundExecutor(engine);
+			PlayerDecisionStrategy strategy = strategyFactory.apply(engine);
+			SimulationResult result = new SimulationResult();
+
+			long startNanos = System.nanoTime();
+			for (long i = 0; i < roundCount; i++)
+			{
+				RoundOutcome outcome = executor.playRound(strategy);
+				result.recordRound(outcome, engine.getLastRoundNet(0), engine.getSeat(0).calculateTotalHandValue(),
+						engine.getDealer().calculateTotalHandValue(), engine.getSeat(0).getNumberOfCardsInHand());
+			}
+			result.setElapsedNanos(System.nanoTime() - startNanos);
+			return result;
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package blackjack.simulation;
+
+/**
+ * Running means and co-moments for paired per-round outcomes (x, y), from which the variances and the
+ * covariance follow. Updates are Welford-style, as in {@link blackjack.stats.OutcomeStatistics}, so long
+ * runs do not lose precision to the cancellation of large sums of squares.
+ * Workers accumulate their own instance and the results are combined with {@link #merge(PairedSampleStatistics)}.
+ */
+public class PairedSampleStatistics
+{
+	private long pairCount;
+	private double meanX;
+	private double meanY;
+	private double comomentXX;
+	private double comomentYY;
+	private double comomentXY;
+
+	/**
+	 * Records one pair of outcomes.
+	 * @param x first outcome
+	 * @param y second outcome
+	 */
+	public void record(double x, double y)
+	{
+		pairCount++;
+		double deltaX = x - meanX;
+		double deltaY = y - meanY;
+		meanX += deltaX / pairCount;
+		meanY += deltaY / pairCount;
+		comomentXX += deltaX * (x - meanX);
+		comomentYY += deltaY * (y - meanY);
+		comomentXY += deltaX * (y - meanY);
+	}
+
+	/**
+	 * Adds the pairs of another instance to this one.
+	 * @param other statistics to merge in
+	 * @return this instance
+	 */
+	public PairedSampleStatistics merge(PairedSampleStatistics other)
+	{
+		if (other.pairCount == 0)
+		{
+			return this;
+		}
+		long combinedCount = pairCount + other.pairCount;
+		double deltaX = other.meanX - meanX;
+		double deltaY = other.meanY - meanY;
+		double weight = (double) pairCount * other.pairCount / combinedCount;
+		meanX += deltaX * other.pairCount / combinedCount;
+		meanY += deltaY * other.pairCount / combinedCount;
+		comomentXX += other.comomentXX + deltaX * deltaX * weight;
+		comomentYY += other.comomentYY + deltaY * deltaY * weight;
+		comomentXY += other.comomentXY + deltaX * deltaY * weight;
+		pairCount = combinedCount;
+		return this;
+	}
+
+	public long getPairCount()
+	{
+		return pairCount;
+	}
+
+	public double getMeanX()
+	{
+		return meanX;
+	}
+
+	public double getMeanY()
+	{
+		return meanY;
+	}
+
+	/**
+	 * Sample variance of x.
+	 */
+	public double getVarianceX()
+	{
+		return sample(comomentXX);
+	}
+
+	/**
+	 * Sample variance of y.
+	 */
+	public double getVarianceY()
+	{
+		return sample(comomentYY);
+	}
+
+	/**
+	 * Sample covariance of x and y.
+	 */
+	public double getCovariance()
+	{
+		return sample(comomentXY);
+	}
+
+	private double sample(double comoment)
+	{
+		return pairCount < 2 ? 0.0 : comoment / (pairCount - 1);
+	}
+}
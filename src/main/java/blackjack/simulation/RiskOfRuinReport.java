@@ -0,0 +1,45 @@
+package blackjack.simulation;
+
+import blackjack.bankroll.Bankroll;
+import blackjack.bankroll.BettingStrategy;
+import blackjack.rules.TableRules;
+import blackjack.strategy.BasicStrategyChart;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Command-line risk-of-ruin comparison of flat betting, a Hi-Lo bet spread and Kelly fractions,
+ * playing the basic strategy chart at a six-deck casino table with a bankroll of 100 table minimums.
+ * Usage: {@code java blackjack.simulation.RiskOfRuinReport [trajectories] [roundsPerTrajectory]}
+ */
+public class RiskOfRuinReport
+{
+	private static final double INITIAL_BALANCE = 1000.0;
+	private static final double MINIMUM_WAGER = 10.0;
+
+	public static void main(String[] args)
+	{
+		int trajectories = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+		int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 1_000;
+		RiskOfRuinSimulator simulator = new RiskOfRuinSimulator(
+				Runtime.getRuntime().availableProcessors(), 42L, 6, 0.75, TableRules.casinoStandard());
+
+		Map<String, BettingStrategy> bettingStrategies = new LinkedHashMap<>();
+		bettingStrategies.put("Flat minimum", BettingStrategy.flat(MINIMUM_WAGER));
+		bettingStrategies.put("Hi-Lo spread 1-8", BettingStrategy.countSpread(MINIMUM_WAGER, 1, 1, 2, 4, 6, 8));
+		bettingStrategies.put("Full Kelly", BettingStrategy.kellyFraction(1.0, MINIMUM_WAGER));
+		bettingStrategies.put("Half Kelly", BettingStrategy.kellyFraction(0.5, MINIMUM_WAGER));
+
+		for (Map.Entry<String, BettingStrategy> entry : bettingStrategies.entrySet())
+		{
+			BettingStrategy bettingStrategy = entry.getValue();
+			RiskOfRuinResult result = simulator.run(trajectories, rounds,
+					() -> new Bankroll(INITIAL_BALANCE, MINIMUM_WAGER, bettingStrategy),
+					engine -> BasicStrategyChart.getInstance().asDecisionStrategy(engine));
+			System.out.println(entry.getKey());
+			System.out.println(result.getSummary());
+			System.out.println();
+		}
+	}
+}
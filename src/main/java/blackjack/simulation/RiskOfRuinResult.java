@@ -0,0 +1,155 @@
+package blackjack.simulation;
+
+import java.util.Arrays;
+
+/**
+ * Outcome of a risk-of-ruin run: how many bankrolls were ruined, when, and the percentiles of the
+ * balance at evenly spaced checkpoints (the percentile bankroll curves).
+ */
+public class RiskOfRuinResult
+{
+	/** Percentiles listed by {@link #getSummary()} */
+	public static final double[] SUMMARY_PERCENTILES = {5, 25, 50, 75, 95};
+
+	private final int[] checkpointRounds;
+	// Balances of every trajectory at each checkpoint, sorted ascending per checkpoint
+	private final double[][] sortedBalances;
+	private final int trajectoryCount;
+	private final int ruinedCount;
+	private final double meanRoundsToRuin;
+	private final long elapsedNanos;
+
+	/**
+	 * Creates a result; sorts the balance columns in place.
+	 * @param checkpointRounds rounds played at each checkpoint, starting with 0
+	 * @param balances balance of every trajectory per checkpoint
+	 * @param ruinRounds round at which each trajectory was ruined, or 0 if it survived
+	 * @param elapsedNanos wall-clock time of the run
+	 */
+	RiskOfRuinResult(int[] checkpointRounds, double[][] balances, int[] ruinRounds, long elapsedNanos)
+	{
+		this.checkpointRounds = checkpointRounds;
+		this.sortedBalances = balances;
+		for (double[] column : sortedBalances)
+		{
+			Arrays.sort(column);
+		}
+		trajectoryCount = ruinRounds.length;
+		int ruined = 0;
+		long roundsToRuin = 0;
+		for (int ruinRound : ruinRounds)
+		{
+			if (ruinRound > 0)
+			{
+				ruined++;
+				roundsToRuin += ruinRound;
+			}
+		}
+		ruinedCount = ruined;
+		meanRoundsToRuin = ruined == 0 ? 0.0 : (double) roundsToRuin / ruined;
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	public int getTrajectoryCount()
+	{
+		return trajectoryCount;
+	}
+
+	public int getRuinedCount()
+	{
+		return ruinedCount;
+	}
+
+	/**
+	 * Returns the fraction of trajectories ruined within the simulated rounds.
+	 */
+	public double getRuinProbability()
+	{
+		return (double) ruinedCount / trajectoryCount;
+	}
+
+	/**
+	 * Returns the standard error of the ruin probability.
+	 */
+	public double getRuinStandardError()
+	{
+		double p = getRuinProbability();
+		return Math.sqrt(p * (1 - p) / trajectoryCount);
+	}
+
+	/**
+	 * Returns the mean number of rounds a ruined bankroll lasted, or 0 if none was ruined.
+	 */
+	public double getMeanRoundsToRuin()
+	{
+		return meanRoundsToRuin;
+	}
+
+	/**
+	 * Returns the number of rounds played at each checkpoint; the first is 0, the start.
+	 */
+	public int[] getCheckpointRounds()
+	{
+		return checkpointRounds.clone();
+	}
+
+	/**
+	 * Returns a balance percentile at one checkpoint (nearest rank).
+	 * @param percentile percentile between 0 and 100
+	 * @param checkpoint index into {@link #getCheckpointRounds()}
+	 */
+	public double getPercentile(double percentile, int checkpoint)
+	{
+		if (percentile < 0 || percentile > 100)
+		{
+			throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+		}
+		double[] column = sortedBalances[checkpoint];
+		int rank = (int) Math.ceil(percentile / 100.0 * column.length);
+		return column[Math.max(0, rank - 1)];
+	}
+
+	/**
+	 * Returns the balance percentile at every checkpoint, i.e. one percentile bankroll curve.
+	 * @param percentile percentile between 0 and 100
+	 */
+	public double[] getPercentileCurve(double percentile)
+	{
+		double[] curve = new double[checkpointRounds.length];
+		for (int checkpoint = 0; checkpoint < curve.length; checkpoint++)
+		{
+			curve[checkpoint] = getPercentile(percentile, checkpoint);
+		}
+		return curve;
+	}
+
+	public long getElapsedNanos()
+	{
+		return elapsedNanos;
+	}
+
+	/**
+	 * Returns the ruin probability followed by a table of the percentile curves.
+	 */
+	public String getSummary()
+	{
+		StringBuilder summary = new StringBuilder(String.format(
+				"Trajectories: %d, Ruined: %d, Risk of ruin: %.4f +/- %.4f, Mean rounds to ruin: %.0f, Time: %.2f s%n",
+				trajectoryCount, ruinedCount, getRuinProbability(), getRuinStandardError(), meanRoundsToRuin,
+				elapsedNanos / 1e9));
+		summary.append(String.format("%8s", "Round"));
+		for (double percentile : SUMMARY_PERCENTILES)
+		{
+			summary.append(String.format("%12s", "p" + (int) percentile));
+		}
+		for (int checkpoint = 0; checkpoint < checkpointRounds.length; checkpoint++)
+		{
+			summary.append(String.format("%n%8d", checkpointRounds[checkpoint]));
+			for (double percentile : SUMMARY_PERCENTILES)
+			{
+				summary.append(String.format("%12.2f", getPercentile(percentile, checkpoint)));
+			}
+		}
+		return summary.toString();
+	}
+}
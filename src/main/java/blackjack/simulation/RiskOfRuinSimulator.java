@@ -0,0 +1,224 @@
+package blackjack.simulation;
+
+import blackjack.bankroll.Bankroll;
+import blackjack.engine.BlackjackGameEngine;
+import blackjack.engine.HeadlessRoundExecutor;
+import blackjack.engine.PlayerDecisionStrategy;
+import blackjack.model.ShuffleRandomSource;
+import blackjack.model.StandardDeckCardManager;
+import blackjack.rules.TableRules;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Plays many independent bankroll trajectories in parallel on a fork-join pool and measures how
+ * often the bankroll is ruined and how its balance spreads out over time.
+ * Every trajectory deals from its own freshly shuffled shoe whose seed depends only on the base seed
+ * and the trajectory's index, so results are identical for any number of workers. A trajectory stops
+ * at ruin and keeps its final balance for the remaining checkpoints.
+ */
+public class RiskOfRuinSimulator
+{
+	// Tasks per worker, so workers that finish early can steal the trajectories of slow ones
+	private static final int TASKS_PER_WORKER = 8;
+
+	private final int workerCount;
+	private final long baseSeed;
+	private final int deckCount;
+	private final double penetration;
+	private final TableRules tableRules;
+	private int checkpointCount = 20;
+
+	/**
+	 * Creates a simulator dealing from multi-deck shoes with a cut card.
+	 * @param workerCount number of parallel workers
+	 * @param baseSeed seed from which every trajectory's shoe is derived
+	 * @param deckCount decks per shoe
+	 * @param penetration fraction of each shoe dealt before reshuffling
+	 * @param tableRules rules of every trajectory's table
+	 */
+	public RiskOfRuinSimulator(int workerCount, long baseSeed, int deckCount, double penetration, TableRules tableRules)
+	{
+		if (workerCount < 1)
+		{
+			throw new IllegalArgumentException("Worker count must be positive: " + workerCount);
+		}
+		this.workerCount = workerCount;
+		this.baseSeed = baseSeed;
+		this.deckCount = deckCount;
+		this.penetration = penetration;
+		this.tableRules = tableRules;
+	}
+
+	/**
+	 * Sets into how many equal stretches of rounds the bankroll curves are divided.
+	 * @return this simulator
+	 */
+	public RiskOfRuinSimulator setCheckpointCount(int checkpointCount)
+	{
+		if (checkpointCount < 1)
+		{
+			throw new IllegalArgumentException("Checkpoint count must be positive: " + checkpointCount);
+		}
+		this.checkpointCount = checkpointCount;
+		return this;
+	}
+
+	/**
+	 * Plays the trajectories with one player strategy.
+	 * @param trajectoryCount number of independent bankrolls
+	 * @param roundsPerTrajectory most rounds each bankroll plays
+	 * @param bankrollFactory creates a fresh bankroll per trajectory
+	 * @param strategy player strategy (must be stateless)
+	 * @return ruin probability and bankroll percentiles
+	 */
+	public RiskOfRuinResult run(int trajectoryCount, int roundsPerTrajectory, Supplier<Bankroll> bankrollFactory,
+			PlayerDecisionStrategy strategy)
+	{
+		return run(trajectoryCount, roundsPerTrajectory, bankrollFactory, engine -> strategy);
+	}
+
+	/**
+	 * Plays the trajectories, creating one player strategy per trajectory engine.
+	 * @param trajectoryCount number of independent bankrolls
+	 * @param roundsPerTrajectory most rounds each bankroll plays
+	 * @param bankrollFactory creates a fresh bankroll per trajectory
+	 * @param strategyFactory creates the strategy for a trajectory's engine
+	 * @return ruin probability and bankroll percentiles
+	 */
+	public RiskOfRuinResult run(int trajectoryCount, int roundsPerTrajectory, Supplier<Bankroll> bankrollFactory,
+			Function<BlackjackGameEngine, PlayerDecisionStrategy> strategyFactory)
+	{
+		if (trajectoryCount < 1 || roundsPerTrajectory < 1)
+		{
+			throw new IllegalArgumentException("Trajectory and round counts must be positive");
+		}
+		int checkpoints = Math.min(checkpointCount, roundsPerTrajectory);
+		int[] checkpointRounds = new int[checkpoints + 1];
+		for (int k = 0; k <= checkpoints; k++)
+		{
+			checkpointRounds[k] = (int) ((long) roundsPerTrajectory * k / checkpoints);
+		}
+
+		SplittableRandom seedSource = new SplittableRandom(baseSeed);
+		long[] seeds = new long[trajectoryCount];
+		for (int i = 0; i < trajectoryCount; i++)
+		{
+			seeds[i] = seedSource.nextLong();
+		}
+
+		Trajectories trajectories = new Trajectories(checkpointRounds, trajectoryCount);
+		int batchSize = Math.max(1, trajectoryCount / (workerCount * TASKS_PER_WORKER));
+		ForkJoinPool pool = new ForkJoinPool(workerCount);
+		try
+		{
+			long startNanos = System.nanoTime();
+			pool.invoke(new TrajectoryTask(trajectories, seeds, 0, trajectoryCount, batchSize, bankrollFactory, strategyFactory));
+			long elapsedNanos = System.nanoTime() - startNanos;
+			return new RiskOfRuinResult(checkpointRounds, trajectories.balances, trajectories.ruinRounds, elapsedNanos);
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Results of all trajectories; every trajectory writes only its own slots.
+	 */
+	private static class Trajectories
+	{
+		final int[] checkpointRounds;
+		// balances[checkpoint][trajectory], so each checkpoint's column is sorted in one piece
+		final double[][] balances;
+		// Round at which the bankroll was ruined, or 0 if it survived
+		final int[] ruinRounds;
+
+		Trajectories(int[] checkpointRounds, int trajectoryCount)
+		{
+			this.checkpointRounds = checkpointRounds;
+			balances = new double[checkpointRounds.length][trajectoryCount];
+			ruinRounds = new int[trajectoryCount];
+		}
+	}
+
+	/**
+	 * Plays a range of trajectories, splitting it until it is no larger than one batch.
+	 */
+	private class TrajectoryTask extends RecursiveAction
+	{
+		private final Trajectories trajectories;
+		private final long[] seeds;
+		private final int from;
+		private final int to;
+		private final int batchSize;
+		private final Supplier<Bankroll> bankrollFactory;
+		private final Function<BlackjackGameEngine, PlayerDecisionStrategy> strategyFactory;
+
+		TrajectoryTask(Trajectories trajectories, long[] seeds, int from, int to, int batchSize,
+				Supplier<Bankroll> bankrollFactory, Function<BlackjackGameEngine, PlayerDecisionStrategy> strategyFactory)
+		{
+			this.trajectories = trajectories;
+			this.seeds = seeds;
+			this.from = from;
+			this.to = to;
+			this.batchSize = batchSize;
+			this.bankrollFactory = bankrollFactory;
+			this.strategyFactory = strategyFactory;
+		}
+
+		@Override
+		protected void compute()
+		{
+			if (to - from > batchSize)
+			{
+				int middle = (from + to) >>> 1;
+				invokeAll(new TrajectoryTask(trajectories, seeds, from, middle, batchSize, bankrollFactory, strategyFactory),
+						new TrajectoryTask(trajectories, seeds, middle, to, batchSize, bankrollFactory, strategyFactory));
+				return;
+			}
+			for (int i = from; i < to; i++)
+			{
+				playTrajectory(i);
+			}
+		}
+
+		private void playTrajectory(int trajectory)
+		{
+			StandardDeckCardManager shoe = new StandardDeckCardManager(
+					ShuffleRandomSource.seeded(seeds[trajectory]), deckCount, penetration);
+			BlackjackGameEngine engine = new BlackjackGameEngine(true, shoe, 1, tableRules);
+			Bankroll bankroll = bankrollFactory.get();
+			engine.setSeatBankroll(0, bankroll);
+			HeadlessRoundExecutor executor = new HeadlessRoundExecutor(engine);
+			PlayerDecisionStrategy strategy = strategyFactory.apply(engine);
+
+			int[] checkpointRounds = trajectories.checkpointRounds;
+			double[][] balances = trajectories.balances;
+			balances[0][trajectory] = bankroll.getBalance();
+			int checkpoint = 1;
+			int lastRound = checkpointRounds[checkpointRounds.length - 1];
+			for (int round = 1; round <= lastRound; round++)
+			{
+				executor.playRound(strategy);
+				if (round == checkpointRounds[checkpoint])
+				{
+					balances[checkpoint++][trajectory] = bankroll.getBalance();
+				}
+				if (bankroll.isRuined())
+				{
+					trajectories.ruinRounds[trajectory] = round;
+					break;
+				}
+			}
+			for (; checkpoint < checkpointRounds.length; checkpoint++)
+			{
+				balances[checkpoint][trajectory] = bankroll.getBalance();
+			}
+		}
+	}
+}
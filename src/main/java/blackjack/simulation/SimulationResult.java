@@ -0,0 +1,179 @@
+package blackjack.simulation;
+
+import blackjack.engine.RoundOutcome;
+import blackjack.stats.OutcomeStatistics;
+
+/**
+ * Aggregated outcome counts and net winnings of a simulation run.
+ * Expected value and standard error come from the Welford accumulator in the run's
+ * {@link OutcomeStatistics}, which every recorded round feeds.
+ * Results of independent workers are combined with {@link #merge(SimulationResult)}.
+ */
+public class SimulationResult
+{
+	private long wins;
+	private long losses;
+	private long draws;
+	private final OutcomeStatistics outcomeStatistics = new OutcomeStatistics();
+	private long elapsedNanos;
+
+	/**
+	 * Records the outcome of a single round played for one unit at even money.
+	 * @param outcome settled round outcome
+	 */
+	public void recordOutcome(RoundOutcome outcome)
+	{
+		recordRound(outcome, outcome == RoundOutcome.PLAYER_WIN ? 1.0 : outcome == RoundOutcome.DEALER_WIN ? -1.0 : 0.0);
+	}
+
+	/**
+	 * Records the outcome of a single round together with its net result, which differs from
+	 * +1/0/-1 for blackjack payouts, doubles, splits and surrenders.
+	 * @param outcome settled round outcome
+	 * @param net net result of the round in betting units
+	 */
+	public void recordRound(RoundOutcome outcome, double net)
+	{
+		countOutcome(outcome);
+		outcomeStatistics.record(net);
+	}
+
+	/**
+	 * Records a round together with its final hands, which also feeds the total and hand-size histograms.
+	 * @param outcome settled round outcome
+	 * @param net net result of the round in betting units
+	 * @param playerTotal final total of the player's first hand
+	 * @param dealerTotal final total of the dealer's hand
+	 * @param handSize number of cards in the player's first hand
+	 */
+	public void recordRound(RoundOutcome outcome, double net, int playerTotal, int dealerTotal, int handSize)
+	{
+		countOutcome(outcome);
+		outcomeStatistics.record(net, playerTotal, dealerTotal, handSize);
+	}
+
+	private void countOutcome(RoundOutcome outcome)
+	{
+		switch (outcome)
+		{
+			case PLAYER_WIN:
+				wins++;
+				break;
+			case DEALER_WIN:
+				losses++;
+				break;
+			default:
+				draws++;
+				break;
+		}
+	}
+
+	/**
+	 * Adds the counts of another result to this one.
+	 * Elapsed time keeps the longest value since workers run side by side.
+	 * @param other result to merge in
+	 * @return this result
+	 */
+	public SimulationResult merge(SimulationResult other)
+	{
+		wins += other.wins;
+		losses += other.losses;
+		draws += other.draws;
+		outcomeStatistics.merge(other.outcomeStatistics);
+		elapsedNanos = Math.max(elapsedNanos, other.elapsedNanos);
+		return this;
+	}
+
+	void setElapsedNanos(long elapsedNanos)
+	{
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	public long getWins()
+	{
+		return wins;
+	}
+
+	public long getLosses()
+	{
+		return losses;
+	}
+
+	public long getDraws()
+	{
+		return draws;
+	}
+
+	public long getRoundCount()
+	{
+		return wins + losses + draws;
+	}
+
+	/**
+	 * Returns the streaming statistics of every recorded round; the histograms only cover rounds
+	 * recorded with their final hands. Merging worker results in a fixed order makes them identical
+	 * from run to run.
+	 */
+	public OutcomeStatistics getOutcomeStatistics()
+	{
+		return outcomeStatistics;
+	}
+
+	public long getElapsedNanos()
+	{
+		return elapsedNanos;
+	}
+
+	/**
+	 * Returns the summed net result of all rounds in betting units.
+	 */
+	public double getNetUnits()
+	{
+		return outcomeStatistics.getSum();
+	}
+
+	/**
+	 * Expected value per round in betting units (net result, +1/0/-1 for plain rounds).
+	 * @return expected value, or 0 if nothing was played
+	 */
+	public double getExpectedValue()
+	{
+		return outcomeStatistics.getMean();
+	}
+
+	/**
+	 * Standard error of the expected value, treating every round's net result as an independent sample.
+	 * @return standard error, or 0 if fewer than two rounds were played
+	 */
+	public double getStandardError()
+	{
+		return outcomeStatistics.getStandardError();
+	}
+
+	/**
+	 * Half-width of the normal-approximation 95% confidence interval for the expected value.
+	 * @return half-width in betting units
+	 */
+	public double getConfidenceHalfWidth95()
+	{
+		return 1.96 * getStandardError();
+	}
+
+	/**
+	 * Throughput of the run measured against wall time.
+	 * @return rounds per second, or 0 if no time was recorded
+	 */
+	public double getRoundsPerSecond()
+	{
+		return elapsedNanos == 0 ? 0.0 : getRoundCount() * 1_000_000_000.0 / elapsedNanos;
+	}
+
+	/**
+	 * Returns a formatted summary of the result.
+	 */
+	public String getSummary()
+	{
+		return String.format("Rounds: %d, Wins: %d, Losses: %d, Draws: %d, EV: %.5f, Rounds/sec: %.0f",
+				getRoundCount(), wins, losses, draws, getExpectedValue(), getRoundsPerSecond());
+	}
+}
@@ -0,0 +1,42 @@
+package blackjack.simulation;
+
+import blackjack.engine.PlayerDecisionStrategy;
+
+/**
+ * Command-line report of simulation throughput for increasing worker counts.
+ * Usage: {@code java blackjack.simulation.SimulationScalingReport [roundsPerRun]}
+ */
+public class SimulationScalingReport
+{
+	public static void main(String[] args)
+	{
+		long roundsPerRun = args.length > 0 ? Long.parseLong(args[0]) : 2_000_000L;
+		int maxWorkers = Runtime.getRuntime().availableProcessors();
+		PlayerDecisionStrategy strategy = PlayerDecisionStrategy.stayOnOrAbove(17);
+
+		// Warm-up so the first measured run is not dominated by JIT compilation
+		new MonteCarloSimulator(maxWorkers, 1L).run(roundsPerRun / 4, strategy);
+
+		double singleWorkerRate = 0.0;
+		for (int workers = 1; workers <= maxWorkers; workers = nextWorkerCount(workers, maxWorkers))
+		{
+			SimulationResult result = new MonteCarloSimulator(workers, 42L).run(roundsPerRun, strategy);
+			if (workers == 1)
+			{
+				singleWorkerRate = result.getRoundsPerSecond();
+			}
+			System.out.printf("Workers: %2d, Rounds/sec: %,12.0f, Speedup: %5.2fx, EV: %.5f%n",
+					workers, result.getRoundsPerSecond(), result.getRoundsPerSecond() / singleWorkerRate,
+					result.getExpectedValue());
+		}
+	}
+
+	private static int nextWorkerCount(int workers, int maxWorkers)
+	{
+		if (workers == maxWorkers)
+		{
+			return maxWorkers + 1;
+		}
+		return Math.min(workers * 2, maxWorkers);
+	}
+}
@@ -0,0 +1,47 @@
+package blackjack.simulation;
+
+import blackjack.engine.BlackjackGameEngine;
+import blackjack.engine.PlayerDecisionStrategy;
+
+import java.util.function.Function;
+
+/**
+ * A named strategy to evaluate. The factory is called once per worker engine, so strategies that
+ * read engine state (such as a running count) get their own instance.
+ */
+public final class StrategyCandidate
+{
+	private final String name;
+	private final Function<BlackjackGameEngine, PlayerDecisionStrategy> strategyFactory;
+
+	/**
+	 * @param name name shown in reports
+	 * @param strategyFactory creates the strategy for a worker's engine
+	 */
+	public StrategyCandidate(String name, Function<BlackjackGameEngine, PlayerDecisionStrategy> strategyFactory)
+	{
+		this.name = name;
+		this.strategyFactory = strategyFactory;
+	}
+
+	/**
+	 * Creates a candidate from a stateless strategy shared by all workers.
+	 * @param name name shown in reports
+	 * @param strategy stateless strategy
+	 * @return candidate
+	 */
+	public static StrategyCandidate of(String name, PlayerDecisionStrategy strategy)
+	{
+		return new StrategyCandidate(name, engine -> strategy);
+	}
+
+	public String getName()
+	{
+		return name;
+	}
+
+	public Function<BlackjackGameEngine, PlayerDecisionStrategy> getStrategyFactory()
+	{
+		return strategyFactory;
+	}
+}
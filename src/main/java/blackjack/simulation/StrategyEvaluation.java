@@ -0,0 +1,57 @@
+package blackjack.simulation;
+
+/**
+ * Result of evaluating one strategy candidate.
+ */
+public final class StrategyEvaluation
+{
+	private final String name;
+	private final SimulationResult result;
+	private final boolean converged;
+	private final long elapsedNanos;
+
+	StrategyEvaluation(String name, SimulationResult result, boolean converged, long elapsedNanos)
+	{
+		this.name = name;
+		this.result = result;
+		this.converged = converged;
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	public String getName()
+	{
+		return name;
+	}
+
+	public SimulationResult getResult()
+	{
+		return result;
+	}
+
+	/**
+	 * Checks whether the run stopped because the confidence interval was tight enough,
+	 * rather than because it hit the round limit.
+	 * @return true if the precision target was reached
+	 */
+	public boolean isConverged()
+	{
+		return converged;
+	}
+
+	public long getElapsedNanos()
+	{
+		return elapsedNanos;
+	}
+
+	/**
+	 * Returns a one-line summary with the EV and its 95% confidence interval.
+	 */
+	public String getSummary()
+	{
+		double ev = result.getExpectedValue();
+		double halfWidth = result.getConfidenceHalfWidth95();
+		return String.format("%-32s Rounds: %,11d, EV/hand: %+.5f, SE: %.5f, 95%% CI: [%+.5f, %+.5f]%s, Time: %.2fs",
+				name, result.getRoundCount(), ev, result.getStandardError(), ev - halfWidth, ev + halfWidth,
+				converged ? "" : " (round limit)", elapsedNanos / 1_000_000_000.0);
+	}
+}
@@ -0,0 +1,163 @@
+package blackjack.simulation;
+
+import blackjack.rules.TableRules;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Evaluates strategies on the headless engine until their expected value is known precisely enough.
+ * Rounds are played in batches spread over all workers; after each batch the 95% confidence interval
+ * is checked and the run stops as soon as its half-width reaches the target, or at the round limit.
+ * Every candidate sees the same sequence of batch seeds, so evaluations are reproducible.
+ * The batches of one evaluation share a single worker pool.
+ */
+public class StrategyEvaluationHarness
+{
+	private final int workerCount;
+	private final long baseSeed;
+	private final int deckCount;
+	private final double penetration;
+	private final TableRules tableRules;
+	private long batchRounds = 200_000;
+	private long maximumRounds = 50_000_000;
+	private double targetHalfWidth = 0.002;
+
+	/**
+	 * Creates a harness dealing from a single deck reshuffled every round.
+	 * @param workerCount number of parallel workers
+	 * @param baseSeed seed from which every batch is derived
+	 */
+	public StrategyEvaluationHarness(int workerCount, long baseSeed)
+	{
+		this(workerCount, baseSeed, 1, 0.0);
+	}
+
+	/**
+	 * Creates a harness dealing from multi-deck shoes with a cut card.
+	 * @param workerCount number of parallel workers
+	 * @param baseSeed seed from which every batch is derived
+	 * @param deckCount decks per shoe
+	 * @param penetration fraction of each shoe dealt before reshuffling
+	 */
+	public StrategyEvaluationHarness(int workerCount, long baseSeed, int deckCount, double penetration)
+	{
+		this(workerCount, baseSeed, deckCount, penetration, TableRules.legacy());
+	}
+
+	/**
+	 * Creates a harness playing under the given table rules, so doubles, splits, surrenders and
+	 * blackjack payouts count towards each candidate's expected value.
+	 * @param workerCount number of parallel workers
+	 * @param baseSeed seed from which every batch is derived
+	 * @param deckCount decks per shoe
+	 * @param penetration fraction of each shoe dealt before reshuffling
+	 * @param tableRules rules of every worker's table
+	 */
+	public StrategyEvaluationHarness(int workerCount, long baseSeed, int deckCount, double penetration, TableRules tableRules)
+	{
+		if (workerCount < 1)
+		{
+			throw new IllegalArgumentException("Worker count must be positive: " + workerCount);
+		}
+		this.workerCount = workerCount;
+		this.baseSeed = baseSeed;
+		this.deckCount = deckCount;
+		this.penetration = penetration;
+		this.tableRules = tableRules;
+	}
+
+	/**
+	 * Sets the number of rounds played between two precision checks.
+	 * @return this harness
+	 */
+	public StrategyEvaluationHarness setBatchRounds(long batchRounds)
+	{
+		if (batchRounds < 1)
+		{
+			throw new IllegalArgumentException("Batch size must be positive: " + batchRounds);
+		}
+		this.batchRounds = batchRounds;
+		return this;
+	}
+
+	/**
+	 * Sets the most rounds played for one candidate, even if the precision target is not reached.
+	 * @return this harness
+	 */
+	public StrategyEvaluationHarness setMaximumRounds(long maximumRounds)
+	{
+		if (maximumRounds < 1)
+		{
+			throw new IllegalArgumentException("Round limit must be positive: " + maximumRounds);
+		}
+		this.maximumRounds = maximumRounds;
+		return this;
+	}
+
+	/**
+	 * Sets the 95% confidence half-width, in betting units per hand, at which a run stops.
+	 * @return this harness
+	 */
+	public StrategyEvaluationHarness setTargetHalfWidth(double targetHalfWidth)
+	{
+		if (!(targetHalfWidth > 0.0))
+		{
+			throw new IllegalArgumentException("Target half-width must be positive: " + targetHalfWidth);
+		}
+		this.targetHalfWidth = targetHalfWidth;
+		return this;
+	}
+
+	/**
+	 * Evaluates every candidate in turn.
+	 * @param candidates strategies to compare
+	 * @return one evaluation per candidate, in order
+	 */
+	public List<StrategyEvaluation> evaluateAll(List<StrategyCandidate> candidates)
+	{
+		List<StrategyEvaluation> evaluations = new ArrayList<>(candidates.size());
+		for (StrategyCandidate candidate : candidates)
+		{
+			evaluations.add(evaluate(candidate));
+		}
+		return evaluations;
+	}
+
+	/**
+	 * Plays batches of rounds until the confidence interval is tight enough or the round limit is hit.
+	 * @param candidate strategy to evaluate
+	 * @return evaluation
+	 */
+	public StrategyEvaluation evaluate(StrategyCandidate candidate)
+	{
+		SplittableRandom batchSeeds = new SplittableRandom(baseSeed);
+		SimulationResult total = new SimulationResult();
+		long startNanos = System.nanoTime();
+		boolean converged = false;
+		ForkJoinPool pool = new ForkJoinPool(workerCount);
+		try
+		{
+			while (total.getRoundCount() < maximumRounds)
+			{
+				long rounds = Math.min(batchRounds, maximumRounds - total.getRoundCount());
+				MonteCarloSimulator simulator = new MonteCarloSimulator(workerCount, batchSeeds.nextLong(), deckCount, penetration, tableRules);
+				total.merge(simulator.run(rounds, candidate.getStrategyFactory(), pool));
+				if (total.getConfidenceHalfWidth95() <= targetHalfWidth)
+				{
+					converged = true;
+					break;
+				}
+			}
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+		long elapsedNanos = System.nanoTime() - startNanos;
+		total.setElapsedNanos(elapsedNanos);
+		return new StrategyEvaluation(candidate.getName(), total, converged, elapsedNanos);
+	}
+}
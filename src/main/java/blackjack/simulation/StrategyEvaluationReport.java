@@ -0,0 +1,36 @@
+package blackjack.simulation;
+
+import blackjack.engine.PlayerDecisionStrategy;
+import blackjack.strategy.BasicStrategyChart;
+import blackjack.strategy.DeviationIndexSet;
+import blackjack.strategy.IndexPlayStrategy;
+
+import java.util.List;
+
+/**
+ * Command-line comparison of the built-in strategies on six-deck shoes.
+ * Usage: {@code java blackjack.simulation.StrategyEvaluationReport [targetHalfWidth]}
+ */
+public class StrategyEvaluationReport
+{
+	public static void main(String[] args)
+	{
+		double targetHalfWidth = args.length > 0 ? Double.parseDouble(args[0]) : 0.002;
+		StrategyEvaluationHarness harness = new StrategyEvaluationHarness(
+				Runtime.getRuntime().availableProcessors(), 42L, 6, 0.75)
+				.setTargetHalfWidth(targetHalfWidth);
+		DeviationIndexSet illustrious = DeviationIndexSet.illustrious18();
+
+		List<StrategyCandidate> candidates = List.of(
+				// The former GameAdvisor hit up to 11 and stayed from 17, leaving 12-16 to the player
+				StrategyCandidate.of("Old advisor, stays from 12", PlayerDecisionStrategy.stayOnOrAbove(12)),
+				StrategyCandidate.of("Mimic the dealer, stays from 17", PlayerDecisionStrategy.stayOnOrAbove(17)),
+				StrategyCandidate.of("Basic strategy chart", BasicStrategyChart.getInstance().asDecisionStrategy()),
+				new StrategyCandidate("Chart + Illustrious 18", engine -> new IndexPlayStrategy(illustrious, engine)));
+
+		for (StrategyEvaluation evaluation : harness.evaluateAll(candidates))
+		{
+			System.out.println(evaluation.getSummary());
+		}
+	}
+}
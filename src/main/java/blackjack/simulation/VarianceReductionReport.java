@@ -0,0 +1,24 @@
+package blackjack.simulation;
+
+import blackjack.engine.PlayerDecisionStrategy;
+import blackjack.strategy.BasicStrategyChart;
+
+/**
+ * Command-line report of the variance reduction achieved by common random numbers and antithetic shuffles.
+ * Usage: {@code java blackjack.simulation.VarianceReductionReport [rounds]}
+ */
+public class VarianceReductionReport
+{
+	public static void main(String[] args)
+	{
+		long rounds = args.length > 0 ? Long.parseLong(args[0]) : 2_000_000L;
+		VarianceReductionSimulator simulator = new VarianceReductionSimulator(Runtime.getRuntime().availableProcessors(), 42L);
+		StrategyCandidate chart = StrategyCandidate.of("chart", BasicStrategyChart.getInstance().asDecisionStrategy());
+		StrategyCandidate mimic = StrategyCandidate.of("stay from 17", PlayerDecisionStrategy.stayOnOrAbove(17));
+		StrategyCandidate stayFrom16 = StrategyCandidate.of("stay from 16", PlayerDecisionStrategy.stayOnOrAbove(16));
+
+		System.out.println(simulator.compareWithCommonRandomNumbers(chart, mimic, rounds).getSummary());
+		System.out.println(simulator.compareWithCommonRandomNumbers(mimic, stayFrom16, rounds).getSummary());
+		System.out.println(simulator.estimateWithAntitheticShuffles(chart, rounds / 2).getSummary());
+	}
+}
@@ -0,0 +1,76 @@
+package blackjack.simulation;
+
+/**
+ * Estimate produced by a paired run, with the variance it would have had without pairing.
+ * The variance reduction factor is also the factor by which fewer rounds are needed for the same precision.
+ */
+public final class VarianceReductionResult
+{
+	private final String description;
+	private final long pairCount;
+	private final double estimate;
+	private final double pairedVariance;
+	private final double independentVariance;
+
+	VarianceReductionResult(String description, long pairCount, double estimate, double pairedVariance, double independentVariance)
+	{
+		this.description = description;
+		this.pairCount = pairCount;
+		this.estimate = estimate;
+		this.pairedVariance = pairedVariance;
+		this.independentVariance = independentVariance;
+	}
+
+	public String getDescription()
+	{
+		return description;
+	}
+
+	public long getPairCount()
+	{
+		return pairCount;
+	}
+
+	/**
+	 * Gets the estimated quantity: an EV difference for common random numbers, an EV for antithetic pairs.
+	 */
+	public double getEstimate()
+	{
+		return estimate;
+	}
+
+	/**
+	 * Standard error of the estimate with pairing.
+	 */
+	public double getStandardError()
+	{
+		return pairCount == 0 ? 0.0 : Math.sqrt(pairedVariance / pairCount);
+	}
+
+	/**
+	 * Standard error the same number of rounds would have given with independent shuffles.
+	 */
+	public double getIndependentStandardError()
+	{
+		return pairCount == 0 ? 0.0 : Math.sqrt(independentVariance / pairCount);
+	}
+
+	/**
+	 * Ratio of the independent variance to the paired variance.
+	 * @return variance reduction factor, above 1 when pairing helps
+	 */
+	public double getVarianceReductionFactor()
+	{
+		return pairedVariance == 0.0 ? Double.POSITIVE_INFINITY : independentVariance / pairedVariance;
+	}
+
+	/**
+	 * Returns a one-line summary of the estimate and the reduction achieved.
+	 */
+	public String getSummary()
+	{
+		return String.format("%s: %+.5f, SE %.5f (independent %.5f), variance reduction %.1fx over %,d pairs",
+				description, estimate, getStandardError(), getIndependentStandardError(),
+				getVarianceReductionFactor(), pairCount);
+	}
+}
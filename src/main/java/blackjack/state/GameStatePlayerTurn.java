@@ -3,8 +3,8 @@ package blackjack.state;
 import blackjack.engine.BlackjackGameEngine;
 
 /**
- * State representing the player's turn.
- * Transitions to dealer when player ends their turn.
+ * State representing the players' turns, one seat after another.
+ * Transitions to dealer when the last seat ends their turn.
  */
 public class GameStatePlayerTurn implements GameState
 {
@@ -25,14 +25,22 @@ public class GameStatePlayerTurn implements GameState
 	}
 
 	/**
-	 * Player ends their turn — dealer cards are revealed, state switches to dealer turn.
+	 * Player ends their turn — the next seat acts; after the last seat dealer cards are revealed,
+	 * state switches to dealer turn and the dealer's first action is scheduled.
 	 */
 	@Override
 	public void endPlayerTurn()
 	{
+		int finishedSeatNumber = gameEngineContext.getActiveSeatIndex() + 1;
+		if (gameEngineContext.advanceToNextSeat())
+		{
+			gameEngineContext.broadcastGameLogMessage("Seat " + finishedSeatNumber + " ends turn. Next seat to act.");
+			return;
+		}
 		gameEngineContext.broadcastGameLogMessage("Player ends turn. Revealing dealer's cards.");
 		gameEngineContext.revealAllDealerCards();
 		gameEngineContext.updateGameState(gameEngineContext.getDealerTurnState());
+		gameEngineContext.scheduleDealerStep();
 	}
 
 	/**
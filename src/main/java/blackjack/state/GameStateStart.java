@@ -21,7 +21,8 @@ public class GameStateStart implements GameState
 	}
 
 	/**
-	 * Starts the game by dealing cards and transitioning to player state.
+	 * Starts the game by dealing cards and transitioning to player state. Under casino rules a
+	 * dealer blackjack found by the peek ends the round right away.
 	 */
 	@Override
 	public void startGame()
@@ -29,6 +30,7 @@ public class GameStateStart implements GameState
 		gameEngineContext.broadcastGameLogMessage("Starting new round. Dealing cards...");
 		gameEngineContext.executeCardDealSequence();
 		gameEngineContext.updateGameState(gameEngineContext.getPlayerTurnState());
+		gameEngineContext.peekForDealerBlackjack();
 	}
 
 	/**
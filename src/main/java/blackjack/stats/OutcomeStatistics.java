@@ -0,0 +1,347 @@
+package blackjack.stats;
+
+import java.util.Arrays;
+
+/**
+ * Streaming statistics of settled hands in constant memory: running mean and variance of the net
+ * result (Welford), win and loss streaks, and fixed-bucket histograms of final player and dealer
+ * totals and of hand sizes. Every update is O(1) however many hands are recorded.
+ * Instances are not thread-safe; each worker records into its own and the results are combined
+ * with {@link #merge(OutcomeStatistics)}, which gives the same counts, histograms and streaks as
+ * recording both sequences one after the other, and the same mean and variance up to rounding.
+ */
+public final class OutcomeStatistics
+{
+    /** Histogram bucket holding every busted total (22 and above) */
+    public static final int BUST_BUCKET = 22;
+
+    /** Histogram bucket holding every hand of this many cards or more */
+    public static final int MAXIMUM_HAND_SIZE_BUCKET = 11;
+
+    private static final byte WIN = 1;
+    private static final byte LOSS = -1;
+    private static final byte DRAW = 0;
+
+    private long count;
+    private double sum;
+    private double mean;
+    private double sumOfSquaredDeviations;
+    private double minimum = Double.POSITIVE_INFINITY;
+    private double maximum = Double.NEGATIVE_INFINITY;
+
+    // Streaks as a concatenation monoid: the runs at both ends are kept so merges can join them
+    private byte leadingRunType;
+    private long leadingRunLength;
+    private byte trailingRunType;
+    private long trailingRunLength;
+    private long longestWinStreak;
+    private long longestLossStreak;
+
+    private final long[] playerTotals = new long[BUST_BUCKET + 1];
+    private final long[] dealerTotals = new long[BUST_BUCKET + 1];
+    private final long[] handSizes = new long[MAXIMUM_HAND_SIZE_BUCKET + 1];
+
+    /**
+     * Records one settled hand.
+     * @param netUnits net result in betting units; its sign decides win, loss or draw
+     * @param playerTotal final total of the player's hand
+     * @param dealerTotal final total of the dealer's hand
+     * @param handSize number of cards in the player's hand
+     */
+    public void record(double netUnits, int playerTotal, int dealerTotal, int handSize)
+    {
+        record(netUnits);
+        playerTotals[totalBucket(playerTotal)]++;
+        dealerTotals[totalBucket(dealerTotal)]++;
+        handSizes[Math.min(handSize, MAXIMUM_HAND_SIZE_BUCKET)]++;
+    }
+
+    /**
+     * Records one settled hand whose final totals are unknown; it counts towards the mean, variance
+     * and streaks but not the histograms.
+     * @param netUnits net result in betting units; its sign decides win, loss or draw
+     */
+    public void record(double netUnits)
+    {
+        count++;
+        sum += netUnits;
+        double delta = netUnits - mean;
+        mean += delta / count;
+        sumOfSquaredDeviations += delta * (netUnits - mean);
+        minimum = Math.min(minimum, netUnits);
+        maximum = Math.max(maximum, netUnits);
+
+        byte type = netUnits > 0 ? WIN : netUnits < 0 ? LOSS : DRAW;
+        if (count == 1)
+        {
+            leadingRunType = type;
+            leadingRunLength = 1;
+        }
+        else if (leadingRunLength == count - 1 && leadingRunType == type)
+        {
+            leadingRunLength++;
+        }
+        if (count > 1 && trailingRunType == type)
+        {
+            trailingRunLength++;
+        }
+        else
+        {
+            trailingRunType = type;
+            trailingRunLength = 1;
+        }
+        updateLongestStreak(type, trailingRunLength);
+    }
+
+    /**
+     * Adds another worker's statistics as if its hands were recorded after this one's.
+     * @param other statistics to merge in; left unchanged
+     * @return this instance
+     */
+    public OutcomeStatistics merge(OutcomeStatistics other)
+    {
+        if (other.count == 0)
+        {
+            return this;
+        }
+        if (count == 0)
+        {
+            copyFrom(other);
+            return this;
+        }
+
+        long combinedCount = count + other.count;
+        double delta = other.mean - mean;
+        mean += delta * other.count / combinedCount;
+        sumOfSquaredDeviations += other.sumOfSquaredDeviations + delta * delta * ((double) count * other.count / combinedCount);
+        sum += other.sum;
+        minimum = Math.min(minimum, other.minimum);
+        maximum = Math.max(maximum, other.maximum);
+
+        longestWinStreak = Math.max(longestWinStreak, other.longestWinStreak);
+        longestLossStreak = Math.max(longestLossStreak, other.longestLossStreak);
+        if (trailingRunType == other.leadingRunType)
+        {
+            updateLongestStreak(trailingRunType, trailingRunLength + other.leadingRunLength);
+        }
+        if (leadingRunLength == count && leadingRunType == other.leadingRunType)
+        {
+            leadingRunLength += other.leadingRunLength;
+        }
+        if (other.trailingRunLength == other.count && other.trailingRunType == trailingRunType)
+        {
+            trailingRunLength += other.count;
+        }
+        else
+        {
+            trailingRunType = other.trailingRunType;
+            trailingRunLength = other.trailingRunLength;
+        }
+        count = combinedCount;
+
+        addInto(playerTotals, other.playerTotals);
+        addInto(dealerTotals, other.dealerTotals);
+        addInto(handSizes, other.handSizes);
+        return this;
+    }
+
+    /**
+     * Forgets all recorded hands.
+     */
+    public void clear()
+    {
+        copyFrom(new OutcomeStatistics());
+    }
+
+    /**
+     * Returns an independent copy.
+     * @return copy of these statistics
+     */
+    public OutcomeStatistics copy()
+    {
+        OutcomeStatistics copy = new OutcomeStatistics();
+        copy.copyFrom(this);
+        return copy;
+    }
+
+    private void copyFrom(OutcomeStatistics other)
+    {
+        count = other.count;
+        sum = other.sum;
+        mean = other.mean;
+        sumOfSquaredDeviations = other.sumOfSquaredDeviations;
+        minimum = other.minimum;
+        maximum = other.maximum;
+        leadingRunType = other.leadingRunType;
+        leadingRunLength = other.leadingRunLength;
+        trailingRunType = other.trailingRunType;
+        trailingRunLength = other.trailingRunLength;
+        longestWinStreak = other.longestWinStreak;
+        longestLossStreak = other.longestLossStreak;
+        System.arraycopy(other.playerTotals, 0, playerTotals, 0, playerTotals.length);
+        System.arraycopy(other.dealerTotals, 0, dealerTotals, 0, dealerTotals.length);
+        System.arraycopy(other.handSizes, 0, handSizes, 0, handSizes.length);
+    }
+
+    private void updateLongestStreak(byte type, long length)
+    {
+        if (type == WIN)
+        {
+            longestWinStreak = Math.max(longestWinStreak, length);
+        }
+        else if (type == LOSS)
+        {
+            longestLossStreak = Math.max(longestLossStreak, length);
+        }
+    }
+
+    private static int totalBucket(int total)
+    {
+        return Math.max(0, Math.min(total, BUST_BUCKET));
+    }
+
+    private static void addInto(long[] target, long[] source)
+    {
+        for (int i = 0; i < target.length; i++)
+        {
+            target[i] += source[i];
+        }
+    }
+
+    public long getCount()
+    {
+        return count;
+    }
+
+    /**
+     * Returns the summed net result in betting units.
+     */
+    public double getSum()
+    {
+        return sum;
+    }
+
+    /**
+     * Returns the mean net result per hand, or 0 if nothing was recorded.
+     */
+    public double getMean()
+    {
+        return mean;
+    }
+
+    /**
+     * Returns the sample variance of the net result, or 0 for fewer than two hands.
+     */
+    public double getVariance()
+    {
+        return count < 2 ? 0.0 : sumOfSquaredDeviations / (count - 1);
+    }
+
+    public double getStandardDeviation()
+    {
+        return Math.sqrt(getVariance());
+    }
+
+    /**
+     * Returns the standard error of the mean, or 0 for fewer than two hands.
+     */
+    public double getStandardError()
+    {
+        return count < 2 ? 0.0 : Math.sqrt(getVariance() / count);
+    }
+
+    /**
+     * Returns the smallest net result, or 0 if nothing was recorded.
+     */
+    public double getMinimum()
+    {
+        return count == 0 ? 0.0 : minimum;
+    }
+
+    /**
+     * Returns the largest net result, or 0 if nothing was recorded.
+     */
+    public double getMaximum()
+    {
+        return count == 0 ? 0.0 : maximum;
+    }
+
+    public long getLongestWinStreak()
+    {
+        return longestWinStreak;
+    }
+
+    public long getLongestLossStreak()
+    {
+        return longestLossStreak;
+    }
+
+    /**
+     * Returns the length of the run the most recent hand belongs to: positive for wins,
+     * negative for losses and 0 after a draw.
+     */
+    public long getCurrentStreak()
+    {
+        return trailingRunType == WIN ? trailingRunLength : trailingRunType == LOSS ? -trailingRunLength : 0;
+    }
+
+    /**
+     * Returns how many hands ended on the given player total.
+     * @param total final total; 22 and above all count as BUST_BUCKET
+     */
+    public long getPlayerTotalCount(int total)
+    {
+        return playerTotals[totalBucket(total)];
+    }
+
+    /**
+     * Returns how many hands the dealer finished on the given total.
+     * @param total final total; 22 and above all count as BUST_BUCKET
+     */
+    public long getDealerTotalCount(int total)
+    {
+        return dealerTotals[totalBucket(total)];
+    }
+
+    /**
+     * Returns how many player hands held the given number of cards.
+     * @param handSize card count; MAXIMUM_HAND_SIZE_BUCKET and above share one bucket
+     */
+    public long getHandSizeCount(int handSize)
+    {
+        return handSizes[Math.min(handSize, MAXIMUM_HAND_SIZE_BUCKET)];
+    }
+
+    /**
+     * Returns a copy of the player total histogram, indexed by total up to BUST_BUCKET.
+     */
+    public long[] getPlayerTotalHistogram()
+    {
+        return Arrays.copyOf(playerTotals, playerTotals.length);
+    }
+
+    /**
+     * Returns a copy of the dealer total histogram, indexed by total up to BUST_BUCKET.
+     */
+    public long[] getDealerTotalHistogram()
+    {
+        return Arrays.copyOf(dealerTotals, dealerTotals.length);
+    }
+
+    /**
+     * Returns a copy of the hand size histogram, indexed by card count up to MAXIMUM_HAND_SIZE_BUCKET.
+     */
+    public long[] getHandSizeHistogram()
+    {
+        return Arrays.copyOf(handSizes, handSizes.length);
+    }
+
+    /**
+     * Returns a formatted summary of the net result and streaks.
+     */
+    public String getSummary()
+    {
+        return String.format("Hands: %d, Mean: %.5f, Std dev: %.5f, Longest win streak: %d, Longest loss streak: %d",
+                count, getMean(), getStandardDeviation(), longestWinStreak, longestLossStreak);
+    }
+}
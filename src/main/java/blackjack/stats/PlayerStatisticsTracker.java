@@ -1,20 +1,67 @@
 package blackjack.stats;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
 /**
  * Tracks win/loss/draw statistics for a player or dealer.
+ * Counters are striped {@link LongAdder}s, so any number of engines and simulation workers may
+ * record into the same tracker without locks or lost updates, and 64-bit counts do not overflow on
+ * long runs. A tracker created with {@link #createChild()} also adds every round to its parent,
+ * which gives per-seat counts that roll up into the table.
+ * Every recorded round touches one counter per tracker, so a {@link #snapshot()} never shows part
+ * of a round; a parent may briefly lag its children while rounds are being recorded.
+ * Hands recorded with {@link #recordRound(double, int, int, int)} also feed streaming
+ * {@link OutcomeStatistics}. Those depend on the order of hands, so they stay with the tracker that
+ * recorded them, under a lock that is uncontended while one engine records for a seat; a parent
+ * builds its view on read by merging its children's, so the table's streaks are seat by seat
+ * rather than an interleaving of all seats. Parallel workers keep their own trackers and combine
+ * them with {@link OutcomeStatistics#merge(OutcomeStatistics)}.
  */
 public class PlayerStatisticsTracker
 {
-    private int wins;
-    private int losses;
-    private int draws;
+    private final LongAdder wins = new LongAdder();
+    private final LongAdder losses = new LongAdder();
+    private final LongAdder draws = new LongAdder();
+    private final PlayerStatisticsTracker parent;
+    private final OutcomeStatistics outcomes = new OutcomeStatistics();
+    private final List<PlayerStatisticsTracker> children = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates a stand-alone tracker.
+     */
+    public PlayerStatisticsTracker()
+    {
+        this(null);
+    }
+
+    private PlayerStatisticsTracker(PlayerStatisticsTracker parent)
+    {
+        this.parent = parent;
+    }
+
+    /**
+     * Creates a tracker whose rounds are also recorded in this one, e.g. a seat of a table.
+     * @return child tracker
+     */
+    public PlayerStatisticsTracker createChild()
+    {
+        PlayerStatisticsTracker child = new PlayerStatisticsTracker(this);
+        children.add(child);
+        return child;
+    }
 
     /**
      * Increments the win counter by 1.
      */
     public void recordWin()
     {
-        wins++;
+        wins.increment();
+        if (parent != null)
+        {
+            parent.recordWin();
+        }
     }
 
     /**
@@ -22,7 +69,11 @@ public class PlayerStatisticsTracker
      */
     public void recordLoss()
     {
-        losses++;
+        losses.increment();
+        if (parent != null)
+        {
+            parent.recordLoss();
+        }
     }
 
     /**
@@ -30,25 +81,135 @@ public class PlayerStatisticsTracker
      */
     public void recordDraw()
     {
-        draws++;
+        draws.increment();
+        if (parent != null)
+        {
+            parent.recordDraw();
+        }
+    }
+
+    /**
+     * Records a settled hand: counts it as a win, loss or draw by the sign of its net result and
+     * adds it to this tracker's streaming statistics. The parent counts the hand as well.
+     * @param netUnits net result in betting units
+     * @param playerTotal final total of the player's hand
+     * @param dealerTotal final total of the dealer's hand
+     * @param handSize number of cards in the player's hand
+     */
+    public void recordRound(double netUnits, int playerTotal, int dealerTotal, int handSize)
+    {
+        if (netUnits > 0)
+        {
+            wins.increment();
+        }
+        else if (netUnits < 0)
+        {
+            losses.increment();
+        }
+        else
+        {
+            draws.increment();
+        }
+        synchronized (outcomes)
+        {
+            outcomes.record(netUnits, playerTotal, dealerTotal, handSize);
+        }
+        if (parent != null)
+        {
+            parent.countRound(netUnits);
+        }
+    }
+
+    private void countRound(double netUnits)
+    {
+        if (netUnits > 0)
+        {
+            recordWin();
+        }
+        else if (netUnits < 0)
+        {
+            recordLoss();
+        }
+        else
+        {
+            recordDraw();
+        }
+    }
+
+    /**
+     * Copies the streaming statistics of the hands recorded with {@link #recordRound(double, int, int, int)},
+     * followed by those of each child in creation order.
+     * @return independent copy, safe to merge with other trackers' copies
+     */
+    public OutcomeStatistics getOutcomeStatistics()
+    {
+        OutcomeStatistics combined;
+        synchronized (outcomes)
+        {
+            combined = outcomes.copy();
+        }
+        for (PlayerStatisticsTracker child : children)
+        {
+            combined.merge(child.getOutcomeStatistics());
+        }
+        return combined;
     }
 
     /**
-     * Resets all statistics (wins, losses, draws) to zero.
+     * Resets all statistics (wins, losses, draws and streaming statistics) to zero. The parent
+     * keeps its counts, and a parent's children keep theirs, so a parent's streaming statistics still
+     * include its children's hands. Rounds recorded while the reset runs may survive it.
      */
     public void resetStats()
     {
-        wins = 0;
-        losses = 0;
-        draws = 0;
+        wins.reset();
+        losses.reset();
+        draws.reset();
+        synchronized (outcomes)
+        {
+            outcomes.clear();
+        }
+    }
+
+    /**
+     * Reads all counters once.
+     * @return immutable copy of the current counts
+     */
+    public StatisticsSnapshot snapshot()
+    {
+        return new StatisticsSnapshot(wins.sum(), losses.sum(), draws.sum());
+    }
+
+    public long getWins()
+    {
+        return wins.sum();
+    }
+
+    public long getLosses()
+    {
+        return losses.sum();
+    }
+
+    public long getDraws()
+    {
+        return draws.sum();
+    }
+
+    /**
+     * Returns the number of recorded rounds.
+     * @return wins + losses + draws
+     */
+    public long getTotalRounds()
+    {
+        return snapshot().getTotalRounds();
     }
 
     /**
-     * Returns a formatted summary of the current statistics.
+     * Returns a formatted summary of the current statistics, read from a single snapshot.
      * @return a string in format: "Wins: X, Losses: Y, Draws: Z"
      */
     public String getSummary()
     {
-        return "Wins: " + wins + ", Losses: " + losses + ", Draws: " + draws;
+        return snapshot().getSummary();
     }
 }
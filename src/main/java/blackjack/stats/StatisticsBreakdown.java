@@ -0,0 +1,56 @@
+package blackjack.stats;
+
+/**
+ * Snapshot of one table's statistics split into its seats.
+ */
+public final class StatisticsBreakdown
+{
+    private final StatisticsSnapshot table;
+    private final StatisticsSnapshot[] seats;
+
+    /**
+     * Creates a breakdown.
+     * @param table snapshot of the whole table
+     * @param seats snapshot of every seat, in seat order
+     */
+    public StatisticsBreakdown(StatisticsSnapshot table, StatisticsSnapshot[] seats)
+    {
+        this.table = table;
+        this.seats = seats.clone();
+    }
+
+    /**
+     * Returns the counts of the whole table.
+     */
+    public StatisticsSnapshot getTable()
+    {
+        return table;
+    }
+
+    public int getSeatCount()
+    {
+        return seats.length;
+    }
+
+    /**
+     * Returns the counts of one seat.
+     * @param seatIndex zero-based seat index
+     */
+    public StatisticsSnapshot getSeat(int seatIndex)
+    {
+        return seats[seatIndex];
+    }
+
+    /**
+     * Returns one line for the table followed by one line per seat.
+     */
+    public String getSummary()
+    {
+        StringBuilder summary = new StringBuilder("Table: ").append(table.getSummary());
+        for (int seatIndex = 0; seatIndex < seats.length; seatIndex++)
+        {
+            summary.append("\nSeat ").append(seatIndex + 1).append(": ").append(seats[seatIndex].getSummary());
+        }
+        return summary.toString();
+    }
+}
@@ -0,0 +1,81 @@
+package blackjack.stats;
+
+/**
+ * Immutable win/loss/draw counts taken from a {@link PlayerStatisticsTracker} at one moment.
+ * Snapshots of different trackers or workers can be added together.
+ */
+public final class StatisticsSnapshot
+{
+    /** Snapshot without any recorded rounds */
+    public static final StatisticsSnapshot EMPTY = new StatisticsSnapshot(0, 0, 0);
+
+    private final long wins;
+    private final long losses;
+    private final long draws;
+
+    public StatisticsSnapshot(long wins, long losses, long draws)
+    {
+        this.wins = wins;
+        this.losses = losses;
+        this.draws = draws;
+    }
+
+    public long getWins()
+    {
+        return wins;
+    }
+
+    public long getLosses()
+    {
+        return losses;
+    }
+
+    public long getDraws()
+    {
+        return draws;
+    }
+
+    /**
+     * Returns the number of recorded rounds.
+     * @return wins + losses + draws
+     */
+    public long getTotalRounds()
+    {
+        return wins + losses + draws;
+    }
+
+    /**
+     * Adds the counts of another snapshot, e.g. to combine tables or workers.
+     * @param other snapshot to add
+     * @return combined snapshot
+     */
+    public StatisticsSnapshot plus(StatisticsSnapshot other)
+    {
+        return new StatisticsSnapshot(wins + other.wins, losses + other.losses, draws + other.draws);
+    }
+
+    /**
+     * Subtracts an earlier snapshot of the same tracker, giving the rounds recorded in between.
+     * @param earlier snapshot taken before this one
+     * @return difference of the counts
+     */
+    public StatisticsSnapshot minus(StatisticsSnapshot earlier)
+    {
+        return new StatisticsSnapshot(wins - earlier.wins, losses - earlier.losses, draws - earlier.draws);
+    }
+
+    /**
+     * Returns a formatted summary of the counts.
+     * @return a string in format: "Wins: X, Losses: Y, Draws: Z"
+     */
+    public String getSummary()
+    {
+        return "Wins: " + wins + ", Losses: " + losses + ", Draws: " + draws;
+    }
+
+    @Override
+    public String toString()
+    {
+        return getSummary();
+    }
+}
@@ -0,0 +1,330 @@
+package blackjack.strategy;
+
+import blackjack.engine.BlackjackGameEngine;
+import blackjack.engine.PlayerAction;
+import blackjack.engine.PlayerDecisionStrategy;
+import blackjack.model.PlayingCardRepresentation;
+import blackjack.util.BlackjackParticipant;
+
+/**
+ * Complete hard, soft and pair basic-strategy chart (multi-deck, dealer stands on soft 17,
+ * double after split, late surrender).
+ * The chart is decoded once into two flat arrays indexed by hand key and dealer upcard, so every
+ * recommendation is a single array lookup: one array for the first decision on a two-card hand,
+ * where doubling, splitting and surrender are allowed, and one for later decisions, where only
+ * hitting and standing are.
+ */
+public final class BasicStrategyChart
+{
+	/** Number of dealer upcard columns, indexed by rank slot (0 ace, 1-8 two to nine, 9 ten) */
+	public static final int UPCARD_COUNT = 10;
+
+	private static final int HARD_ROW_OFFSET = 0;
+	private static final int MINIMUM_HARD_TOTAL = 4;
+	private static final int SOFT_ROW_OFFSET = 18;
+	private static final int MINIMUM_SOFT_TOTAL = 12;
+	private static final int PAIR_ROW_OFFSET = 28;
+
+	/** Number of hand keys: hard 4-21, soft 12-21 and ten pairs */
+	public static final int HAND_KEY_COUNT = PAIR_ROW_OFFSET + 10;
+
+	/*
+	 * One row per hand key, columns are dealer upcards 2 3 4 5 6 7 8 9 10 A.
+	 * H hit, S stand, D double else hit, B double else stand, P split, R surrender else hit.
+	 */
+	private static final String[] HARD_ROWS =
+		{
+			"HHHHHHHHHH", // 4
+			"HHHHHHHHHH", // 5
+			"HHHHHHHHHH", // 6
+			"HHHHHHHHHH", // 7
+			"HHHHHHHHHH", // 8
+			"HDDDDHHHHH", // 9
+			"DDDDDDDDHH", // 10
+			"DDDDDDDDDH", // 11
+			"HHSSSHHHHH", // 12
+			"SSSSSHHHHH", // 13
+			"SSSSSHHHHH", // 14
+			"SSSSSHHHRH", // 15
+			"SSSSSHHRRR", // 16
+			"SSSSSSSSSS", // 17
+			"SSSSSSSSSS", // 18
+			"SSSSSSSSSS", // 19
+			"SSSSSSSSSS", // 20
+			"SSSSSSSSSS"  // 21
+		};
+
+	private static final String[] SOFT_ROWS =
+		{
+			"HHHHHHHHHH", // 12 (two aces that cannot be split)
+			"HHHDDHHHHH", // 13
+			"HHHDDHHHHH", // 14
+			"HHDDDHHHHH", // 15
+			"HHDDDHHHHH", // 16
+			"HDDDDHHHHH", // 17
+			"SBBBBSSHHH", // 18
+			"SSSSSSSSSS", // 19
+			"SSSSSSSSSS", // 20
+			"SSSSSSSSSS"  // 21
+		};
+
+	private static final String[] PAIR_ROWS =
+		{
+			"PPPPPPPPPP", // A,A
+			"PPPPPPHHHH", // 2,2
+			"PPPPPPHHHH", // 3,3
+			"HHHPPHHHHH", // 4,4
+			"DDDDDDDDHH", // 5,5
+			"PPPPPHHHHH", // 6,6
+			"PPPPPPHHHH", // 7,7
+			"PPPPPPPPPP", // 8,8
+			"PPPPPSPPSS", // 9,9
+			"SSSSSSSSSS"  // 10,10
+		};
+
+	private static final StrategyAction[] ACTIONS = StrategyAction.values();
+
+	private static final BasicStrategyChart INSTANCE = new BasicStrategyChart(HARD_ROWS, SOFT_ROWS, PAIR_ROWS);
+
+	private final byte[] firstDecisionActions = new byte[HAND_KEY_COUNT * UPCARD_COUNT];
+	private final byte[] hitOrStandActions = new byte[HAND_KEY_COUNT * UPCARD_COUNT];
+
+	private BasicStrategyChart(String[] hardRows, String[] softRows, String[] pairRows)
+	{
+		decodeRows(hardRows, HARD_ROW_OFFSET);
+		decodeRows(softRows, SOFT_ROW_OFFSET);
+		decodeRows(pairRows, PAIR_ROW_OFFSET);
+	}
+
+	/**
+	 * Returns the shared chart.
+	 * @return chart instance
+	 */
+	public static BasicStrategyChart getInstance()
+	{
+		return INSTANCE;
+	}
+
+	/**
+	 * Builds a custom chart in the same layout as the built-in one: one row per total (hard 4-21,
+	 * soft 12-21, pairs A-10), columns for upcards 2 to 10 then A, using the codes H, S, D, B, P and R.
+	 * @param hardRows 18 rows for hard totals 4 to 21
+	 * @param softRows 10 rows for soft totals 12 to 21
+	 * @param pairRows 10 rows for pairs of aces, twos ... tens
+	 * @return chart
+	 */
+	public static BasicStrategyChart fromRows(String[] hardRows, String[] softRows, String[] pairRows)
+	{
+		checkRows("hard", hardRows, SOFT_ROW_OFFSET - HARD_ROW_OFFSET);
+		checkRows("soft", softRows, PAIR_ROW_OFFSET - SOFT_ROW_OFFSET);
+		checkRows("pair", pairRows, HAND_KEY_COUNT - PAIR_ROW_OFFSET);
+		return new BasicStrategyChart(hardRows, softRows, pairRows);
+	}
+
+	/**
+	 * Returns a copy of the built-in hard-total rows, e.g. as a starting point for a custom chart.
+	 */
+	public static String[] getStandardHardRows()
+	{
+		return HARD_ROWS.clone();
+	}
+
+	/**
+	 * Returns a copy of the built-in soft-total rows.
+	 */
+	public static String[] getStandardSoftRows()
+	{
+		return SOFT_ROWS.clone();
+	}
+
+	/**
+	 * Returns a copy of the built-in pair rows.
+	 */
+	public static String[] getStandardPairRows()
+	{
+		return PAIR_ROWS.clone();
+	}
+
+	private static void checkRows(String section, String[] rows, int expectedRows)
+	{
+		if (rows.length != expectedRows)
+		{
+			throw new IllegalArgumentException("Expected " + expectedRows + " " + section + " rows but found " + rows.length);
+		}
+		for (String row : rows)
+		{
+			if (row.length() != UPCARD_COUNT)
+			{
+				throw new IllegalArgumentException("Chart row must have " + UPCARD_COUNT + " columns: " + row);
+			}
+		}
+	}
+
+	private void decodeRows(String[] rows, int rowOffset)
+	{
+		for (int row = 0; row < rows.length; row++)
+		{
+			for (int column = 0; column < UPCARD_COUNT; column++)
+			{
+				// Chart columns run 2..10, A; rank slots run A, 2..10
+				int upcardSlot = column == UPCARD_COUNT - 1 ? 0 : column + 1;
+				int index = (rowOffset + row) * UPCARD_COUNT + upcardSlot;
+				char code = rows[row].charAt(column);
+				firstDecisionActions[index] = (byte) decodeFirstDecision(code).ordinal();
+				hitOrStandActions[index] = (byte) decodeHitOrStand(code).ordinal();
+			}
+		}
+	}
+
+	private static StrategyAction decodeFirstDecision(char code)
+	{
+		switch (code)
+		{
+			case 'H':
+				return StrategyAction.HIT;
+			case 'S':
+				return StrategyAction.STAND;
+			case 'D':
+			case 'B':
+				return StrategyAction.DOUBLE;
+			case 'P':
+				return StrategyAction.SPLIT;
+			case 'R':
+				return StrategyAction.SURRENDER;
+			default:
+				throw new IllegalArgumentException("Unknown chart code: " + code);
+		}
+	}
+
+	private static StrategyAction decodeHitOrStand(char code)
+	{
+		// Pair rows are never looked up here, so a split code has no hit or stand fallback
+		return code == 'S' || code == 'B' ? StrategyAction.STAND : StrategyAction.HIT;
+	}
+
+	/**
+	 * Computes the chart row for a hand.
+	 * @param hand hand to classify
+	 * @param allowPairs true to classify two equal ranks as a pair
+	 * @return hand key between 0 and HAND_KEY_COUNT - 1
+	 */
+	public static int handKey(BlackjackParticipant hand, boolean allowPairs)
+	{
+		if (allowPairs && hand.getNumberOfCardsInHand() == 2)
+		{
+			int firstSlot = hand.getHandCards().get(0).getRankSlot();
+			if (firstSlot == hand.getHandCards().get(1).getRankSlot())
+			{
+				return PAIR_ROW_OFFSET + firstSlot;
+			}
+		}
+		int total = hand.calculateTotalHandValue();
+		if (hand.isSoftHand())
+		{
+			return SOFT_ROW_OFFSET + Math.min(total, 21) - MINIMUM_SOFT_TOTAL;
+		}
+		return HARD_ROW_OFFSET + Math.min(Math.max(total, MINIMUM_HARD_TOTAL), 21) - MINIMUM_HARD_TOTAL;
+	}
+
+	/**
+	 * Looks up the first decision on a two-card hand, with doubling, splitting and surrender allowed.
+	 * @param hand two-card hand
+	 * @param dealerUpCard the dealer's visible card
+	 * @return recommended action
+	 */
+	public StrategyAction recommendFirstDecision(BlackjackParticipant hand, PlayingCardRepresentation dealerUpCard)
+	{
+		return ACTIONS[firstDecisionActions[handKey(hand, true) * UPCARD_COUNT + dealerUpCard.getRankSlot()]];
+	}
+
+	/**
+	 * Looks up whether to hit or stand when no other action is available.
+	 * @param hand hand of any size
+	 * @param dealerUpCard the dealer's visible card
+	 * @return HIT or STAND
+	 */
+	public StrategyAction recommendHitOrStand(BlackjackParticipant hand, PlayingCardRepresentation dealerUpCard)
+	{
+		return ACTIONS[hitOrStandActions[handKey(hand, false) * UPCARD_COUNT + dealerUpCard.getRankSlot()]];
+	}
+
+	/**
+	 * Gets the hand key of a hard or soft total.
+	 * @param total player total between 4 (hard) or 12 (soft) and 21
+	 * @param soft true for a soft total
+	 * @return hand key
+	 */
+	public static int totalHandKey(int total, boolean soft)
+	{
+		int minimum = soft ? MINIMUM_SOFT_TOTAL : MINIMUM_HARD_TOTAL;
+		if (total < minimum || total > 21)
+		{
+			throw new IllegalArgumentException("Total out of range: " + total);
+		}
+		return (soft ? SOFT_ROW_OFFSET : HARD_ROW_OFFSET) + total - minimum;
+	}
+
+	/**
+	 * Looks up an action directly by hand key and upcard rank slot.
+	 * @param handKey key returned by {@link #handKey(BlackjackParticipant, boolean)}
+	 * @param upcardSlot rank slot of the dealer's upcard
+	 * @param firstDecision true for the first decision on a two-card hand
+	 * @return recommended action
+	 */
+	public StrategyAction lookup(int handKey, int upcardSlot, boolean firstDecision)
+	{
+		byte[] actions = firstDecision ? firstDecisionActions : hitOrStandActions;
+		return ACTIONS[actions[handKey * UPCARD_COUNT + upcardSlot]];
+	}
+
+	/**
+	 * Returns a headless strategy that plays this chart with hit and stay only.
+	 * @return decision strategy
+	 */
+	public PlayerDecisionStrategy asDecisionStrategy()
+	{
+		return (player, dealerUpCard) -> recommendHitOrStand(player, dealerUpCard) == StrategyAction.HIT
+				? PlayerAction.HIT
+				: PlayerAction.STAY;
+	}
+
+	/**
+	 * Returns a headless strategy that plays the full chart on the given engine: doubles, splits and
+	 * surrenders whenever the chart calls for them and the table rules allow them, and otherwise
+	 * falls back to the chart's hit or stand decision.
+	 * @param engine engine whose table rules decide which actions are available
+	 * @return decision strategy
+	 */
+	public PlayerDecisionStrategy asDecisionStrategy(BlackjackGameEngine engine)
+	{
+		return (player, dealerUpCard) ->
+		{
+			switch (recommendFirstDecision(player, dealerUpCard))
+			{
+				case STAND:
+					return PlayerAction.STAY;
+				case DOUBLE:
+					if (engine.canDoubleDown())
+					{
+						return PlayerAction.DOUBLE;
+					}
+					break;
+				case SPLIT:
+					if (engine.canSplit())
+					{
+						return PlayerAction.SPLIT;
+					}
+					break;
+				case SURRENDER:
+					if (engine.canSurrender())
+					{
+						return PlayerAction.SURRENDER;
+					}
+					break;
+				default:
+					return PlayerAction.HIT;
+			}
+			return recommendHitOrStand(player, dealerUpCard).toPlayerAction();
+		};
+	}
+}
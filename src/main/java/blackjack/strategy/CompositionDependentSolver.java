@@ -0,0 +1,339 @@
+package blackjack.strategy;
+
+import blackjack.model.PlayingCardRepresentation;
+import blackjack.model.StandardDeckCardManager;
+import blackjack.util.BlackjackDealer;
+import blackjack.util.BlackjackParticipant;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Computes the exact expected value of hitting and standing for a hand, given the exact cards left in the shoe.
+ * The dealer is modelled as the engine plays it: the dealer stops on 21, on a bust, or on 17 or more once
+ * level with or ahead of the player (soft totals count the ace as 11). A player who hits to 21 is
+ * settled at once against the dealer's two cards.
+ * <p>
+ * When the remaining cards run out before the dealer stops, the engine reshuffles the discards and keeps
+ * dealing. The solver cannot know those discards, so it drops the paths that run dry and renormalises the
+ * dealer's final totals over the paths that do finish, i.e. it conditions on the shoe lasting the round.
+ * If no path finishes at all, the distribution stays empty and standing scores as a push.
+ * <p>
+ * Dealer final-total distributions are cached by upcard, stopping threshold and remaining composition in a
+ * bounded least-recently-used map, so repeated queries during a shoe skip the dealer recursion entirely.
+ * Instances are not thread-safe; give each thread its own solver.
+ */
+public class CompositionDependentSolver
+{
+	/** Default number of cached dealer distributions */
+	public static final int DEFAULT_CACHE_CAPACITY = 4096;
+
+	/** Index of the bust probability in a dealer distribution; indices 0-4 hold final totals 17-21 */
+	public static final int DEALER_BUST_INDEX = 5;
+
+	private static final int RANK_SLOT_COUNT = StandardDeckCardManager.RANK_SLOT_COUNT;
+	private static final int DEALER_MINIMUM_STAND_TOTAL = 17;
+
+	private final LinkedHashMap<DealerCacheKey, double[]> dealerCache;
+	private long cacheHits;
+	private long cacheMisses;
+
+	/**
+	 * Creates a solver with the default cache capacity.
+	 */
+	public CompositionDependentSolver()
+	{
+		this(DEFAULT_CACHE_CAPACITY);
+	}
+
+	/**
+	 * Creates a solver that keeps at most the given number of dealer distributions.
+	 * @param cacheCapacity maximum cache entries, least recently used ones are evicted first
+	 */
+	public CompositionDependentSolver(int cacheCapacity)
+	{
+		if (cacheCapacity < 1)
+		{
+			throw new IllegalArgumentException("Cache capacity must be positive: " + cacheCapacity);
+		}
+		dealerCache = new LinkedHashMap<>(16, 0.75f, true)
+		{
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<DealerCacheKey, double[]> eldest)
+			{
+				return size() > cacheCapacity;
+			}
+		};
+	}
+
+	/**
+	 * Evaluates a live hand against the dealer's upcard. The dealer's face-down cards are unknown
+	 * to the player, so they count as still being in the shoe.
+	 * @param hand the player's hand, not busted
+	 * @param dealer the dealer holding one upcard and face-down cards
+	 * @param shoe the shoe being dealt from
+	 * @return expected values of standing and hitting
+	 */
+	public HandExpectedValues evaluate(BlackjackParticipant hand, BlackjackDealer dealer, StandardDeckCardManager shoe)
+	{
+		int[] composition = shoe.copyRemainingRankCounts(new int[RANK_SLOT_COUNT]);
+		int upcardSlot = -1;
+		for (int i = 0; i < dealer.getNumberOfCardsInHand(); i++)
+		{
+			int rankSlot = dealer.getHandCards().get(i).getRankSlot();
+			if (dealer.isCardFaceDown(i))
+			{
+				composition[rankSlot]++;
+			}
+			else if (upcardSlot < 0)
+			{
+				upcardSlot = rankSlot;
+			}
+		}
+		if (upcardSlot < 0)
+		{
+			throw new IllegalArgumentException("Dealer shows no upcard");
+		}
+		return evaluate(hand.getHardTotal(), hand.getAceCount() > 0, upcardSlot, composition);
+	}
+
+	/**
+	 * Evaluates a hand described by its hard total against an upcard and an explicit composition.
+	 * @param hardTotal player total counting aces as 1
+	 * @param hasAce true if the player holds an ace
+	 * @param upcardSlot rank slot of the dealer's upcard
+	 * @param composition remaining cards per rank slot, not counting the upcard; left unchanged
+	 * @return expected values of standing and hitting
+	 */
+	public HandExpectedValues evaluate(int hardTotal, boolean hasAce, int upcardSlot, int[] composition)
+	{
+		int[] counts = composition.clone();
+		int remaining = sum(counts);
+		double stand = standExpectedValue(bestTotal(hardTotal, hasAce), upcardSlot, counts, remaining);
+		double hit = hitExpectedValue(hardTotal, hasAce, upcardSlot, counts, remaining);
+		return new HandExpectedValues(stand, hit);
+	}
+
+	/**
+	 * Returns the probabilities of the dealer's final totals.
+	 * @param upcardSlot rank slot of the dealer's upcard
+	 * @param composition remaining cards per rank slot, not counting the upcard; left unchanged
+	 * @param standThreshold lowest total the dealer stops on (17 to 21)
+	 * @return new array: indices 0-4 for totals 17-21, {@link #DEALER_BUST_INDEX} for a bust; conditioned on the
+	 *         remaining cards lasting until the dealer stops
+	 */
+	public double[] dealerFinalProbabilities(int upcardSlot, int[] composition, int standThreshold)
+	{
+		return dealerDistribution(upcardSlot, composition.clone(), sum(composition), standThreshold).clone();
+	}
+
+	public long getCacheHitCount()
+	{
+		return cacheHits;
+	}
+
+	public long getCacheMissCount()
+	{
+		return cacheMisses;
+	}
+
+	public int getCacheSize()
+	{
+		return dealerCache.size();
+	}
+
+	private double hitExpectedValue(int hardTotal, boolean hasAce, int upcardSlot, int[] counts, int remaining)
+	{
+		if (remaining == 0)
+		{
+			// An empty shoe deals nothing, so hitting is the same as standing
+			return standExpectedValue(bestTotal(hardTotal, hasAce), upcardSlot, counts, remaining);
+		}
+		double expectedValue = 0;
+		for (int slot = 0; slot < RANK_SLOT_COUNT; slot++)
+		{
+			int count = counts[slot];
+			if (count == 0)
+			{
+				continue;
+			}
+			double probability = (double) count / remaining;
+			int newHard = hardTotal + slot + 1;
+			if (newHard > 21)
+			{
+				expectedValue -= probability;
+				continue;
+			}
+			boolean newHasAce = hasAce || slot == 0;
+			int newTotal = bestTotal(newHard, newHasAce);
+			counts[slot]--;
+			double outcome;
+			if (newTotal == 21)
+			{
+				outcome = twentyOneExpectedValue(upcardSlot, counts, remaining - 1);
+			}
+			else
+			{
+				outcome = Math.max(standExpectedValue(newTotal, upcardSlot, counts, remaining - 1),
+						hitExpectedValue(newHard, newHasAce, upcardSlot, counts, remaining - 1));
+			}
+			counts[slot]++;
+			expectedValue += probability * outcome;
+		}
+		return expectedValue;
+	}
+
+	/**
+	 * A hit to 21 ends the round before the dealer draws: only a two-card dealer 21 pushes.
+	 */
+	private static double twentyOneExpectedValue(int upcardSlot, int[] counts, int remaining)
+	{
+		int holeSlotForTwentyOne = upcardSlot == 0 ? 9 : (upcardSlot == 9 ? 0 : -1);
+		if (holeSlotForTwentyOne < 0)
+		{
+			return 1.0;
+		}
+		return 1.0 - (double) counts[holeSlotForTwentyOne] / remaining;
+	}
+
+	private double standExpectedValue(int playerTotal, int upcardSlot, int[] counts, int remaining)
+	{
+		int threshold = Math.max(DEALER_MINIMUM_STAND_TOTAL, playerTotal);
+		double[] dealer = dealerDistribution(upcardSlot, counts, remaining, threshold);
+		double expectedValue = dealer[DEALER_BUST_INDEX];
+		for (int total = DEALER_MINIMUM_STAND_TOTAL; total <= 21; total++)
+		{
+			double probability = dealer[total - DEALER_MINIMUM_STAND_TOTAL];
+			if (total > playerTotal)
+			{
+				expectedValue -= probability;
+			}
+			else if (total < playerTotal)
+			{
+				expectedValue += probability;
+			}
+		}
+		return expectedValue;
+	}
+
+	private double[] dealerDistribution(int upcardSlot, int[] counts, int remaining, int threshold)
+	{
+		DealerCacheKey key = new DealerCacheKey(packComposition(counts), upcardSlot * 32 + threshold);
+		double[] distribution = dealerCache.get(key);
+		if (distribution != null)
+		{
+			cacheHits++;
+			return distribution;
+		}
+		cacheMisses++;
+		distribution = new double[DEALER_BUST_INDEX + 1];
+		accumulateDealer(upcardSlot + 1, upcardSlot == 0, counts, remaining, threshold, 1.0, distribution);
+		normalise(distribution);
+		dealerCache.put(key, distribution);
+		return distribution;
+	}
+
+	private static void accumulateDealer(int hardTotal, boolean hasAce, int[] counts, int remaining,
+			int threshold, double weight, double[] distribution)
+	{
+		for (int slot = 0; slot < RANK_SLOT_COUNT; slot++)
+		{
+			int count = counts[slot];
+			if (count == 0)
+			{
+				continue;
+			}
+			double probability = weight * count / remaining;
+			int newHard = hardTotal + slot + 1;
+			if (newHard > 21)
+			{
+				distribution[DEALER_BUST_INDEX] += probability;
+				continue;
+			}
+			boolean newHasAce = hasAce || slot == 0;
+			int total = bestTotal(newHard, newHasAce);
+			if (total == 21 || total >= threshold)
+			{
+				distribution[total - DEALER_MINIMUM_STAND_TOTAL] += probability;
+				continue;
+			}
+			counts[slot]--;
+			accumulateDealer(newHard, newHasAce, counts, remaining - 1, threshold, probability, distribution);
+			counts[slot]++;
+		}
+	}
+
+	// Paths that ran the shoe dry carried their probability nowhere; spread it over the finished ones
+	private static void normalise(double[] distribution)
+	{
+		double finished = 0;
+		for (double probability : distribution)
+		{
+			finished += probability;
+		}
+		if (finished > 0 && finished < 1)
+		{
+			for (int i = 0; i < distribution.length; i++)
+			{
+				distribution[i] /= finished;
+			}
+		}
+	}
+
+	private static int bestTotal(int hardTotal, boolean hasAce)
+	{
+		return hasAce && hardTotal <= 11 ? hardTotal + 10 : hardTotal;
+	}
+
+	private static int sum(int[] counts)
+	{
+		int total = 0;
+		for (int count : counts)
+		{
+			total += count;
+		}
+		return total;
+	}
+
+	/**
+	 * Packs a composition into one long: 6 bits for each non-ten rank, 8 bits for tens (up to 8 decks).
+	 */
+	private static long packComposition(int[] counts)
+	{
+		long packed = 0;
+		for (int slot = 0; slot < RANK_SLOT_COUNT - 1; slot++)
+		{
+			packed = (packed << 6) | counts[slot];
+		}
+		return (packed << 8) | counts[RANK_SLOT_COUNT - 1];
+	}
+
+	private static final class DealerCacheKey
+	{
+		private final long composition;
+		private final int context;
+
+		DealerCacheKey(long composition, int context)
+		{
+			this.composition = composition;
+			this.context = context;
+		}
+
+		@Override
+		public boolean equals(Object other)
+		{
+			if (!(other instanceof DealerCacheKey))
+			{
+				return false;
+			}
+			DealerCacheKey key = (DealerCacheKey) other;
+			return composition == key.composition && context == key.context;
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return Long.hashCode(composition * 0x9e3779b97f4a7c15L) ^ context;
+		}
+	}
+}
@@ -0,0 +1,115 @@
+package blackjack.strategy;
+
+import blackjack.model.PlayingCardRepresentation;
+import blackjack.model.StandardDeckCardManager;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Build-time generator for the dealer outcome tables read by {@link DealerOutcomeTables}.
+ * Runs in the process-classes phase and writes the resource straight into the build output directory,
+ * so the tables ship inside the jar and are never computed at runtime.
+ * <p>
+ * For an infinite deck and for one to eight decks, every upcard and every stopping threshold from 17 to 21,
+ * it stores the probability of each dealer final total (17-21) and of a bust. N-deck tables remove only the
+ * upcard from the shoe.
+ */
+public class DealerOutcomeTableGenerator
+{
+	private static final int RANK_SLOT_COUNT = StandardDeckCardManager.RANK_SLOT_COUNT;
+
+	/**
+	 * Writes the tables below the given output directory.
+	 * @param args the build output directory (e.g. target/classes)
+	 */
+	public static void main(String[] args) throws IOException
+	{
+		if (args.length != 1)
+		{
+			throw new IllegalArgumentException("Usage: DealerOutcomeTableGenerator <output directory>");
+		}
+		Path resource = Paths.get(args[0]).resolve(DealerOutcomeTables.RESOURCE_NAME);
+		Files.createDirectories(resource.getParent());
+		try (OutputStream out = Files.newOutputStream(resource))
+		{
+			writeTables(out);
+		}
+	}
+
+	/**
+	 * Computes every table and writes the binary format read by {@link DealerOutcomeTables}.
+	 * @param out destination stream
+	 */
+	public static void writeTables(OutputStream out) throws IOException
+	{
+		DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+		data.writeInt(DealerOutcomeTables.FORMAT_MAGIC);
+		data.writeInt(DealerOutcomeTables.FORMAT_VERSION);
+		data.writeInt(DealerOutcomeTables.VALUE_COUNT);
+
+		CompositionDependentSolver solver = new CompositionDependentSolver(1);
+		for (int deckCount = 0; deckCount <= StandardDeckCardManager.MAXIMUM_DECK_COUNT; deckCount++)
+		{
+			for (int upcardSlot = 0; upcardSlot < RANK_SLOT_COUNT; upcardSlot++)
+			{
+				for (int threshold = DealerOutcomeTables.MINIMUM_THRESHOLD; threshold <= 21; threshold++)
+				{
+					double[] distribution = deckCount == DealerOutcomeTables.INFINITE_DECKS
+							? infiniteDeckDistribution(upcardSlot, threshold)
+							: solver.dealerFinalProbabilities(upcardSlot, shoeWithoutUpcard(deckCount, upcardSlot), threshold);
+					for (double probability : distribution)
+					{
+						data.writeDouble(probability);
+					}
+				}
+			}
+		}
+		data.flush();
+	}
+
+	private static int[] shoeWithoutUpcard(int deckCount, int upcardSlot)
+	{
+		int[] composition = new int[RANK_SLOT_COUNT];
+		for (int slot = 0; slot < RANK_SLOT_COUNT; slot++)
+		{
+			composition[slot] = (slot == RANK_SLOT_COUNT - 1 ? 16 : 4) * deckCount;
+		}
+		composition[upcardSlot]--;
+		return composition;
+	}
+
+	private static double[] infiniteDeckDistribution(int upcardSlot, int threshold)
+	{
+		double[] distribution = new double[DealerOutcomeTables.OUTCOME_COUNT];
+		accumulateInfinite(upcardSlot + 1, upcardSlot == 0, threshold, 1.0, distribution);
+		return distribution;
+	}
+
+	private static void accumulateInfinite(int hardTotal, boolean hasAce, int threshold, double weight, double[] distribution)
+	{
+		for (int slot = 0; slot < RANK_SLOT_COUNT; slot++)
+		{
+			double probability = weight * (slot == RANK_SLOT_COUNT - 1 ? 16 : 4) / PlayingCardRepresentation.CARD_COUNT;
+			int newHard = hardTotal + slot + 1;
+			if (newHard > 21)
+			{
+				distribution[CompositionDependentSolver.DEALER_BUST_INDEX] += probability;
+				continue;
+			}
+			boolean newHasAce = hasAce || slot == 0;
+			int total = newHasAce && newHard <= 11 ? newHard + 10 : newHard;
+			if (total == 21 || total >= threshold)
+			{
+				distribution[total - DealerOutcomeTables.MINIMUM_THRESHOLD] += probability;
+				continue;
+			}
+			accumulateInfinite(newHard, newHasAce, threshold, probability, distribution);
+		}
+	}
+}
@@ -0,0 +1,168 @@
+package blackjack.strategy;
+
+import blackjack.model.PlayingCardRepresentation;
+import blackjack.model.StandardDeckCardManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Dealer final-total probabilities for every upcard and stopping threshold, for an infinite deck and for
+ * one to eight full decks. The tables are produced at build time by {@link DealerOutcomeTableGenerator}
+ * and loaded from the jar with a single read the first time they are used.
+ * <p>
+ * The engine's dealer stops on 17 or more once level with the player, so the threshold is the larger of 17
+ * and the player's standing total.
+ */
+public final class DealerOutcomeTables
+{
+	/** Resource path relative to the class path root */
+	public static final String RESOURCE_NAME = "blackjack/strategy/dealer-outcomes.bin";
+
+	/** Deck count used for the infinite-deck tables */
+	public static final int INFINITE_DECKS = 0;
+
+	/** Lowest stopping threshold; also the lowest final total */
+	public static final int MINIMUM_THRESHOLD = 17;
+
+	/** Outcomes per distribution: final totals 17-21 and a bust */
+	public static final int OUTCOME_COUNT = CompositionDependentSolver.DEALER_BUST_INDEX + 1;
+
+	static final int FORMAT_MAGIC = 0x424A444F;
+	static final int FORMAT_VERSION = 1;
+	private static final int THRESHOLD_COUNT = 21 - MINIMUM_THRESHOLD + 1;
+	static final int VALUE_COUNT = (StandardDeckCardManager.MAXIMUM_DECK_COUNT + 1)
+			* StandardDeckCardManager.RANK_SLOT_COUNT * THRESHOLD_COUNT * OUTCOME_COUNT;
+
+	private final double[] probabilities;
+
+	private DealerOutcomeTables(double[] probabilities)
+	{
+		this.probabilities = probabilities;
+	}
+
+	/**
+	 * Returns the tables, loading them on first use.
+	 * @return shared tables
+	 */
+	public static DealerOutcomeTables getInstance()
+	{
+		return Holder.INSTANCE;
+	}
+
+	/**
+	 * Checks whether the generated resource is on the class path, without loading it.
+	 * @return true if {@link #getInstance()} can load the tables
+	 */
+	public static boolean isAvailable()
+	{
+		return DealerOutcomeTables.class.getClassLoader().getResource(RESOURCE_NAME) != null;
+	}
+
+	/**
+	 * Gets the probability of one dealer outcome.
+	 * @param deckCount number of decks, or {@link #INFINITE_DECKS}
+	 * @param upcardSlot rank slot of the dealer's upcard
+	 * @param threshold lowest total the dealer stops on (17-21)
+	 * @param outcomeIndex 0-4 for final totals 17-21, {@link CompositionDependentSolver#DEALER_BUST_INDEX} for a bust
+	 * @return probability
+	 */
+	public double getProbability(int deckCount, int upcardSlot, int threshold, int outcomeIndex)
+	{
+		return probabilities[offset(deckCount, upcardSlot, threshold) + outcomeIndex];
+	}
+
+	/**
+	 * Gets the probability that the dealer busts under the plain stand-on-17 rule.
+	 * @param deckCount number of decks, or {@link #INFINITE_DECKS}
+	 * @param upcard the dealer's upcard
+	 * @return bust probability
+	 */
+	public double getBustProbability(int deckCount, PlayingCardRepresentation upcard)
+	{
+		return getProbability(deckCount, upcard.getRankSlot(), MINIMUM_THRESHOLD, CompositionDependentSolver.DEALER_BUST_INDEX);
+	}
+
+	/**
+	 * Copies one distribution into the given array without allocating.
+	 * @param target array of at least OUTCOME_COUNT elements
+	 * @return the target array
+	 */
+	public double[] copyDistribution(int deckCount, int upcardSlot, int threshold, double[] target)
+	{
+		System.arraycopy(probabilities, offset(deckCount, upcardSlot, threshold), target, 0, OUTCOME_COUNT);
+		return target;
+	}
+
+	private static int offset(int deckCount, int upcardSlot, int threshold)
+	{
+		if (deckCount < 0 || deckCount > StandardDeckCardManager.MAXIMUM_DECK_COUNT)
+		{
+			throw new IllegalArgumentException("Deck count must be between 0 and " + StandardDeckCardManager.MAXIMUM_DECK_COUNT + ": " + deckCount);
+		}
+		if (threshold < MINIMUM_THRESHOLD || threshold > 21)
+		{
+			throw new IllegalArgumentException("Threshold must be between 17 and 21: " + threshold);
+		}
+		int distributionIndex = (deckCount * StandardDeckCardManager.RANK_SLOT_COUNT + upcardSlot) * THRESHOLD_COUNT
+				+ threshold - MINIMUM_THRESHOLD;
+		return distributionIndex * OUTCOME_COUNT;
+	}
+
+	/**
+	 * Parses the generated binary format.
+	 * @param bytes complete resource contents
+	 * @return tables
+	 */
+	static DealerOutcomeTables parse(byte[] bytes) throws IOException
+	{
+		DataInputStream data = new DataInputStream(new ByteArrayInputStream(bytes));
+		if (data.readInt() != FORMAT_MAGIC)
+		{
+			throw new IOException("Not a dealer outcome table resource");
+		}
+		int version = data.readInt();
+		if (version != FORMAT_VERSION)
+		{
+			throw new IOException("Unsupported dealer outcome table version: " + version);
+		}
+		int valueCount = data.readInt();
+		if (valueCount != VALUE_COUNT)
+		{
+			throw new IOException("Unexpected dealer outcome table size: " + valueCount);
+		}
+		double[] probabilities = new double[valueCount];
+		for (int i = 0; i < valueCount; i++)
+		{
+			probabilities[i] = data.readDouble();
+		}
+		return new DealerOutcomeTables(probabilities);
+	}
+
+	private static DealerOutcomeTables load()
+	{
+		try (InputStream in = DealerOutcomeTables.class.getClassLoader().getResourceAsStream(RESOURCE_NAME))
+		{
+			if (in == null)
+			{
+				throw new IllegalStateException(RESOURCE_NAME + " is missing; it is generated during the Maven process-classes phase");
+			}
+			return parse(in.readAllBytes());
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException("Could not read " + RESOURCE_NAME, e);
+		}
+	}
+
+	/**
+	 * Lazy holder so the resource is read once, on first use.
+	 */
+	private static final class Holder
+	{
+		private static final DealerOutcomeTables INSTANCE = load();
+	}
+}
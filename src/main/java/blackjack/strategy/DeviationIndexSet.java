@@ -0,0 +1,223 @@
+package blackjack.strategy;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A set of count-based index plays that override the basic-strategy chart's hit or stand decision.
+ * Each (hand, upcard) cell holds at most one index: at or above it one action is played, below it another.
+ * <p>
+ * Entries are kept sorted by cell in compact parallel arrays, and a per-cell table points at the entry,
+ * so a lookup is one array read for the common case of a cell without an index.
+ * Index sets are immutable and may be shared between threads.
+ */
+public final class DeviationIndexSet
+{
+	/** Resource holding the hit/stand plays of the Illustrious 18 */
+	public static final String ILLUSTRIOUS_18_RESOURCE = "blackjack/strategy/illustrious18.txt";
+
+	private static final int CELL_COUNT = BasicStrategyChart.HAND_KEY_COUNT * BasicStrategyChart.UPCARD_COUNT;
+	private static final StrategyAction[] ACTIONS = StrategyAction.values();
+	private static final short NO_ENTRY = -1;
+
+	private final String name;
+	private final short[] entryByCell = new short[CELL_COUNT];
+	private final int[] entryCells;
+	private final int[] entryIndices;
+	private final byte[] actionsAtOrAbove;
+	private final byte[] actionsBelow;
+
+	private DeviationIndexSet(String name, List<int[]> entries)
+	{
+		this.name = name;
+		int[][] sorted = entries.toArray(new int[0][]);
+		Arrays.sort(sorted, (a, b) -> Integer.compare(a[0], b[0]));
+		entryCells = new int[sorted.length];
+		entryIndices = new int[sorted.length];
+		actionsAtOrAbove = new byte[sorted.length];
+		actionsBelow = new byte[sorted.length];
+		Arrays.fill(entryByCell, NO_ENTRY);
+		for (int i = 0; i < sorted.length; i++)
+		{
+			int cell = sorted[i][0];
+			if (entryByCell[cell] != NO_ENTRY)
+			{
+				throw new IllegalArgumentException("Index set " + name + " has more than one index for cell " + cell);
+			}
+			entryByCell[cell] = (short) i;
+			entryCells[i] = cell;
+			entryIndices[i] = sorted[i][1];
+			actionsAtOrAbove[i] = (byte) sorted[i][2];
+			actionsBelow[i] = (byte) sorted[i][3];
+		}
+	}
+
+	/**
+	 * Returns an index set without any deviations, i.e. plain basic strategy.
+	 * @return empty index set
+	 */
+	public static DeviationIndexSet empty()
+	{
+		return new DeviationIndexSet("none", new ArrayList<>());
+	}
+
+	/**
+	 * Loads the bundled Illustrious 18 hit/stand index plays.
+	 * @return index set
+	 */
+	public static DeviationIndexSet illustrious18()
+	{
+		return loadResource(ILLUSTRIOUS_18_RESOURCE);
+	}
+
+	/**
+	 * Loads an index set from the class path.
+	 * @param resourceName resource path relative to the class path root
+	 * @return index set named after the resource
+	 */
+	public static DeviationIndexSet loadResource(String resourceName)
+	{
+		try (InputStream in = DeviationIndexSet.class.getClassLoader().getResourceAsStream(resourceName))
+		{
+			if (in == null)
+			{
+				throw new IllegalArgumentException("Index set resource not found: " + resourceName);
+			}
+			return parse(resourceName, new InputStreamReader(in, StandardCharsets.UTF_8));
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException("Could not read index set " + resourceName, e);
+		}
+	}
+
+	/**
+	 * Parses an index set. Each non-empty line that is not a # comment reads
+	 * {@code <hard|soft> <player total> <dealer upcard 2-10|A> <true count index> <action at or above> <action below>},
+	 * with actions H (hit) or S (stand).
+	 * @param name name used in reports and error messages
+	 * @param source text to parse
+	 * @return index set
+	 */
+	public static DeviationIndexSet parse(String name, Reader source) throws IOException
+	{
+		List<int[]> entries = new ArrayList<>();
+		BufferedReader reader = new BufferedReader(source);
+		String line;
+		int lineNumber = 0;
+		while ((line = reader.readLine()) != null)
+		{
+			lineNumber++;
+			String trimmed = line.trim();
+			if (trimmed.isEmpty() || trimmed.startsWith("#"))
+			{
+				continue;
+			}
+			String[] fields = trimmed.split("\\s+");
+			if (fields.length != 6)
+			{
+				throw new IllegalArgumentException(name + ":" + lineNumber + ": expected 6 fields but found " + fields.length);
+			}
+			try
+			{
+				boolean soft = parseHandType(fields[0]);
+				int handKey = BasicStrategyChart.totalHandKey(Integer.parseInt(fields[1]), soft);
+				int cell = handKey * BasicStrategyChart.UPCARD_COUNT + parseUpcardSlot(fields[2]);
+				int index = Integer.parseInt(fields[3]);
+				entries.add(new int[] { cell, index, parseAction(fields[4]).ordinal(), parseAction(fields[5]).ordinal() });
+			}
+			catch (IllegalArgumentException e)
+			{
+				throw new IllegalArgumentException(name + ":" + lineNumber + ": " + e.getMessage(), e);
+			}
+		}
+		return new DeviationIndexSet(name, entries);
+	}
+
+	private static boolean parseHandType(String field)
+	{
+		switch (field.toLowerCase(Locale.ROOT))
+		{
+			case "hard":
+				return false;
+			case "soft":
+				return true;
+			default:
+				throw new IllegalArgumentException("Unknown hand type: " + field);
+		}
+	}
+
+	private static int parseUpcardSlot(String field)
+	{
+		if (field.equalsIgnoreCase("A"))
+		{
+			return 0;
+		}
+		int value = Integer.parseInt(field);
+		if (value < 2 || value > 10)
+		{
+			throw new IllegalArgumentException("Unknown upcard: " + field);
+		}
+		return value - 1;
+	}
+
+	private static StrategyAction parseAction(String field)
+	{
+		switch (field.toUpperCase(Locale.ROOT))
+		{
+			case "H":
+				return StrategyAction.HIT;
+			case "S":
+				return StrategyAction.STAND;
+			default:
+				throw new IllegalArgumentException("Only H and S index plays are supported: " + field);
+		}
+	}
+
+	/**
+	 * Applies the index for a cell, if any.
+	 * @param handKey hit/stand hand key from {@link BasicStrategyChart#handKey}
+	 * @param upcardSlot rank slot of the dealer's upcard
+	 * @param trueCount current true count
+	 * @param chartAction the chart's action, returned when the cell has no index
+	 * @return action to play
+	 */
+	public StrategyAction apply(int handKey, int upcardSlot, double trueCount, StrategyAction chartAction)
+	{
+		int entry = entryByCell[handKey * BasicStrategyChart.UPCARD_COUNT + upcardSlot];
+		if (entry == NO_ENTRY)
+		{
+			return chartAction;
+		}
+		return ACTIONS[trueCount >= entryIndices[entry] ? actionsAtOrAbove[entry] : actionsBelow[entry]];
+	}
+
+	public String getName()
+	{
+		return name;
+	}
+
+	/**
+	 * Gets the number of index plays in the set.
+	 * @return entry count
+	 */
+	public int size()
+	{
+		return entryCells.length;
+	}
+
+	@Override
+	public String toString()
+	{
+		return name + " (" + entryCells.length + " indices)";
+	}
+}
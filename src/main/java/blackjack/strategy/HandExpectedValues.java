@@ -0,0 +1,45 @@
+package blackjack.strategy;
+
+/**
+ * Exact expected values of standing and hitting for one hand, in units of the initial bet.
+ */
+public final class HandExpectedValues
+{
+	private final double standExpectedValue;
+	private final double hitExpectedValue;
+
+	/**
+	 * @param standExpectedValue expected value of standing now
+	 * @param hitExpectedValue expected value of hitting now and playing on optimally
+	 */
+	public HandExpectedValues(double standExpectedValue, double hitExpectedValue)
+	{
+		this.standExpectedValue = standExpectedValue;
+		this.hitExpectedValue = hitExpectedValue;
+	}
+
+	public double getStandExpectedValue()
+	{
+		return standExpectedValue;
+	}
+
+	public double getHitExpectedValue()
+	{
+		return hitExpectedValue;
+	}
+
+	/**
+	 * Returns the action with the higher expected value; stands on ties.
+	 * @return HIT or STAND
+	 */
+	public StrategyAction getBestAction()
+	{
+		return hitExpectedValue > standExpectedValue ? StrategyAction.HIT : StrategyAction.STAND;
+	}
+
+	@Override
+	public String toString()
+	{
+		return String.format("EV hit %+.4f, EV stay %+.4f", hitExpectedValue, standExpectedValue);
+	}
+}
@@ -0,0 +1,77 @@
+package blackjack.strategy;
+
+import blackjack.engine.BlackjackGameEngine;
+import blackjack.engine.PlayerAction;
+import blackjack.engine.PlayerDecisionStrategy;
+import blackjack.model.PlayingCardRepresentation;
+import blackjack.model.StandardDeckCardManager;
+import blackjack.util.BlackjackDealer;
+import blackjack.util.BlackjackParticipant;
+
+/**
+ * Plays the basic-strategy chart, overridden by an index set at the live Hi-Lo true count.
+ * The count only includes cards the player has seen: the dealer's face-down cards are treated as
+ * still in the shoe. Bound to one engine, so each engine needs its own instance.
+ */
+public class IndexPlayStrategy implements PlayerDecisionStrategy
+{
+	private final BasicStrategyChart chart;
+	private final DeviationIndexSet indexSet;
+	private final BlackjackGameEngine gameEngine;
+
+	/**
+	 * @param indexSet index plays applied on top of the chart
+	 * @param gameEngine engine whose shoe and dealer drive the count
+	 */
+	public IndexPlayStrategy(DeviationIndexSet indexSet, BlackjackGameEngine gameEngine)
+	{
+		this.chart = BasicStrategyChart.getInstance();
+		this.indexSet = indexSet;
+		this.gameEngine = gameEngine;
+	}
+
+	/**
+	 * Computes the true count of the cards seen so far.
+	 * @return Hi-Lo true count
+	 */
+	public double getVisibleTrueCount()
+	{
+		StandardDeckCardManager shoe = gameEngine.getDeckManager();
+		BlackjackDealer dealer = gameEngine.getDealer();
+		int runningCount = shoe.getRunningCount();
+		int unseenCards = shoe.getRemainingCardCount();
+		for (int i = 0; i < dealer.getNumberOfCardsInHand(); i++)
+		{
+			if (dealer.isCardFaceDown(i))
+			{
+				runningCount -= StandardDeckCardManager.getHiLoTag(dealer.getHandCards().get(i));
+				unseenCards++;
+			}
+		}
+		return unseenCards == 0 ? 0.0 : runningCount * (double) PlayingCardRepresentation.CARD_COUNT / unseenCards;
+	}
+
+	/**
+	 * Recommends hit or stand for a hand at the current true count.
+	 * @param hand hand of any size
+	 * @param dealerUpCard the dealer's visible card
+	 * @return HIT or STAND
+	 */
+	public StrategyAction recommend(BlackjackParticipant hand, PlayingCardRepresentation dealerUpCard)
+	{
+		int handKey = BasicStrategyChart.handKey(hand, false);
+		int upcardSlot = dealerUpCard.getRankSlot();
+		return indexSet.apply(handKey, upcardSlot, getVisibleTrueCount(), chart.lookup(handKey, upcardSlot, false));
+	}
+
+	@Override
+	public PlayerAction decideAction(BlackjackParticipant player, PlayingCardRepresentation dealerUpCard)
+	{
+		return recommend(player, dealerUpCard).toPlayerAction();
+	}
+
+	public DeviationIndexSet getIndexSet()
+	{
+		return indexSet;
+	}
+}
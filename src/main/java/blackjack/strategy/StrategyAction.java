@@ -0,0 +1,53 @@
+package blackjack.strategy;
+
+import blackjack.engine.PlayerAction;
+
+/**
+ * Action recommended by a strategy chart.
+ * Doubling, splitting and surrendering are only possible as the first decision on a hand.
+ */
+public enum StrategyAction
+{
+	HIT("Hit"),
+	STAND("Stay"),
+	DOUBLE("Double down"),
+	SPLIT("Split"),
+	SURRENDER("Surrender");
+
+	private final String displayName;
+
+	StrategyAction(String displayName)
+	{
+		this.displayName = displayName;
+	}
+
+	/**
+	 * Gets the name shown to the player.
+	 * @return display name
+	 */
+	public String getDisplayName()
+	{
+		return displayName;
+	}
+
+	/**
+	 * Converts the recommendation to the matching engine action.
+	 * @return engine action
+	 */
+	public PlayerAction toPlayerAction()
+	{
+		switch (this)
+		{
+			case HIT:
+				return PlayerAction.HIT;
+			case STAND:
+				return PlayerAction.STAY;
+			case DOUBLE:
+				return PlayerAction.DOUBLE;
+			case SPLIT:
+				return PlayerAction.SPLIT;
+			default:
+				return PlayerAction.SURRENDER;
+		}
+	}
+}
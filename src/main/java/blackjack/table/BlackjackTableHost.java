@@ -0,0 +1,208 @@
+package blackjack.table;
+
+import blackjack.engine.BlackjackGameEngine;
+import blackjack.engine.DealerTurnScheduler;
+import blackjack.model.StandardDeckCardManager;
+import blackjack.rules.TableRules;
+import blackjack.stats.StatisticsBreakdown;
+import blackjack.stats.StatisticsSnapshot;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hosts many independent tables in one JVM.
+ * All tables schedule their dealer turns on one small shared scheduler, so thousands of
+ * tables need only a few threads and idle tables never wake up.
+ */
+public class BlackjackTableHost implements AutoCloseable
+{
+	private final ScheduledExecutorService scheduler;
+	private final long dealerPacingMillis;
+	private final ConcurrentHashMap<Long, HostedBlackjackTable> tables = new ConcurrentHashMap<>();
+	private final AtomicLong nextTableId = new AtomicLong(1);
+
+	/**
+	 * Creates a host with one scheduler thread per core and the GUI dealer pacing.
+	 */
+	public BlackjackTableHost()
+	{
+		this(Runtime.getRuntime().availableProcessors(), DealerTurnScheduler.DEFAULT_UI_PACING_MILLIS);
+	}
+
+	/**
+	 * Creates a host with a custom scheduler size and dealer pacing.
+	 * @param schedulerThreads number of threads shared by all tables
+	 * @param dealerPacingMillis delay before each dealer action
+	 */
+	public BlackjackTableHost(int schedulerThreads, long dealerPacingMillis)
+	{
+		this.scheduler = Executors.newScheduledThreadPool(schedulerThreads, new TableThreadFactory());
+		this.dealerPacingMillis = dealerPacingMillis;
+	}
+
+	/**
+	 * Creates a new table with its own engine and deck.
+	 * @param headless true if no observers will be attached to the table
+	 * @return the new table
+	 */
+	public HostedBlackjackTable createTable(boolean headless)
+	{
+		return createTable(headless, 1);
+	}
+
+	/**
+	 * Creates a new table with several seats sharing its deck and dealer.
+	 * @param headless true if no observers will be attached to the table
+	 * @param seatCount number of player seats
+	 * @return the new table
+	 */
+	public HostedBlackjackTable createTable(boolean headless, int seatCount)
+	{
+		return createTable(headless, seatCount, new StandardDeckCardManager(new Random()));
+	}
+
+	/**
+	 * Creates a new table dealing from the given shoe, e.g. a multi-deck or continuous shuffling one.
+	 * @param headless true if no observers will be attached to the table
+	 * @param seatCount number of player seats
+	 * @param shoe shoe used exclusively by this table
+	 * @return the new table
+	 */
+	public HostedBlackjackTable createTable(boolean headless, int seatCount, StandardDeckCardManager shoe)
+	{
+		return createTable(headless, seatCount, shoe, TableRules.legacy());
+	}
+
+	/**
+	 * Creates a new table playing under the given rules; the rules are compiled once for the table's engine.
+	 * @param headless true if no observers will be attached to the table
+	 * @param seatCount number of player seats
+	 * @param shoe shoe used exclusively by this table
+	 * @param tableRules rules of the new table
+	 * @return the new table
+	 */
+	public HostedBlackjackTable createTable(boolean headless, int seatCount, StandardDeckCardManager shoe, TableRules tableRules)
+	{
+		long tableId = nextTableId.getAndIncrement();
+		BlackjackGameEngine engine = new BlackjackGameEngine(headless, shoe, seatCount, tableRules);
+		HostedBlackjackTable table = new HostedBlackjackTable(tableId, engine);
+		DealerTurnScheduler paced = DealerTurnScheduler.paced(scheduler, dealerPacingMillis);
+		// A step already queued when the table closes finds it closed and does nothing
+		engine.setDealerTurnScheduler(dealerStep -> paced.schedule(() ->
+		{
+			synchronized (engine)
+			{
+				if (!table.isClosed())
+				{
+					dealerStep.run();
+				}
+			}
+		}));
+		tables.put(tableId, table);
+		return table;
+	}
+
+	/**
+	 * Closes a table and removes it from the host.
+	 * @param tableId id of the table to close
+	 * @return true if the table existed
+	 */
+	public boolean closeTable(long tableId)
+	{
+		HostedBlackjackTable table = tables.remove(tableId);
+		if (table == null)
+		{
+			return false;
+		}
+		table.close();
+		return true;
+	}
+
+	/**
+	 * Returns the table with the given id, or null if it does not exist.
+	 */
+	public HostedBlackjackTable getTable(long tableId)
+	{
+		return tables.get(tableId);
+	}
+
+	/**
+	 * Returns a read-only view of all open tables.
+	 */
+	public Collection<HostedBlackjackTable> getTables()
+	{
+		return Collections.unmodifiableCollection(tables.values());
+	}
+
+	public int getTableCount()
+	{
+		return tables.size();
+	}
+
+	/**
+	 * Takes a statistics snapshot of every open table without pausing play.
+	 * @return per-table breakdowns keyed by table id
+	 */
+	public Map<Long, StatisticsBreakdown> getStatisticsBreakdowns()
+	{
+		Map<Long, StatisticsBreakdown> breakdowns = new HashMap<>();
+		for (HostedBlackjackTable table : tables.values())
+		{
+			breakdowns.put(table.getTableId(), table.getGameEngine().getStatisticsBreakdown());
+		}
+		return breakdowns;
+	}
+
+	/**
+	 * Adds up the statistics of all open tables.
+	 * @return combined counts
+	 */
+	public StatisticsSnapshot getCombinedStatistics()
+	{
+		StatisticsSnapshot combined = StatisticsSnapshot.EMPTY;
+		for (HostedBlackjackTable table : tables.values())
+		{
+			combined = combined.plus(table.getGameEngine().getStatistics().snapshot());
+		}
+		return combined;
+	}
+
+	/**
+	 * Closes all tables and stops the shared scheduler.
+	 */
+	@Override
+	public void close()
+	{
+		for (Long tableId : tables.keySet())
+		{
+			closeTable(tableId);
+		}
+		scheduler.shutdownNow();
+	}
+
+	/**
+	 * Daemon threads so a forgotten host does not keep the JVM alive.
+	 */
+	private static class TableThreadFactory implements ThreadFactory
+	{
+		private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+		@Override
+		public Thread newThread(Runnable task)
+		{
+			Thread thread = new Thread(task, "blackjack-table-" + threadNumber.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
@@ -0,0 +1,70 @@
+package blackjack.table;
+
+import blackjack.engine.BlackjackGameEngine;
+
+import java.util.function.Consumer;
+
+/**
+ * A single table managed by {@link BlackjackTableHost}.
+ * Wraps one engine; all access to the engine is serialized on the engine itself, so player
+ * actions and scheduled dealer steps never run concurrently.
+ */
+public class HostedBlackjackTable
+{
+	private final long tableId;
+	private final BlackjackGameEngine gameEngine;
+	private volatile boolean closed;
+
+	HostedBlackjackTable(long tableId, BlackjackGameEngine gameEngine)
+	{
+		this.tableId = tableId;
+		this.gameEngine = gameEngine;
+	}
+
+	public long getTableId()
+	{
+		return tableId;
+	}
+
+	/**
+	 * Returns the engine of this table. Use {@link #performAction(Consumer)} to change its state.
+	 */
+	public BlackjackGameEngine getGameEngine()
+	{
+		return gameEngine;
+	}
+
+	public boolean isClosed()
+	{
+		return closed;
+	}
+
+	/**
+	 * Applies a player action (deal, hit, stay, reset) to the table's engine.
+	 * @param action operation on the engine
+	 */
+	public void performAction(Consumer<BlackjackGameEngine> action)
+	{
+		synchronized (gameEngine)
+		{
+			if (closed)
+			{
+				throw new IllegalStateException("Table " + tableId + " is closed.");
+			}
+			action.accept(gameEngine);
+		}
+	}
+
+	/**
+	 * Closes the table under the engine's monitor, so no action or dealer step is half-way through,
+	 * and stops any further dealer steps from being scheduled.
+	 */
+	void close()
+	{
+		synchronized (gameEngine)
+		{
+			closed = true;
+			gameEngine.setDealerTurnScheduler(dealerStep -> { });
+		}
+	}
+}
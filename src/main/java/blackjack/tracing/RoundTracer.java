@@ -0,0 +1,253 @@
+package blackjack.tracing;
+
+import blackjack.logging.GameLogger;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Traces sampled rounds of one engine. Each traced round becomes a span from the deal until the
+ * round ends, with child spans for the deal, every card drawn, the time spent in each game state,
+ * settlement and the delivery of the round's events to subscribers. Every engine shows up as its
+ * own process in the trace and every thread as its own track.
+ * Whether a round is traced is decided when it is dealt; in a round that is not traced every span
+ * site costs one field read. Spans are queued to a {@link TraceWriter} and written on its thread.
+ * Like the engine, a tracer is driven by one thread at a time; only the event-sequence check is
+ * made from subscriber threads.
+ * With -Dblackjack.trace.file=path every engine traces into that file, sampling the fraction of
+ * rounds given by -Dblackjack.trace.sampleRate. Without it, interactive engines trace every round,
+ * which costs a few microseconds against rounds that take seconds, and headless engines trace
+ * {@value #DEFAULT_HEADLESS_SAMPLE_RATE} of their rounds: a traced round costs about as much as
+ * five untraced ones there, so this keeps the overhead of simulations below one percent.
+ */
+public final class RoundTracer
+{
+	/** Fraction of an interactive engine's rounds traced when no sample rate is configured */
+	public static final double DEFAULT_SAMPLE_RATE = 1.0;
+
+	/** Fraction of a headless engine's rounds traced when no sample rate is configured */
+	public static final double DEFAULT_HEADLESS_SAMPLE_RATE = 0.001;
+
+	/** Span categories */
+	public static final String ROUND = "round";
+	public static final String ENGINE = "engine";
+	public static final String STATE = "state";
+	public static final String NOTIFICATION = "notification";
+
+	private static final AtomicInteger NEXT_PROCESS_ID = new AtomicInteger(1);
+	private static final RoundTracer DISABLED = new RoundTracer();
+
+	private final TraceWriter writer;
+	private final double sampleRate;
+	private final int processId;
+	private long roundCounter;
+
+	// Id of the round being traced, 0 while no round is traced
+	private volatile long tracedRoundId;
+	private long roundStartNanos;
+	private String stateName;
+	private long stateEnteredNanos;
+
+	// The most recently traced round and the event sequences published during it; the end is open while it runs
+	private volatile long lastTracedRoundId;
+	private volatile long firstTracedSequence = Long.MAX_VALUE;
+	private volatile long lastTracedSequence = Long.MIN_VALUE;
+
+	private RoundTracer()
+	{
+		writer = null;
+		sampleRate = 0.0;
+		processId = 0;
+	}
+
+	/**
+	 * Creates a tracer for one engine, shown as "Engine n" in the trace.
+	 * @param writer destination of the spans, may be shared by several engines
+	 * @param sampleRate fraction of rounds traced (0 to 1)
+	 */
+	public RoundTracer(TraceWriter writer, double sampleRate)
+	{
+		if (sampleRate < 0 || sampleRate > 1)
+		{
+			throw new IllegalArgumentException("Sample rate must be between 0 and 1: " + sampleRate);
+		}
+		this.writer = writer;
+		this.sampleRate = sampleRate;
+		this.processId = NEXT_PROCESS_ID.getAndIncrement();
+		writer.submit(TraceEvent.metadata("process_name", processId, 0, "Engine " + processId));
+	}
+
+	/**
+	 * Returns a tracer that never traces.
+	 */
+	public static RoundTracer disabled()
+	{
+		return DISABLED;
+	}
+
+	/**
+	 * Returns a tracer writing into the file named by -Dblackjack.trace.file, or the disabled
+	 * tracer if the property is not set or the file cannot be opened.
+	 * @param headless true for an engine that plays rounds without a UI
+	 */
+	public static RoundTracer fromSystemProperties(boolean headless)
+	{
+		TraceWriter writer = SharedWriter.INSTANCE;
+		if (writer == null)
+		{
+			return DISABLED;
+		}
+		String configuredRate = System.getProperty("blackjack.trace.sampleRate");
+		double sampleRate = configuredRate != null ? Double.parseDouble(configuredRate)
+				: headless ? DEFAULT_HEADLESS_SAMPLE_RATE : DEFAULT_SAMPLE_RATE;
+		return new RoundTracer(writer, sampleRate);
+	}
+
+	/**
+	 * The trace file shared by all engines of the process, closed on shutdown.
+	 */
+	private static final class SharedWriter
+	{
+		private static final TraceWriter INSTANCE = open(System.getProperty("blackjack.trace.file"));
+
+		private static TraceWriter open(String file)
+		{
+			if (file == null || file.isEmpty())
+			{
+				return null;
+			}
+			try
+			{
+				TraceWriter writer = new TraceWriter(Path.of(file));
+				Runtime.getRuntime().addShutdownHook(new Thread(writer::close, "trace-writer-shutdown"));
+				return writer;
+			}
+			catch (IOException e)
+			{
+				GameLogger.logEvent("Tracing disabled, trace file could not be opened: " + e.getMessage());
+				return null;
+			}
+		}
+	}
+
+	/**
+	 * Starts a round and decides whether it is traced. A traced round still open is ended first.
+	 * @param stateName game state the round starts in
+	 * @param publishedSequence sequence of the last event published before the round
+	 */
+	public void beginRound(String stateName, long publishedSequence)
+	{
+		if (tracedRoundId != 0)
+		{
+			endRound(publishedSequence);
+		}
+		roundCounter++;
+		if (writer == null || (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate))
+		{
+			return;
+		}
+		long now = System.nanoTime();
+		roundStartNanos = now;
+		this.stateName = stateName;
+		stateEnteredNanos = now;
+		lastTracedSequence = Long.MAX_VALUE;
+		firstTracedSequence = publishedSequence + 1;
+		lastTracedRoundId = roundCounter;
+		tracedRoundId = roundCounter;
+	}
+
+	/**
+	 * Returns true while the current round is traced.
+	 */
+	public boolean isTracing()
+	{
+		return tracedRoundId != 0;
+	}
+
+	/**
+	 * Starts a span if the current round is traced.
+	 * @return start time to pass to {@link #endSpan(String, String, long)}, or 0 if the round is not traced
+	 */
+	public long startSpan()
+	{
+		return tracedRoundId != 0 ? System.nanoTime() : 0L;
+	}
+
+	/**
+	 * Ends a span started with {@link #startSpan()}; does nothing for an untraced round.
+	 * @param name span name, usually the traced method
+	 * @param category span category
+	 * @param startNanos value returned by startSpan()
+	 */
+	public void endSpan(String name, String category, long startNanos)
+	{
+		long roundId = tracedRoundId;
+		if (startNanos != 0 && roundId != 0)
+		{
+			writer.submit(TraceEvent.span(name, category, startNanos, System.nanoTime(), processId, roundId, null));
+		}
+	}
+
+	/**
+	 * Closes the span of the state being left and opens one for the new state.
+	 * @param newStateName name of the state entered
+	 */
+	public void stateChanged(String newStateName)
+	{
+		long roundId = tracedRoundId;
+		if (roundId == 0)
+		{
+			return;
+		}
+		long now = System.nanoTime();
+		writer.submit(TraceEvent.span(stateName, STATE, stateEnteredNanos, now, processId, roundId, null));
+		stateName = newStateName;
+		stateEnteredNanos = now;
+	}
+
+	/**
+	 * Ends the traced round, if any, with the span of its last state and the round span itself.
+	 * @param publishedSequence sequence of the last event published during the round
+	 */
+	public void endRound(long publishedSequence)
+	{
+		long roundId = tracedRoundId;
+		if (roundId == 0)
+		{
+			return;
+		}
+		long now = System.nanoTime();
+		writer.submit(TraceEvent.span(stateName, STATE, stateEnteredNanos, now, processId, roundId, null));
+		writer.submit(TraceEvent.span("round " + roundId, ROUND, roundStartNanos, now, processId, roundId, null));
+		lastTracedSequence = publishedSequence;
+		tracedRoundId = 0;
+	}
+
+	/**
+	 * Records the delivery of a batch of events to a subscriber if the batch holds events of the
+	 * most recently traced round. Called on the subscriber's thread.
+	 * @param firstSequence sequence of the first event in the batch
+	 * @param lastSequence sequence of the last event in the batch
+	 * @param subscriber name of the subscriber
+	 * @param startNanos System.nanoTime() before the subscriber was called
+	 */
+	public void recordDelivery(long firstSequence, long lastSequence, String subscriber, long startNanos)
+	{
+		if (writer == null || lastSequence < firstTracedSequence || firstSequence > lastTracedSequence)
+		{
+			return;
+		}
+		writer.submit(TraceEvent.span("notifySubscriber", NOTIFICATION, startNanos, System.nanoTime(), processId,
+				lastTracedRoundId, subscriber + ", " + (lastSequence - firstSequence + 1) + " events"));
+	}
+
+	/**
+	 * Returns true if this tracer writes anywhere at all.
+	 */
+	public boolean isEnabled()
+	{
+		return writer != null;
+	}
+}
@@ -0,0 +1,127 @@
+package blackjack.tracing;
+
+/**
+ * One entry of a Chrome trace file: a complete span ("X") or metadata naming a process or thread ("M").
+ */
+final class TraceEvent
+{
+	static final char COMPLETE = 'X';
+	static final char METADATA = 'M';
+
+	final String name;
+	final String category;
+	final char phase;
+	final long startNanos;
+	final long durationNanos;
+	final int processId;
+	final long threadId;
+	final String threadName;
+	final long roundId;
+	final String detail;
+
+	TraceEvent(String name, String category, char phase, long startNanos, long durationNanos, int processId,
+			long threadId, String threadName, long roundId, String detail)
+	{
+		this.name = name;
+		this.category = category;
+		this.phase = phase;
+		this.startNanos = startNanos;
+		this.durationNanos = durationNanos;
+		this.processId = processId;
+		this.threadId = threadId;
+		this.threadName = threadName;
+		this.roundId = roundId;
+		this.detail = detail;
+	}
+
+	/**
+	 * Creates a span that ran on the calling thread.
+	 */
+	static TraceEvent span(String name, String category, long startNanos, long endNanos, int processId, long roundId, String detail)
+	{
+		Thread thread = Thread.currentThread();
+		return new TraceEvent(name, category, COMPLETE, startNanos, endNanos - startNanos, processId,
+				thread.getId(), thread.getName(), roundId, detail);
+	}
+
+	/**
+	 * Creates a metadata entry, e.g. "process_name" with the display name as detail.
+	 */
+	static TraceEvent metadata(String name, int processId, long threadId, String displayName)
+	{
+		return new TraceEvent(name, null, METADATA, 0, 0, processId, threadId, null, 0, displayName);
+	}
+
+	/**
+	 * Appends this event as one JSON object; timestamps are microseconds since the trace started.
+	 * @param json output buffer
+	 * @param epochNanos System.nanoTime() at which the trace started
+	 */
+	void appendJson(StringBuilder json, long epochNanos)
+	{
+		json.append("{\"name\":");
+		appendString(json, name);
+		json.append(",\"ph\":\"").append(phase).append("\",\"pid\":").append(processId).append(",\"tid\":").append(threadId);
+		if (phase == METADATA)
+		{
+			json.append(",\"args\":{\"name\":");
+			appendString(json, detail);
+			json.append("}}");
+			return;
+		}
+		json.append(",\"cat\":");
+		appendString(json, category);
+		json.append(",\"ts\":");
+		appendMicros(json, startNanos - epochNanos);
+		json.append(",\"dur\":");
+		appendMicros(json, durationNanos);
+		json.append(",\"args\":{\"round\":").append(roundId);
+		if (detail != null)
+		{
+			json.append(",\"detail\":");
+			appendString(json, detail);
+		}
+		json.append("}}");
+	}
+
+	/**
+	 * Appends nanoseconds as microseconds with three decimals, without going through String.format.
+	 */
+	private static void appendMicros(StringBuilder json, long nanos)
+	{
+		if (nanos < 0)
+		{
+			json.append('-');
+			nanos = -nanos;
+		}
+		long fraction = nanos % 1000;
+		json.append(nanos / 1000).append('.');
+		if (fraction < 100)
+		{
+			json.append(fraction < 10 ? "00" : "0");
+		}
+		json.append(fraction);
+	}
+
+	private static void appendString(StringBuilder json, String value)
+	{
+		json.append('"');
+		for (int i = 0; i < value.length(); i++)
+		{
+			char c = value.charAt(i);
+			if (c == '"' || c == '\\')
+			{
+				json.append('\\').append(c);
+			}
+			else if (c < ' ')
+			{
+				json.append(String.format("\\u%04x", (int) c));
+			}
+			else
+			{
+				json.append(c);
+			}
+		}
+		json.append('"');
+	}
+}
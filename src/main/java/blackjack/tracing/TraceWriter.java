@@ -0,0 +1,224 @@
+package blackjack.tracing;
+
+import blackjack.logging.GameLogger;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Writes trace events to a file in the Chrome trace event format (a JSON array), which can be
+ * opened in chrome://tracing or ui.perfetto.dev. Events are handed over through a bounded queue
+ * and written by a daemon thread, so traced code never waits for the disk; when the queue is
+ * full, events are dropped and counted instead. An idle writer blocks on the queue; once an event
+ * wakes it, it waits one drain interval so a burst of events is written as a single batch rather
+ * than waking the thread per event. A file whose writer was never closed lacks the closing
+ * bracket, which both viewers accept.
+ */
+public final class TraceWriter implements AutoCloseable
+{
+	/** Events that can wait for the writer thread before new ones are dropped */
+	public static final int DEFAULT_QUEUE_CAPACITY = 65_536;
+
+	private static final long DRAIN_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+
+	/** Longest an idle writer blocks before checking again whether it was closed */
+	private static final long IDLE_WAIT_MILLIS = 1_000;
+
+	/** Queued by close() to wake an idle writer; never written */
+	private static final TraceEvent CLOSE_MARKER = TraceEvent.metadata("close", 0, 0, null);
+
+	private final BlockingQueue<TraceEvent> queue;
+	private final Writer output;
+	private final Thread writerThread;
+	private final long epochNanos = System.nanoTime();
+	private final LongAdder droppedEvents = new LongAdder();
+	private final LongAdder writtenEvents = new LongAdder();
+
+	// Writer thread only
+	private final Set<Long> namedThreads = new HashSet<>();
+	private final StringBuilder json = new StringBuilder();
+	private boolean firstEvent = true;
+	private boolean failed;
+
+	private volatile boolean closed;
+
+	/**
+	 * Creates (or truncates) a trace file and starts its writer thread.
+	 * @param file trace file
+	 * @throws IOException if the file cannot be opened
+	 */
+	public TraceWriter(Path file) throws IOException
+	{
+		this(file, DEFAULT_QUEUE_CAPACITY);
+	}
+
+	/**
+	 * Creates (or truncates) a trace file with a custom queue size and starts its writer thread.
+	 * @param file trace file
+	 * @param queueCapacity events buffered for the writer thread
+	 * @throws IOException if the file cannot be opened
+	 */
+	public TraceWriter(Path file, int queueCapacity) throws IOException
+	{
+		queue = new ArrayBlockingQueue<>(queueCapacity);
+		output = Files.newBufferedWriter(file);
+		output.write("[\n");
+		writerThread = new Thread(this::writeLoop, "trace-writer");
+		writerThread.setDaemon(true);
+		writerThread.start();
+	}
+
+	/**
+	 * Queues an event without blocking; drops it if the queue is full or the writer is closed.
+	 */
+	void submit(TraceEvent event)
+	{
+		if (closed || !queue.offer(event))
+		{
+			droppedEvents.increment();
+		}
+	}
+
+	/**
+	 * Returns the number of events lost because the writer could not keep up.
+	 */
+	public long getDroppedEventCount()
+	{
+		return droppedEvents.sum();
+	}
+
+	/**
+	 * Returns the number of events written to the file so far.
+	 */
+	public long getWrittenEventCount()
+	{
+		return writtenEvents.sum();
+	}
+
+	/**
+	 * Writes all queued events, terminates the JSON array and closes the file.
+	 */
+	@Override
+	public void close()
+	{
+		if (closed)
+		{
+			return;
+		}
+		closed = true;
+		// If the queue is full the writer is busy anyway and sees the flag once it has drained it
+		queue.offer(CLOSE_MARKER);
+		try
+		{
+			writerThread.join();
+			output.write("\n]\n");
+			output.close();
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+		catch (IOException e)
+		{
+			GameLogger.logEvent("Trace file could not be closed: " + e.getMessage());
+		}
+	}
+
+	private void writeLoop()
+	{
+		List<TraceEvent> batch = new ArrayList<>();
+		try
+		{
+			while (!closed || !queue.isEmpty())
+			{
+				if (queue.isEmpty())
+				{
+					flush();
+					TraceEvent first = queue.poll(IDLE_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+					if (first == null)
+					{
+						continue;
+					}
+					batch.add(first);
+					if (!closed)
+					{
+						LockSupport.parkNanos(DRAIN_INTERVAL_NANOS);
+					}
+				}
+				queue.drainTo(batch);
+				for (TraceEvent event : batch)
+				{
+					if (event != CLOSE_MARKER)
+					{
+						write(event);
+					}
+				}
+				batch.clear();
+			}
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+		flush();
+	}
+
+	private void write(TraceEvent event)
+	{
+		if (event.phase != TraceEvent.METADATA && namedThreads.add(((long) event.processId << 40) ^ event.threadId))
+		{
+			write(TraceEvent.metadata("thread_name", event.processId, event.threadId, event.threadName));
+		}
+		json.setLength(0);
+		if (!firstEvent)
+		{
+			json.append(",\n");
+		}
+		event.appendJson(json, epochNanos);
+		if (failed)
+		{
+			droppedEvents.increment();
+			return;
+		}
+		try
+		{
+			output.append(json);
+			firstEvent = false;
+			writtenEvents.increment();
+		}
+		catch (IOException e)
+		{
+			failed = true;
+			droppedEvents.increment();
+			GameLogger.logEvent("Trace file could not be written, tracing stops: " + e.getMessage());
+		}
+	}
+
+	private void flush()
+	{
+		if (failed)
+		{
+			return;
+		}
+		try
+		{
+			output.flush();
+		}
+		catch (IOException e)
+		{
+			failed = true;
+			GameLogger.logEvent("Trace file could not be written, tracing stops: " + e.getMessage());
+		}
+	}
+}
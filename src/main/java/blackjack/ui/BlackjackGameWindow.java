@@ -1,17 +1,19 @@
 package blackjack.ui;
 
 import blackjack.engine.BlackjackGameEngine;
+import blackjack.event.GameEvent;
+import blackjack.event.GameEventListener;
 
 import javax.swing.*;
 import java.awt.*;
-import java.util.Observable;
-import java.util.Observer;
+import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
 
  Main game window responsible for assembling all UI components and displaying them.
  */
-public class BlackjackGameWindow extends JFrame implements Observer
+public class BlackjackGameWindow extends JFrame implements GameEventListener
 {
 	private BlackjackGameEngine gameEngine;
 	private JPanel mainLayoutContainer;
@@ -54,16 +56,41 @@ public class BlackjackGameWindow extends JFrame implements Observer
 
 	/**
 
-	 Updates UI components based on observable events from the game engine.
+	 Executor delivering engine events on the Swing event thread. Events published from the
+	 event thread itself (button handlers) are delivered right away to keep the log in order.
+	 */
+	public static Executor swingDeliveryExecutor()
+	{
+		return task ->
+		{
+			if (SwingUtilities.isEventDispatchThread())
+				task.run();
+			else
+				SwingUtilities.invokeLater(task);
+		};
+	}
+
+	/**
+
+	 Updates UI components based on a batch of events from the game engine.
 	 */
 	@Override
-	public void update(Observable o, Object arg)
+	public void onGameEvents(List<GameEvent> events)
 	{
-		if (arg.equals("repaint"))
-			this.mainLayoutContainer.repaint();
-		else if (arg.equals("reset game log"))
-			this.eventLogPanel.resetLog();
-		else
-			this.eventLogPanel.logMessage(arg);
+		for (GameEvent event : events)
+		{
+			switch (event.getType())
+			{
+				case LOG_MESSAGE:
+					this.eventLogPanel.logMessage(event.getMessage());
+					break;
+				case LOG_RESET:
+					this.eventLogPanel.resetLog();
+					break;
+				default:
+					break;
+			}
+		}
+		this.mainLayoutContainer.repaint();
 	}
 }
\ No newline at end of file
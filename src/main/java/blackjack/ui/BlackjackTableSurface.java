@@ -24,8 +24,8 @@ public class BlackjackTableSurface extends JPanel
 	{
 		this.gameEngine = gameEngine;
 		this.setLayout(new GridLayout(2, 1));
-		dealerCardDisplay = new CardVisualizationPanel(this.gameEngine.getDealersCards());
-		playerCardDisplay = new CardVisualizationPanel(this.gameEngine.getPlayersCards());
+		dealerCardDisplay = new CardVisualizationPanel(this.gameEngine.getDealer());
+		playerCardDisplay = new CardVisualizationPanel(this.gameEngine, 0);
 
 		dealerCardDisplay.setBackground(new Color(7, 121, 7));
 		playerCardDisplay.setBackground(new Color(7, 121, 7));
@@ -1,6 +1,8 @@
 package blackjack.ui;
 
-import blackjack.model.PlayingCardRepresentation;
+import blackjack.engine.BlackjackGameEngine;
+import blackjack.util.BlackjackParticipant;
+import blackjack.util.PlayerHand;
 
 import javax.imageio.ImageIO;
 import javax.swing.*;
@@ -8,26 +10,42 @@ import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
-import java.util.ArrayList;
 
 /**
 
  Custom panel that renders a list of cards as images horizontally.
+ A seat panel shows every hand of the seat, split hands next to each other.
  */
 public class CardVisualizationPanel extends JPanel
 {
 	private int cardWidth = 113;
 	private int cardHeight = 157;
-	private ArrayList<PlayingCardRepresentation> cardsToDisplay;
+	private int splitHandGap = 30;
+	private BlackjackParticipant handOwner;
+	private BlackjackGameEngine seatEngine;
+	private int seatIndex;
 
 	/**
 
-	 Constructs the card panel with a list of cards to display.
-	 @param cards list of cards from player or dealer
+	 Constructs the card panel for the hand of a participant.
+	 @param handOwner player or dealer whose cards are displayed
 	 */
-	public CardVisualizationPanel(ArrayList<PlayingCardRepresentation> cards)
+	public CardVisualizationPanel(BlackjackParticipant handOwner)
 	{
-		this.cardsToDisplay = cards;
+		this.handOwner = handOwner;
+	}
+
+	/**
+
+	 Constructs the card panel for all hands of a seat.
+	 @param seatEngine engine holding the seat's hands
+	 @param seatIndex zero-based seat index
+	 */
+	public CardVisualizationPanel(BlackjackGameEngine seatEngine, int seatIndex)
+	{
+		this.seatEngine = seatEngine;
+		this.seatIndex = seatIndex;
+		this.handOwner = seatEngine.getSeat(seatIndex);
 	}
 	/**
 
@@ -38,10 +56,21 @@ public class CardVisualizationPanel extends JPanel
 		super.paintComponent(g);
 		try
 		{
-			for (int i = 0; i < cardsToDisplay.size(); i++)
+			if (seatEngine == null || seatEngine.getSeatHandCount(seatIndex) == 1)
 			{
-				BufferedImage cardImg = ImageIO.read(new File(cardsToDisplay.get(i).retrieveCardImagePath()));
-				g.drawImage(cardImg, (cardWidth + 3) * i, 50, cardWidth, cardHeight, this);
+				paintHand(g, handOwner, 0, cardWidth + 3);
+				return;
+			}
+			// Split hands are fanned so several fit side by side
+			int handStart = 0;
+			for (int h = 0; h < seatEngine.getHandCount(); h++)
+			{
+				PlayerHand hand = seatEngine.getHand(h);
+				if (hand.getSeatIndex() == seatIndex)
+				{
+					paintHand(g, hand, handStart, splitHandGap);
+					handStart += cardWidth + splitHandGap * hand.getNumberOfCardsInHand();
+				}
 			}
 		}
 		catch (IOException ex)
@@ -49,4 +78,13 @@ public class CardVisualizationPanel extends JPanel
 			System.out.println("Error loading card image: " + ex.getMessage());
 		}
 	}
+
+	private void paintHand(Graphics g, BlackjackParticipant hand, int startX, int cardStep) throws IOException
+	{
+		for (int i = 0; i < hand.getNumberOfCardsInHand(); i++)
+		{
+			BufferedImage cardImg = ImageIO.read(new File(hand.retrieveCardImagePath(i)));
+			g.drawImage(cardImg, startX + cardStep * i, 50, cardWidth, cardHeight, this);
+		}
+	}
 }
\ No newline at end of file
@@ -2,6 +2,8 @@ package blackjack.ui;
 
 import blackjack.engine.BlackjackGameEngine;
 import blackjack.logging.GameLogger;
+import blackjack.metrics.EngineMetrics;
+import blackjack.metrics.TimedAction;
 import blackjack.util.GameAdvisor;
 
 import javax.swing.*;
@@ -10,7 +12,11 @@ import java.awt.event.ActionListener;
 
 /**
 
- Panel containing action buttons for the player (Deal, Hit, Stay, Reset).
+ Panel containing action buttons for the player (Deal, Hit, Stay, Double, Split, Surrender, Reset).
+ Double, Split and Surrender only act when the table rules allow them; otherwise the engine logs why not.
+ Every button's handling time, advice and logging included, is recorded in the engine metrics.
+ Handlers run under the engine's monitor, as dealer steps on the pacing thread do, so a button
+ press never interleaves with a dealer draw.
  */
 public class PlayerActionControlPanel extends JPanel
 {
@@ -21,6 +27,9 @@ public class PlayerActionControlPanel extends JPanel
 	private final JButton dealButton = new JButton("Deal");
     private final JButton requestCardButton = new JButton("Hit");
     private final JButton holdTurnButton = new JButton("Stay");
+	private final JButton doubleDownButton = new JButton("Double");
+	private final JButton splitHandButton = new JButton("Split");
+	private final JButton surrenderButton = new JButton("Surrender");
     private final JButton restartGameButton = new JButton("Reset");
 
 	/**
@@ -41,18 +50,37 @@ public class PlayerActionControlPanel extends JPanel
 		this.add(dealButton);
 		this.add(requestCardButton);
 		this.add(holdTurnButton);
+		this.add(doubleDownButton);
+		this.add(splitHandButton);
+		this.add(surrenderButton);
 		this.add(restartGameButton);
 	}
 
 	private void initListeners() {
-		dealButton.addActionListener(new DealButtonHandler());
-		requestCardButton.addActionListener(new HitButtonHandler());
-		holdTurnButton.addActionListener(new StayButtonHandler());
-		restartGameButton.addActionListener(new ResetButtonHandler());
+		dealButton.addActionListener(timed(TimedAction.DEAL, new DealButtonHandler()));
+		requestCardButton.addActionListener(timed(TimedAction.HIT, new HitButtonHandler()));
+		holdTurnButton.addActionListener(timed(TimedAction.STAY, new StayButtonHandler()));
+		doubleDownButton.addActionListener(timed(TimedAction.DOUBLE, new DoubleDownButtonHandler()));
+		splitHandButton.addActionListener(timed(TimedAction.SPLIT, new SplitButtonHandler()));
+		surrenderButton.addActionListener(timed(TimedAction.SURRENDER, new SurrenderButtonHandler()));
+		restartGameButton.addActionListener(timed(TimedAction.RESET, new ResetButtonHandler()));
+	}
+
+	private ActionListener timed(TimedAction action, ActionListener handler) {
+		return e -> {
+			long startNanos = System.nanoTime();
+			try {
+				synchronized (gameEngine) {
+					handler.actionPerformed(e);
+				}
+			} finally {
+				EngineMetrics.getInstance().recordAction(action, System.nanoTime() - startNanos);
+			}
+		};
 	}
 
 	private void logAdvice() {
-		String advice = GameAdvisor.advisePlayer(gameEngine.getPlayer().getHandCards());
+		String advice = GameAdvisor.advisePlayer(gameEngine);
 		eventLogPanel.logMessage(advice);
 	}
 
@@ -68,7 +96,12 @@ public class PlayerActionControlPanel extends JPanel
 		public void actionPerformed(ActionEvent e)
 		{
 			gameEngine.getCurrentGameState().startGame();
-			if (gameEngine.getPlayer().hasBlackjackImmediately())
+			if (!gameEngine.getCurrentGameState().equals(gameEngine.getPlayerTurnState()))
+			{
+				// Round already settled by the dealer's blackjack peek
+				GameLogger.logEvent("Dealer blackjack. Player cards: " + gameEngine.getPlayer().getHandCards());
+			}
+			else if (gameEngine.getPlayer().hasBlackjackImmediately())
 			{
 				eventLogPanel.logMessage("Player has Blackjack!");
 				eventLogPanel.logMessage("Dealer's Turn");
@@ -77,6 +110,11 @@ public class PlayerActionControlPanel extends JPanel
 			else
 			{
 				eventLogPanel.logMessage("Player's turn!");
+				String outlook = GameAdvisor.describeDealerOutlook(gameEngine);
+				if (outlook != null)
+				{
+					eventLogPanel.logMessage(outlook);
+				}
 				logAdvice();
 				GameLogger.logEvent("New round started. Player cards: " + gameEngine.getPlayer().getHandCards());
 			}
@@ -124,6 +162,64 @@ public class PlayerActionControlPanel extends JPanel
 			}
 		}
 	}
+	/**
+
+	 Action triggered when the Double button is pressed.
+	 */
+	private class DoubleDownButtonHandler implements ActionListener
+	{
+		public void actionPerformed(ActionEvent e)
+		{
+			if (gameEngine.getCurrentGameState().equals(gameEngine.getPlayerTurnState()))
+			{
+				if (gameEngine.doubleDownActiveHand())
+				{
+					GameLogger.logEvent("Player doubled down. Hand: " + gameEngine.getPlayer().getHandCards());
+				}
+				repaintUI();
+			}
+		}
+	}
+	/**
+
+	 Action triggered when the Split button is pressed.
+	 */
+	private class SplitButtonHandler implements ActionListener
+	{
+		public void actionPerformed(ActionEvent e)
+		{
+			if (gameEngine.getCurrentGameState().equals(gameEngine.getPlayerTurnState()))
+			{
+				if (gameEngine.splitActiveHand())
+				{
+					GameLogger.logEvent("Player split. Hand: " + gameEngine.getPlayer().getHandCards());
+					if (gameEngine.getCurrentGameState().equals(gameEngine.getPlayerTurnState()))
+					{
+						logAdvice();
+					}
+				}
+				repaintUI();
+			}
+		}
+	}
+	/**
+
+	 Action triggered when the Surrender button is pressed.
+	 */
+	private class SurrenderButtonHandler implements ActionListener
+	{
+		public void actionPerformed(ActionEvent e)
+		{
+			if (gameEngine.getCurrentGameState().equals(gameEngine.getPlayerTurnState()))
+			{
+				if (gameEngine.surrenderActiveHand())
+				{
+					GameLogger.logEvent("Player surrendered.");
+				}
+				repaintUI();
+			}
+		}
+	}
 	/**
 
 	 Action triggered when the Reset button is pressed.
@@ -1,7 +1,5 @@
 package blackjack.util;
 
-import blackjack.model.PlayingCardRepresentation;
-
 /**
  * Represents the dealer in the Blackjack game. Inherits common behavior from BlackjackParticipant.
  * Provides logic to flip all hidden cards face-up at once.
@@ -23,10 +21,7 @@ public class BlackjackDealer extends BlackjackParticipant
 	 */
 	public void revealAllDealerCardsToPlayer()
 	{
-		for (PlayingCardRepresentation card : handOfCards)
-		{
-			card.turnCardFaceUp();
-		}
+		faceDownCardMask = 0;
 	}
 
 	/**
@@ -35,14 +30,7 @@ public class BlackjackDealer extends BlackjackParticipant
 	 */
 	public boolean isHidingAnyCards()
 	{
-		for (PlayingCardRepresentation card : handOfCards)
-		{
-			if (card.isCardCurrentlyFaceDown())
-			{
-				return true;
-			}
-		}
-		return false;
+		return faceDownCardMask != 0;
 	}
 
 	/**
@@ -50,13 +38,6 @@ public class BlackjackDealer extends BlackjackParticipant
 	 */
 	public void revealSingleFaceDownCard()
 	{
-		for (PlayingCardRepresentation card : handOfCards)
-		{
-			if (card.isCardCurrentlyFaceDown())
-			{
-				card.turnCardFaceUp();
-				break;
-			}
-		}
+		faceDownCardMask &= faceDownCardMask - 1;
 	}
 }
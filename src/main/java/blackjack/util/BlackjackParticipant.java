@@ -3,10 +3,15 @@ package blackjack.util;
 import blackjack.model.PlayingCardRepresentation;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Represents a participant in the Blackjack game (either player or dealer).
  * Maintains the hand of cards and provides methods to assess hand value.
+ * The hard total and ace count are updated as cards arrive, so every hand query is constant time;
+ * cards must therefore be added only through {@link #acquireCardIntoHand(PlayingCardRepresentation)}
+ * and removed only through {@link #removeLastCard()} or {@link #discardAllCardsFromHand()}.
  */
 public class BlackjackParticipant
 {
@@ -14,10 +19,23 @@ public class BlackjackParticipant
 	/** The cards currently held in hand */
 	protected ArrayList<PlayingCardRepresentation> handOfCards;
 
+	/** Read-only view of the hand handed out to callers, so the incremental totals cannot be bypassed */
+	private final List<PlayingCardRepresentation> handView;
+
+	/** Bit i is set when the card at hand position i lies face-down */
+	protected long faceDownCardMask;
+
+	/** Sum of all cards with every ace counted as 1 */
+	private int hardTotal;
+
+	/** Number of aces in hand */
+	private int aceCount;
+
 	/** Constructs a new Blackjack participant with an empty hand */
 	public BlackjackParticipant()
 	{
 		handOfCards = new ArrayList<>();
+		handView = Collections.unmodifiableList(handOfCards);
 	}
 
 	public boolean hasBlackjackImmediately()
@@ -26,12 +44,48 @@ public class BlackjackParticipant
 	}
 
 	/**
-	 * Adds a card to the participant's hand.
+	 * Adds a face-up card to the participant's hand.
 	 * @param card the card to add
 	 */
 	public void acquireCardIntoHand(PlayingCardRepresentation card)
 	{
+		acquireCardIntoHand(card, false);
+	}
+
+	/**
+	 * Adds a card to the participant's hand.
+	 * @param card the card to add
+	 * @param faceDown whether the card is placed face-down
+	 */
+	public void acquireCardIntoHand(PlayingCardRepresentation card, boolean faceDown)
+	{
+		if (faceDown)
+		{
+			faceDownCardMask |= 1L << handOfCards.size();
+		}
 		handOfCards.add(card);
+		hardTotal += card.getBlackjackValue();
+		if (card.isAce())
+		{
+			aceCount++;
+		}
+	}
+
+	/**
+	 * Removes the most recently added card, e.g. to move it into a split hand.
+	 * @return the removed card
+	 */
+	public PlayingCardRepresentation removeLastCard()
+	{
+		int position = handOfCards.size() - 1;
+		PlayingCardRepresentation card = handOfCards.remove(position);
+		faceDownCardMask &= ~(1L << position);
+		hardTotal -= card.getBlackjackValue();
+		if (card.isAce())
+		{
+			aceCount--;
+		}
+		return card;
 	}
 
 	/**
@@ -40,42 +94,65 @@ public class BlackjackParticipant
 	public void discardAllCardsFromHand()
 	{
 		handOfCards.clear();
+		faceDownCardMask = 0;
+		hardTotal = 0;
+		aceCount = 0;
 	}
 
 	/**
-	 * Calculates the total value of the hand, handling aces appropriately.
+	 * Checks if the card at the given hand position is face-down.
+	 * @param position index in the hand
+	 * @return true if face-down
+	 */
+	public boolean isCardFaceDown(int position)
+	{
+		return (faceDownCardMask & (1L << position)) != 0;
+	}
+
+	/**
+	 * Gets the image for the card at the given hand position, showing the card back if it is face-down.
+	 * @param position index in the hand
+	 * @return path to card image
+	 */
+	public String retrieveCardImagePath(int position)
+	{
+		return isCardFaceDown(position) ? PlayingCardRepresentation.CARD_BACK_IMAGE_PATH : handOfCards.get(position).retrieveCardImagePath();
+	}
+
+	/**
+	 * Calculates the total value of the hand, counting one ace as 11 when that does not bust.
 	 * @return total value of cards
 	 */
 	public int calculateTotalHandValue()
 	{
-		int totalValue = 0;
-		int aceCount = 0;
+		return isSoftHand() ? hardTotal + 10 : hardTotal;
+	}
 
-		for (PlayingCardRepresentation card : handOfCards)
-		{
-			String symbol = card.getCardSymbolCode();
-
-			if (symbol.contains("A")) aceCount++;
-			else if (symbol.contains("2")) totalValue += 2;
-			else if (symbol.contains("3")) totalValue += 3;
-			else if (symbol.contains("4")) totalValue += 4;
-			else if (symbol.contains("5")) totalValue += 5;
-			else if (symbol.contains("6")) totalValue += 6;
-			else if (symbol.contains("7")) totalValue += 7;
-			else if (symbol.contains("8")) totalValue += 8;
-			else if (symbol.contains("9")) totalValue += 9;
-			else if (symbol.contains("0") || symbol.contains("J") || symbol.contains("Q") || symbol.contains("K")) {
-				totalValue += 10;
-			}
-		}
+	/**
+	 * Returns the total with every ace counted as 1.
+	 * @return hard total
+	 */
+	public int getHardTotal()
+	{
+		return hardTotal;
+	}
 
-		// Handle ace value choices
-		for (int i = 0; i < aceCount; i++)
-		{
-			totalValue += (totalValue + 11 > 21) ? 1 : 11;
-		}
+	/**
+	 * Returns the number of aces in hand.
+	 * @return ace count
+	 */
+	public int getAceCount()
+	{
+		return aceCount;
+	}
 
-		return totalValue;
+	/**
+	 * Checks if an ace currently counts as 11.
+	 * @return true for a soft hand
+	 */
+	public boolean isSoftHand()
+	{
+		return aceCount > 0 && hardTotal <= 11;
 	}
 
 	/**
@@ -84,7 +161,7 @@ public class BlackjackParticipant
 	 */
 	public boolean isHandBusted()
 	{
-		return calculateTotalHandValue() > 21;
+		return hardTotal > 21;
 	}
 
 	/**
@@ -97,12 +174,12 @@ public class BlackjackParticipant
 	}
 
 	/**
-	 * Returns the current hand.
+	 * Returns the current hand as a read-only view that follows later changes.
 	 * @return list of cards in hand
 	 */
-	public ArrayList<PlayingCardRepresentation> getHandCards()
+	public List<PlayingCardRepresentation> getHandCards()
 	{
-		return handOfCards;
+		return handView;
 	}
 
 	/**
@@ -111,9 +188,9 @@ public class BlackjackParticipant
 	public void printHandToConsole()
 	{
 		System.out.print("Current Hand: ");
-		for (PlayingCardRepresentation card : handOfCards)
+		for (int i = 0; i < handOfCards.size(); i++)
 		{
-			System.out.print(card + ", ");
+			System.out.print(handOfCards.get(i) + (isCardFaceDown(i) ? " [Face down]" : "") + ", ");
 		}
 		System.out.println();
 	}
@@ -1,49 +1,124 @@
 package blackjack.util;
 
+import blackjack.engine.BlackjackGameEngine;
 import blackjack.model.PlayingCardRepresentation;
-
-import java.util.List;
+import blackjack.model.StandardDeckCardManager;
+import blackjack.rules.DealerStandRule;
+import blackjack.rules.TableRules;
+import blackjack.strategy.BasicStrategyChart;
+import blackjack.strategy.CompositionDependentSolver;
+import blackjack.strategy.DealerOutcomeTables;
+import blackjack.strategy.DeviationIndexSet;
+import blackjack.strategy.HandExpectedValues;
+import blackjack.strategy.StrategyAction;
 
 /**
- * Provides simple strategic suggestions to the player based on their hand value.
+ * Provides strategic suggestions to the player, either from the basic-strategy chart or from the
+ * exact expected values for the cards actually left in the shoe.
  */
 public class GameAdvisor
 {
 
-    public static String advisePlayer(List<PlayingCardRepresentation> hand)
+    private static final CompositionDependentSolver EXACT_SOLVER = new CompositionDependentSolver();
+
+    public static String advisePlayer(BlackjackParticipant player, PlayingCardRepresentation dealerUpCard)
+    {
+        if (dealerUpCard == null || player.getNumberOfCardsInHand() == 0) return "Use your judgment!";
+        StrategyAction action = BasicStrategyChart.getInstance().recommendHitOrStand(player, dealerUpCard);
+        return "Recommendation: " + action.getDisplayName() + ".";
+    }
+
+    /**
+     * Describes how often the dealer busts with the current upcard, from the precomputed tables for the
+     * shoe's deck count and the table's dealer rule.
+     * @return the outlook, or null if the tables do not cover the dealer rule or could not be loaded
+     */
+    public static String describeDealerOutlook(BlackjackGameEngine engine)
     {
-        int value = calculateHandValue(hand);
-        if (value <= 11) return "Recommendation: Hit.";
-        if (value >= 17) return "Recommendation: Stay.";
-        return "Use your judgment!";
+        PlayingCardRepresentation dealerUpCard = engine.getDealerUpCard();
+        int threshold = dealerThreshold(engine.getTableRules().getDealerStandRule(), engine.getBestLivePlayerTotal());
+        // dealer-outcomes.bin is generated by the build; without it the advice simply goes without an outlook
+        if (dealerUpCard == null || threshold < 0 || !DealerOutcomeTables.isAvailable()) return null;
+        int deckCount = Math.max(1, Math.min(engine.getDeckManager().getDeckCount(), StandardDeckCardManager.MAXIMUM_DECK_COUNT));
+        double bust = DealerOutcomeTables.getInstance().getProbability(deckCount, dealerUpCard.getRankSlot(), threshold,
+                CompositionDependentSolver.DEALER_BUST_INDEX);
+        return String.format("Dealer busts %.0f%% of the time showing %s.", bust * 100, dealerUpCard);
+    }
+
+    // The tables model a dealer standing on any 17 and on the best live player total once level; -1 if that is not this rule
+    private static int dealerThreshold(DealerStandRule rule, int bestLivePlayerTotal)
+    {
+        switch (rule)
+        {
+            case STAND_ON_SOFT_17:
+                return DealerOutcomeTables.MINIMUM_THRESHOLD;
+            case LEGACY_NOT_BEHIND_PLAYER:
+                return Math.max(DealerOutcomeTables.MINIMUM_THRESHOLD, bestLivePlayerTotal);
+            default:
+                return -1;
+        }
     }
 
-    private static int calculateHandValue(List<PlayingCardRepresentation> hand)
+    /**
+     * Recommends hit or stay from the chart, overridden by the index plays at the given true count.
+     */
+    public static String advisePlayer(BlackjackParticipant player, PlayingCardRepresentation dealerUpCard,
+                                      DeviationIndexSet indexSet, double trueCount)
     {
-        int value = 0;
-        int aces = 0;
+        if (dealerUpCard == null || player.getNumberOfCardsInHand() == 0) return "Use your judgment!";
+        int handKey = BasicStrategyChart.handKey(player, false);
+        StrategyAction chartAction = BasicStrategyChart.getInstance().lookup(handKey, dealerUpCard.getRankSlot(), false);
+        StrategyAction action = indexSet.apply(handKey, dealerUpCard.getRankSlot(), trueCount, chartAction);
+        String deviation = action == chartAction ? "" : String.format(" (index play at true count %+.1f)", trueCount);
+        return "Recommendation: " + action.getDisplayName() + deviation + ".";
+    }
 
-        for (PlayingCardRepresentation card : hand)
+    /**
+     * Recommends hit or stay from the exact expected values given the remaining shoe composition.
+     */
+    public static String advisePlayerExactly(BlackjackParticipant player, BlackjackDealer dealer, StandardDeckCardManager shoe)
+    {
+        if (player.getNumberOfCardsInHand() == 0 || player.isHandBusted() || !dealer.isHidingAnyCards()) return "Use your judgment!";
+        HandExpectedValues values;
+        synchronized (EXACT_SOLVER)
         {
-            String symbol = card.getCardSymbolCode();
-            if (symbol.contains("A")) aces++;
-            else if (symbol.contains("2")) value += 2;
-            else if (symbol.contains("3")) value += 3;
-            else if (symbol.contains("4")) value += 4;
-            else if (symbol.contains("5")) value += 5;
-            else if (symbol.contains("6")) value += 6;
-            else if (symbol.contains("7")) value += 7;
-            else if (symbol.contains("8")) value += 8;
-            else if (symbol.contains("9")) value += 9;
-            else value += 10;
+            values = EXACT_SOLVER.evaluate(player, dealer, shoe);
         }
+        return "Recommendation: " + values.getBestAction().getDisplayName() + " (" + values + ").";
+    }
 
-        for (int i = 0; i < aces; i++)
+    /**
+     * Recommends the next action for the engine's active hand. Hit-or-stay tables with the legacy dealer get the
+     * exact composition-dependent advice; any other rules get the full chart, with doubling, splitting and
+     * surrender offered whenever the table allows them right now.
+     */
+    public static String advisePlayer(BlackjackGameEngine engine)
+    {
+        if (isExactlySolvable(engine.getTableRules()))
         {
-            value += (value + 11 > 21) ? 1 : 11;
+            return advisePlayerExactly(engine.getPlayer(), engine.getDealer(), engine.getDeckManager());
         }
+        BlackjackParticipant hand = engine.getPlayer();
+        PlayingCardRepresentation dealerUpCard = engine.getDealerUpCard();
+        if (dealerUpCard == null || hand.getNumberOfCardsInHand() == 0 || hand.isHandBusted()) return "Use your judgment!";
+        BasicStrategyChart chart = BasicStrategyChart.getInstance();
+        StrategyAction action = chart.recommendFirstDecision(hand, dealerUpCard);
+        if ((action == StrategyAction.DOUBLE && !engine.canDoubleDown())
+                || (action == StrategyAction.SPLIT && !engine.canSplit())
+                || (action == StrategyAction.SURRENDER && !engine.canSurrender()))
+        {
+            action = chart.recommendHitOrStand(hand, dealerUpCard);
+        }
+        return "Recommendation: " + action.getDisplayName() + ".";
+    }
 
-        return value;
+    // The exact solver models the legacy dealer and only weighs hitting against standing
+    private static boolean isExactlySolvable(TableRules rules)
+    {
+        return rules.getDealerStandRule() == DealerStandRule.LEGACY_NOT_BEHIND_PLAYER
+                && !rules.isDoubleDownAllowed()
+                && !rules.isLateSurrender()
+                && rules.getMaximumHandsPerSeat() == 1;
     }
 
 }
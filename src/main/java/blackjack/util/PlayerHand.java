@@ -0,0 +1,118 @@
+package blackjack.util;
+
+import blackjack.model.PlayingCardRepresentation;
+
+/**
+ * One player hand at a seat. A seat starts every round with one hand and gains more by splitting.
+ * Besides the cards, the hand remembers how it was played, which decides its payout.
+ */
+public class PlayerHand extends BlackjackParticipant
+{
+	private final int seatIndex;
+	private boolean doubled;
+	private boolean surrendered;
+	private boolean fromSplit;
+	private boolean splitAces;
+
+	/**
+	 * Constructs an empty hand.
+	 * @param seatIndex zero-based seat holding the hand
+	 */
+	public PlayerHand(int seatIndex)
+	{
+		super();
+		this.seatIndex = seatIndex;
+	}
+
+	/**
+	 * A two-card 21 only counts as blackjack on a hand that was not created by a split.
+	 */
+	@Override
+	public boolean hasBlackjackImmediately()
+	{
+		return !fromSplit && super.hasBlackjackImmediately();
+	}
+
+	/**
+	 * Clears the cards and how the hand was played.
+	 */
+	@Override
+	public void discardAllCardsFromHand()
+	{
+		super.discardAllCardsFromHand();
+		doubled = false;
+		surrendered = false;
+		fromSplit = false;
+		splitAces = false;
+	}
+
+	/**
+	 * Moves the second card of a pair into an empty hand; both hands are then split hands.
+	 * @param target empty hand receiving the card
+	 */
+	public void splitInto(PlayerHand target)
+	{
+		PlayingCardRepresentation movedCard = removeLastCard();
+		target.acquireCardIntoHand(movedCard);
+		fromSplit = true;
+		target.fromSplit = true;
+		splitAces = movedCard.isAce();
+		target.splitAces = splitAces;
+	}
+
+	public int getSeatIndex()
+	{
+		return seatIndex;
+	}
+
+	/**
+	 * Checks whether the wager on this hand was doubled.
+	 * @return true after a double down
+	 */
+	public boolean isDoubled()
+	{
+		return doubled;
+	}
+
+	public void markDoubled()
+	{
+		doubled = true;
+	}
+
+	public boolean isSurrendered()
+	{
+		return surrendered;
+	}
+
+	public void markSurrendered()
+	{
+		surrendered = true;
+	}
+
+	/**
+	 * Checks whether this hand was created by splitting a pair.
+	 * @return true for split hands
+	 */
+	public boolean isFromSplit()
+	{
+		return fromSplit;
+	}
+
+	/**
+	 * Checks whether this hand started from a split pair of aces.
+	 * @return true for split aces
+	 */
+	public boolean isSplitAces()
+	{
+		return splitAces;
+	}
+
+	/**
+	 * Checks whether the hand is still in play, i.e. neither busted nor surrendered.
+	 * @return true for a live hand
+	 */
+	public boolean isLive()
+	{
+		return !surrendered && !isHandBusted();
+	}
+}
@@ -0,0 +1,63 @@
+package benchmarks;
+
+import blackjack.metrics.EngineMetrics;
+import blackjack.metrics.LatencyHistogram;
+import blackjack.metrics.TimedAction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the hot-path cost of the engine metrics: counting a round from eight threads and timing
+ * an action, including both System.nanoTime() calls.
+ * Run with: {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=benchmarks.EngineMetricsBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EngineMetricsBenchmark
+{
+	private final EngineMetrics metrics = EngineMetrics.getInstance();
+	private final LatencyHistogram histogram = new LatencyHistogram();
+
+	@Benchmark
+	@Threads(8)
+	public void countRoundShared()
+	{
+		metrics.recordRoundSettled();
+	}
+
+	@Benchmark
+	public void timeAction()
+	{
+		long startNanos = System.nanoTime();
+		metrics.recordAction(TimedAction.HIT, System.nanoTime() - startNanos);
+	}
+
+	@Benchmark
+	@Threads(8)
+	public void recordHistogramShared()
+	{
+		histogram.record(12_345);
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder().include(EngineMetricsBenchmark.class.getSimpleName()).build()).run();
+	}
+}
@@ -0,0 +1,127 @@
+package benchmarks;
+
+import blackjack.model.PlayingCardRepresentation;
+import blackjack.util.BlackjackParticipant;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the incremental hand value tracking of BlackjackParticipant with the former
+ * full rescan that matched card symbols with String.contains.
+ * Each operation evaluates a hand the way one dealer step does: bust, 21, dealer rule and settlement.
+ * Run with: {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=benchmarks.HandValueBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandValueBenchmark
+{
+	private static final int HAND_COUNT = 1024;
+
+	private BlackjackParticipant[] hands;
+	private int nextHand;
+
+	@Setup
+	public void createHands()
+	{
+		Random random = new Random(1);
+		hands = new BlackjackParticipant[HAND_COUNT];
+		for (int i = 0; i < HAND_COUNT; i++)
+		{
+			hands[i] = new BlackjackParticipant();
+			int cardCount = 2 + random.nextInt(3);
+			for (int card = 0; card < cardCount; card++)
+			{
+				hands[i].acquireCardIntoHand(PlayingCardRepresentation.fromIndex(random.nextInt(PlayingCardRepresentation.CARD_COUNT)));
+			}
+		}
+	}
+
+	@Benchmark
+	public int rescanWithStringContains()
+	{
+		List<PlayingCardRepresentation> hand = nextHand().getHandCards();
+		int checks = 0;
+		checks += legacyHandValue(hand) > 21 ? 1 : 0;
+		checks += legacyHandValue(hand) == 21 ? 1 : 0;
+		checks += legacyHandValue(hand) >= 17 ? 1 : 0;
+		checks += legacyHandValue(hand);
+		return checks;
+	}
+
+	@Benchmark
+	public int incrementalTracking()
+	{
+		BlackjackParticipant hand = nextHand();
+		int checks = 0;
+		checks += hand.isHandBusted() ? 1 : 0;
+		checks += hand.doesHavePerfectBlackjack() ? 1 : 0;
+		checks += hand.calculateTotalHandValue() >= 17 ? 1 : 0;
+		checks += hand.calculateTotalHandValue();
+		return checks;
+	}
+
+	private BlackjackParticipant nextHand()
+	{
+		BlackjackParticipant hand = hands[nextHand];
+		nextHand = (nextHand + 1) & (HAND_COUNT - 1);
+		return hand;
+	}
+
+	/**
+	 * The hand evaluation BlackjackParticipant used before incremental tracking.
+	 */
+	private static int legacyHandValue(List<PlayingCardRepresentation> hand)
+	{
+		int totalValue = 0;
+		int aceCount = 0;
+
+		for (PlayingCardRepresentation card : hand)
+		{
+			String symbol = card.getCardSymbolCode();
+
+			if (symbol.contains("A")) aceCount++;
+			else if (symbol.contains("2")) totalValue += 2;
+			else if (symbol.contains("3")) totalValue += 3;
+			else if (symbol.contains("4")) totalValue += 4;
+			else if (symbol.contains("5")) totalValue += 5;
+			else if (symbol.contains("6")) totalValue += 6;
+			else if (symbol.contains("7")) totalValue += 7;
+			else if (symbol.contains("8")) totalValue += 8;
+			else if (symbol.contains("9")) totalValue += 9;
+			else if (symbol.contains("0") || symbol.contains("J") || symbol.contains("Q") || symbol.contains("K")) {
+				totalValue += 10;
+			}
+		}
+
+		for (int i = 0; i < aceCount; i++)
+		{
+			totalValue += (totalValue + 11 > 21) ? 1 : 11;
+		}
+
+		return totalValue;
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder().include(HandValueBenchmark.class.getSimpleName()).build()).run();
+	}
+}
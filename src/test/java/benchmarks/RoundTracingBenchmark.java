@@ -0,0 +1,85 @@
+package benchmarks;
+
+import blackjack.engine.BlackjackGameEngine;
+import blackjack.engine.HeadlessRoundExecutor;
+import blackjack.engine.PlayerDecisionStrategy;
+import blackjack.engine.RoundOutcome;
+import blackjack.model.ShuffleRandomSource;
+import blackjack.model.StandardDeckCardManager;
+import blackjack.rules.TableRules;
+import blackjack.strategy.BasicStrategyChart;
+import blackjack.tracing.RoundTracer;
+import blackjack.tracing.TraceWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of round tracing on headless play at several sample rates; a rate of 0 is the
+ * untraced baseline, so the difference to it is the tracing overhead.
+ * Run with: {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=benchmarks.RoundTracingBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoundTracingBenchmark
+{
+	@Param({"0", "0.01", "0.1", "1"})
+	public double sampleRate;
+
+	private Path traceFile;
+	private TraceWriter writer;
+	private HeadlessRoundExecutor executor;
+	private PlayerDecisionStrategy strategy;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException
+	{
+		traceFile = Files.createTempFile("round-tracing", ".json");
+		writer = new TraceWriter(traceFile);
+		BlackjackGameEngine engine = new BlackjackGameEngine(true,
+				new StandardDeckCardManager(ShuffleRandomSource.xoshiro256(1), 6, 0.75), 1, TableRules.casinoStandard());
+		engine.setRoundTracer(new RoundTracer(writer, sampleRate));
+		executor = new HeadlessRoundExecutor(engine);
+		strategy = BasicStrategyChart.getInstance().asDecisionStrategy(engine);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException
+	{
+		writer.close();
+		Files.deleteIfExists(traceFile);
+	}
+
+	@Benchmark
+	public RoundOutcome playRound()
+	{
+		return executor.playRound(strategy);
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder().include(RoundTracingBenchmark.class.getSimpleName()).build()).run();
+	}
+}
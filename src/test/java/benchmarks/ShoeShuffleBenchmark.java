@@ -0,0 +1,68 @@
+package benchmarks;
+
+import blackjack.model.ShuffleRandomSource;
+import blackjack.model.StandardDeckCardManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures shuffling and dealing out a StandardDeckCardManager shoe for one to eight decks.
+ * Run with: {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=benchmarks.ShoeShuffleBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShoeShuffleBenchmark
+{
+	@Param({"1", "6", "8"})
+	private int deckCount;
+
+	private StandardDeckCardManager shoe;
+
+	@Setup
+	public void createShoe()
+	{
+		shoe = new StandardDeckCardManager(ShuffleRandomSource.seeded(42L), deckCount, 0.75);
+	}
+
+	@Benchmark
+	public int shuffle()
+	{
+		shoe.shuffleDeck();
+		return shoe.getRemainingCardCount();
+	}
+
+	@Benchmark
+	public int shuffleAndDealOut()
+	{
+		shoe.shuffleDeck();
+		int checksum = 0;
+		while (shoe.hasNext())
+		{
+			checksum += shoe.next().getBlackjackValue();
+		}
+		return checksum;
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder().include(ShoeShuffleBenchmark.class.getSimpleName()).build()).run();
+	}
+}
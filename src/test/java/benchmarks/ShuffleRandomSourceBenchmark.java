@@ -0,0 +1,77 @@
+package benchmarks;
+
+import blackjack.model.ShuffleRandomSource;
+import blackjack.model.StandardDeckCardManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares six-deck shoe shuffle throughput for each shuffle random source.
+ * Run with: {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=benchmarks.ShuffleRandomSourceBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShuffleRandomSourceBenchmark
+{
+	@Param({"random", "splitmix64", "xoshiro256", "splittable", "secure"})
+	private String generator;
+
+	private StandardDeckCardManager shoe;
+
+	@Setup
+	public void createShoe()
+	{
+		shoe = new StandardDeckCardManager(createSource(generator), 6, 0.75);
+	}
+
+	private static ShuffleRandomSource createSource(String generator)
+	{
+		switch (generator)
+		{
+			case "random":
+				return ShuffleRandomSource.fromRandom(new Random(42L));
+			case "splitmix64":
+				return ShuffleRandomSource.seeded(42L);
+			case "xoshiro256":
+				return ShuffleRandomSource.xoshiro256(42L);
+			case "splittable":
+				return ShuffleRandomSource.fromSplittable(new SplittableRandom(42L));
+			case "secure":
+				return ShuffleRandomSource.secure();
+			default:
+				throw new IllegalArgumentException("Unknown generator: " + generator);
+		}
+	}
+
+	@Benchmark
+	public int shuffleSixDecks()
+	{
+		shoe.shuffleDeck();
+		return shoe.getRemainingCardCount();
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder().include(ShuffleRandomSourceBenchmark.class.getSimpleName()).build()).run();
+	}
+}
@@ -0,0 +1,54 @@
+package benchmarks;
+
+import blackjack.stats.PlayerStatisticsTracker;
+import blackjack.stats.StatisticsSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures recording into one seat tracker shared by eight threads, which also rolls up into its
+ * table tracker, and the cost of a snapshot.
+ * Run with: {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=benchmarks.StatisticsTrackerBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatisticsTrackerBenchmark
+{
+	private final PlayerStatisticsTracker table = new PlayerStatisticsTracker();
+	private final PlayerStatisticsTracker seat = table.createChild();
+
+	@Benchmark
+	@Threads(8)
+	public void recordSharedSeat()
+	{
+		seat.recordWin();
+	}
+
+	@Benchmark
+	public StatisticsSnapshot snapshot()
+	{
+		return table.snapshot();
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder().include(StatisticsTrackerBenchmark.class.getSimpleName()).build()).run();
+	}
+}
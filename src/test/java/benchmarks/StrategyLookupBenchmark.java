@@ -0,0 +1,78 @@
+package benchmarks;
+
+import blackjack.model.PlayingCardRepresentation;
+import blackjack.strategy.BasicStrategyChart;
+import blackjack.strategy.StrategyAction;
+import blackjack.util.BlackjackParticipant;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures basic-strategy chart lookups for random two-card hands.
+ * Run with: {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=benchmarks.StrategyLookupBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StrategyLookupBenchmark
+{
+	private static final int HAND_COUNT = 1024;
+
+	private final BasicStrategyChart chart = BasicStrategyChart.getInstance();
+	private BlackjackParticipant[] hands;
+	private PlayingCardRepresentation[] upCards;
+	private int nextHand;
+
+	@Setup
+	public void createHands()
+	{
+		Random random = new Random(1);
+		hands = new BlackjackParticipant[HAND_COUNT];
+		upCards = new PlayingCardRepresentation[HAND_COUNT];
+		for (int i = 0; i < HAND_COUNT; i++)
+		{
+			hands[i] = new BlackjackParticipant();
+			hands[i].acquireCardIntoHand(PlayingCardRepresentation.fromIndex(random.nextInt(PlayingCardRepresentation.CARD_COUNT)));
+			hands[i].acquireCardIntoHand(PlayingCardRepresentation.fromIndex(random.nextInt(PlayingCardRepresentation.CARD_COUNT)));
+			upCards[i] = PlayingCardRepresentation.fromIndex(random.nextInt(PlayingCardRepresentation.CARD_COUNT));
+		}
+	}
+
+	@Benchmark
+	public StrategyAction firstDecision()
+	{
+		int i = nextHand;
+		nextHand = (i + 1) & (HAND_COUNT - 1);
+		return chart.recommendFirstDecision(hands[i], upCards[i]);
+	}
+
+	@Benchmark
+	public StrategyAction hitOrStand()
+	{
+		int i = nextHand;
+		nextHand = (i + 1) & (HAND_COUNT - 1);
+		return chart.recommendHitOrStand(hands[i], upCards[i]);
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder().include(StrategyLookupBenchmark.class.getSimpleName()).build()).run();
+	}
+}
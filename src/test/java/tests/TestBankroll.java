@@ -0,0 +1,116 @@
+package tests;
+
+import blackjack.bankroll.Bankroll;
+import blackjack.bankroll.BettingStrategy;
+import blackjack.bankroll.KellyBettingStrategy;
+import blackjack.engine.BlackjackGameEngine;
+import blackjack.engine.HeadlessRoundExecutor;
+import blackjack.engine.PlayerDecisionStrategy;
+import blackjack.model.ShuffleRandomSource;
+import blackjack.model.StandardDeckCardManager;
+import blackjack.rules.TableRules;
+import blackjack.simulation.RiskOfRuinResult;
+import blackjack.simulation.RiskOfRuinSimulator;
+import blackjack.strategy.BasicStrategyChart;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for bankrolls, betting strategies and the risk-of-ruin simulator.
+ */
+class TestBankroll {
+
+	/**
+	 * Verifies that the engine pays every round's net result times the wager into the seat's bankroll.
+	 */
+	@Test
+	void testEngineSettlesWagers() {
+		BlackjackGameEngine engine = new BlackjackGameEngine(true,
+				new StandardDeckCardManager(ShuffleRandomSource.seeded(5), 6, 0.75), 2, TableRules.casinoStandard());
+		Bankroll bankroll = new Bankroll(1_000_000, 25, BettingStrategy.flat(25));
+		engine.setSeatBankroll(1, bankroll);
+		HeadlessRoundExecutor executor = new HeadlessRoundExecutor(engine);
+		PlayerDecisionStrategy strategy = BasicStrategyChart.getInstance().asDecisionStrategy(engine);
+
+		double expected = bankroll.getBalance();
+		for (int round = 0; round < 2_000; round++) {
+			executor.playRound(strategy);
+			expected += 25 * engine.getLastRoundNet(1);
+		}
+		assertEquals(expected, bankroll.getBalance(), 1e-6);
+		assertEquals(2_000, bankroll.getRoundsSettled());
+		assertEquals(0.0, bankroll.getCurrentWager(), "No wager stays open between rounds.");
+		assertNull(engine.getSeatBankroll(0));
+	}
+
+	/**
+	 * Verifies that wagers are clamped to the table minimum and the balance, and that a ruined bankroll stops betting.
+	 */
+	@Test
+	void testWagerLimitsAndRuin() {
+		StandardDeckCardManager shoe = new StandardDeckCardManager(ShuffleRandomSource.seeded(1));
+		Bankroll bankroll = new Bankroll(30, 10, BettingStrategy.flat(50));
+		assertEquals(30, bankroll.openRound(shoe));
+		bankroll.settleRound(-1);
+		assertTrue(bankroll.isRuined());
+		assertEquals(0, bankroll.openRound(shoe));
+		assertEquals(0, bankroll.settleRound(1));
+		assertEquals(0, bankroll.getLowestBalance());
+
+		bankroll.reset();
+		assertEquals(30, bankroll.getBalance());
+		assertEquals(10, new Bankroll(30, 10, BettingStrategy.flat(1)).openRound(shoe));
+	}
+
+	/**
+	 * Verifies that the bet spread and Kelly strategies follow the true count of the shoe.
+	 */
+	@Test
+	void testCountBasedWagers() {
+		StandardDeckCardManager shoe = new StandardDeckCardManager(ShuffleRandomSource.seeded(8), 6, 0.75);
+		shoe.prepareForNextRound();
+		BettingStrategy spread = BettingStrategy.countSpread(10, 1, 1, 2, 4, 8);
+		BettingStrategy kelly = BettingStrategy.kellyFraction(0.5, 10);
+		assertEquals(10, kelly.chooseWager(10_000, shoe), "Off the top the player has no edge.");
+
+		boolean sawHighCount = false;
+		while (shoe.getRemainingCardCount() > 52) {
+			double trueCount = shoe.getTrueCount();
+			int index = Math.max(0, Math.min((int) Math.floor(trueCount), 4));
+			assertEquals(10 * new double[] {1, 1, 2, 4, 8}[index], spread.chooseWager(10_000, shoe));
+
+			double edge = KellyBettingStrategy.HI_LO_BASE_EDGE + KellyBettingStrategy.HI_LO_EDGE_PER_TRUE_COUNT * trueCount;
+			double expected = edge <= 0 ? 10 : Math.max(10, 0.5 * edge / KellyBettingStrategy.HAND_VARIANCE * 10_000);
+			assertEquals(expected, kelly.chooseWager(10_000, shoe), 1e-9);
+			sawHighCount |= trueCount >= 2;
+			shoe.next();
+		}
+		assertTrue(sawHighCount, "The shoe should reach a true count of 2 at some point.");
+	}
+
+	/**
+	 * Verifies that risk-of-ruin results do not depend on the number of workers and that the curves are ordered.
+	 */
+	@Test
+	void testRiskOfRuinIsReproducible() {
+		PlayerDecisionStrategy strategy = PlayerDecisionStrategy.stayOnOrAbove(17);
+		RiskOfRuinResult single = new RiskOfRuinSimulator(1, 21, 6, 0.75, TableRules.legacy())
+				.setCheckpointCount(10)
+				.run(300, 400, () -> new Bankroll(100, 10, BettingStrategy.flat(10)), strategy);
+		RiskOfRuinResult parallel = new RiskOfRuinSimulator(3, 21, 6, 0.75, TableRules.legacy())
+				.setCheckpointCount(10)
+				.run(300, 400, () -> new Bankroll(100, 10, BettingStrategy.flat(10)), strategy);
+
+		assertEquals(single.getRuinedCount(), parallel.getRuinedCount());
+		assertArrayEquals(single.getPercentileCurve(50), parallel.getPercentileCurve(50));
+		assertEquals(11, single.getCheckpointRounds().length);
+		assertEquals(400, single.getCheckpointRounds()[10]);
+		assertTrue(single.getRuinProbability() > 0.2, "Ten wagers against the house edge are ruined often in 400 rounds.");
+		assertEquals(100, single.getPercentile(50, 0));
+		for (int checkpoint = 0; checkpoint <= 10; checkpoint++) {
+			assertTrue(single.getPercentile(5, checkpoint) <= single.getPercentile(50, checkpoint));
+			assertTrue(single.getPercentile(50, checkpoint) <= single.getPercentile(95, checkpoint));
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import blackjack.engine.BlackjackGameEngine;
+import blackjack.engine.HeadlessRoundExecutor;
+import blackjack.model.PlayingCardRepresentation;
+import blackjack.model.StandardDeckCardManager;
+import blackjack.rules.TableRules;
+import blackjack.strategy.BasicStrategyChart;
+import blackjack.strategy.StrategyAction;
+import blackjack.util.BlackjackParticipant;
+import blackjack.util.GameAdvisor;
+
+import java.util.Random;
+
+/**
+ * Unit tests for the basic-strategy chart lookups.
+ */
+class TestBasicStrategyChart {
+
+	private static BlackjackParticipant hand(String... cards) {
+		BlackjackParticipant participant = new BlackjackParticipant();
+		for (String card : cards) {
+			participant.acquireCardIntoHand(PlayingCardRepresentation.valueOf(card));
+		}
+		return participant;
+	}
+
+	private static PlayingCardRepresentation up(String card) {
+		return PlayingCardRepresentation.valueOf(card);
+	}
+
+	/**
+	 * Tests well-known first decisions from the hard, soft and pair sections.
+	 */
+	@Test
+	void testFirstDecisions() {
+		BasicStrategyChart chart = BasicStrategyChart.getInstance();
+		assertEquals(StrategyAction.SURRENDER, chart.recommendFirstDecision(hand("0H", "6S"), up("KD")));
+		assertEquals(StrategyAction.DOUBLE, chart.recommendFirstDecision(hand("5H", "6S"), up("9D")));
+		assertEquals(StrategyAction.STAND, chart.recommendFirstDecision(hand("0H", "2S"), up("4D")));
+		assertEquals(StrategyAction.DOUBLE, chart.recommendFirstDecision(hand("AH", "7S"), up("3D")));
+		assertEquals(StrategyAction.SPLIT, chart.recommendFirstDecision(hand("8H", "8S"), up("AD")));
+		assertEquals(StrategyAction.STAND, chart.recommendFirstDecision(hand("9H", "9S"), up("7D")));
+	}
+
+	/**
+	 * Tests that later decisions fall back to hitting or standing.
+	 */
+	@Test
+	void testHitOrStandFallbacks() {
+		BasicStrategyChart chart = BasicStrategyChart.getInstance();
+		assertEquals(StrategyAction.HIT, chart.recommendHitOrStand(hand("0H", "6S"), up("KD")));
+		assertEquals(StrategyAction.STAND, chart.recommendHitOrStand(hand("AH", "7S"), up("3D")));
+		assertEquals(StrategyAction.HIT, chart.recommendHitOrStand(hand("8H", "8S"), up("AD")));
+		assertEquals(StrategyAction.STAND, chart.recommendHitOrStand(hand("4H", "5S", "4D"), up("6D")));
+		assertEquals(StrategyAction.HIT, chart.recommendHitOrStand(hand("AH", "AS"), up("6D")));
+	}
+
+	/**
+	 * Tests that the chart can drive headless rounds.
+	 */
+	@Test
+	void testHeadlessPlay() {
+		BlackjackGameEngine engine = new BlackjackGameEngine(true, new StandardDeckCardManager(new Random(4)));
+		HeadlessRoundExecutor executor = new HeadlessRoundExecutor(engine);
+		executor.playRounds(500, BasicStrategyChart.getInstance().asDecisionStrategy());
+		assertEquals(500, engine.getStatistics().getTotalRounds());
+	}
+
+	/**
+	 * Tests that advice at a casino table offers doubling, and that legacy tables only ever hear hit or stay.
+	 */
+	@Test
+	void testAdviceFollowsTableRules() {
+		BlackjackGameEngine casino = new BlackjackGameEngine(true, new StandardDeckCardManager(new Random(9)), 1,
+				TableRules.casinoStandard());
+		boolean adviceToDouble = false;
+		for (int round = 0; round < 200 && !adviceToDouble; round++) {
+			casino.getCurrentGameState().startGame();
+			if (casino.getCurrentGameState().equals(casino.getPlayerTurnState())
+					&& BasicStrategyChart.getInstance().recommendFirstDecision(casino.getPlayer(), casino.getDealerUpCard()) == StrategyAction.DOUBLE) {
+				assertEquals("Recommendation: Double down.", GameAdvisor.advisePlayer(casino));
+				adviceToDouble = true;
+			}
+			casino.getCurrentGameState().resetGame();
+		}
+		assertTrue(adviceToDouble, "Some round should deal a doubling hand.");
+
+		BlackjackGameEngine legacy = new BlackjackGameEngine(true, new StandardDeckCardManager(new Random(9)));
+		for (int round = 0; round < 50; round++) {
+			legacy.getCurrentGameState().startGame();
+			if (legacy.getCurrentGameState().equals(legacy.getPlayerTurnState())) {
+				String advice = GameAdvisor.advisePlayer(legacy);
+				assertTrue(advice.startsWith("Recommendation: Hit") || advice.startsWith("Recommendation: Stay"), advice);
+			}
+			legacy.getCurrentGameState().resetGame();
+		}
+	}
+}
@@ -0,0 +1,99 @@
+package tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import blackjack.model.PlayingCardRepresentation;
+import blackjack.util.BlackjackParticipant;
+
+/**
+ * Unit tests for the incrementally maintained hand totals of a participant.
+ */
+class TestBlackjackParticipant {
+
+	private static BlackjackParticipant hand(String... cards) {
+		BlackjackParticipant participant = new BlackjackParticipant();
+		for (String card : cards) {
+			participant.acquireCardIntoHand(PlayingCardRepresentation.valueOf(card));
+		}
+		return participant;
+	}
+
+	/**
+	 * Tests soft and hard totals with several aces, where at most one ace may count as 11.
+	 */
+	@Test
+	void testTotalsWithSeveralAces() {
+		BlackjackParticipant participant = hand("AH", "AS");
+		assertEquals(12, participant.calculateTotalHandValue());
+		assertEquals(2, participant.getHardTotal());
+		assertEquals(2, participant.getAceCount());
+		assertTrue(participant.isSoftHand());
+
+		participant.acquireCardIntoHand(PlayingCardRepresentation.valueOf("9D"));
+		assertEquals(21, participant.calculateTotalHandValue());
+		assertTrue(participant.isSoftHand());
+		assertTrue(participant.doesHavePerfectBlackjack());
+		assertFalse(participant.hasBlackjackImmediately(), "Three-card 21 is not a natural.");
+
+		participant.acquireCardIntoHand(PlayingCardRepresentation.valueOf("AC"));
+		assertEquals(12, participant.calculateTotalHandValue());
+		assertFalse(participant.isSoftHand(), "Counting an ace as 11 would bust, so the hand turns hard.");
+
+		assertEquals(PlayingCardRepresentation.valueOf("AC"), participant.removeLastCard());
+		assertEquals(21, participant.calculateTotalHandValue());
+		assertEquals(2, participant.getAceCount());
+		assertTrue(hand("AH", "KS").hasBlackjackImmediately());
+	}
+
+	/**
+	 * Tests that a hand busts only once its hard total passes 21.
+	 */
+	@Test
+	void testBustDetection() {
+		BlackjackParticipant participant = hand("KH", "6S");
+		assertFalse(participant.isHandBusted());
+		participant.acquireCardIntoHand(PlayingCardRepresentation.valueOf("AD"));
+		assertEquals(17, participant.calculateTotalHandValue());
+		assertFalse(participant.isHandBusted());
+		participant.acquireCardIntoHand(PlayingCardRepresentation.valueOf("5C"));
+		assertEquals(22, participant.calculateTotalHandValue());
+		assertTrue(participant.isHandBusted());
+	}
+
+	/**
+	 * Tests that discarding the hand resets the totals, the ace count and the face-down cards.
+	 */
+	@Test
+	void testDiscardResetsHand() {
+		BlackjackParticipant participant = hand("AH", "7S");
+		participant.acquireCardIntoHand(PlayingCardRepresentation.valueOf("KD"), true);
+		assertTrue(participant.isCardFaceDown(2));
+
+		participant.discardAllCardsFromHand();
+		assertEquals(0, participant.getNumberOfCardsInHand());
+		assertEquals(0, participant.calculateTotalHandValue());
+		assertEquals(0, participant.getAceCount());
+		assertFalse(participant.isCardFaceDown(2));
+
+		participant.acquireCardIntoHand(PlayingCardRepresentation.valueOf("9C"));
+		participant.acquireCardIntoHand(PlayingCardRepresentation.valueOf("8C"));
+		assertEquals(17, participant.calculateTotalHandValue());
+		assertFalse(participant.isSoftHand());
+	}
+
+	/**
+	 * Tests that the hand handed out is read-only, so the incremental totals cannot be bypassed.
+	 */
+	@Test
+	void testHandCardsAreReadOnly() {
+		BlackjackParticipant participant = hand("AH", "7S");
+		assertThrows(UnsupportedOperationException.class,
+				() -> participant.getHandCards().add(PlayingCardRepresentation.valueOf("KD")));
+		assertThrows(UnsupportedOperationException.class, () -> participant.getHandCards().clear());
+
+		participant.acquireCardIntoHand(PlayingCardRepresentation.valueOf("2C"));
+		assertEquals(3, participant.getHandCards().size(), "The view follows cards added through the participant.");
+		assertEquals(20, participant.calculateTotalHandValue());
+	}
+}
@@ -0,0 +1,105 @@
+package tests;
+
+import blackjack.engine.BlackjackGameEngine;
+import blackjack.event.GameEvent;
+import blackjack.event.GameEventType;
+import blackjack.model.ShuffleRandomSource;
+import blackjack.model.StandardDeckCardManager;
+import blackjack.table.BlackjackTableHost;
+import blackjack.table.HostedBlackjackTable;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for hosting many tables on a shared scheduler.
+ */
+class TestBlackjackTableHost {
+
+	/**
+	 * Verifies that tables can be created and closed independently.
+	 */
+	@Test
+	void testCreateAndCloseTables() {
+		try (BlackjackTableHost host = new BlackjackTableHost(2, 1)) {
+			for (int i = 0; i < 2_000; i++) {
+				host.createTable(true);
+			}
+			assertEquals(2_000, host.getTableCount());
+
+			HostedBlackjackTable table = host.getTables().iterator().next();
+			assertTrue(host.closeTable(table.getTableId()));
+			assertFalse(host.closeTable(table.getTableId()));
+			assertTrue(table.isClosed());
+			assertEquals(1_999, host.getTableCount());
+		}
+	}
+
+	/**
+	 * Verifies that the shared scheduler plays the dealer's turn to the end of the round after Stay.
+	 */
+	@Test
+	void testDealerTurnRunsOnScheduler() throws InterruptedException {
+		try (BlackjackTableHost host = new BlackjackTableHost(2, 1)) {
+			HostedBlackjackTable table = host.createTable(false, 1, new StandardDeckCardManager(ShuffleRandomSource.seeded(1)));
+			CountDownLatch settled = awaitSettlement(table);
+			standOnDeal(table);
+
+			assertTrue(settled.await(5, TimeUnit.SECONDS), "The scheduler should finish the dealer's turn.");
+			table.performAction(engine -> {
+				assertEquals(engine.getRoundEndState(), engine.getCurrentGameState());
+				assertTrue(engine.getDealer().getNumberOfCardsInHand() > 2, "The dealer on 16 must have drawn.");
+				assertNotNull(engine.getLastRoundOutcome());
+			});
+		}
+	}
+
+	/**
+	 * Verifies that closing a table cancels the pending dealer step and rejects further actions.
+	 */
+	@Test
+	void testCloseStopsDealerTurn() throws InterruptedException {
+		try (BlackjackTableHost host = new BlackjackTableHost(1, 20)) {
+			HostedBlackjackTable closing = host.createTable(false, 1, new StandardDeckCardManager(ShuffleRandomSource.seeded(1)));
+			HostedBlackjackTable witness = host.createTable(false, 1, new StandardDeckCardManager(ShuffleRandomSource.seeded(1)));
+			standOnDeal(closing);
+			assertTrue(host.closeTable(closing.getTableId()));
+
+			// The single scheduler thread runs steps in deadline order, so the closed table's pending step
+			// has had its turn by the time the witness table, which stood later, settles
+			CountDownLatch witnessSettled = awaitSettlement(witness);
+			standOnDeal(witness);
+			assertTrue(witnessSettled.await(5, TimeUnit.SECONDS));
+
+			BlackjackGameEngine engine = closing.getGameEngine();
+			synchronized (engine) {
+				assertEquals(engine.getDealerTurnState(), engine.getCurrentGameState(), "No dealer step should run once the table is closed.");
+				assertEquals(2, engine.getDealer().getNumberOfCardsInHand());
+			}
+			assertThrows(IllegalStateException.class, () -> closing.performAction(e -> e.getCurrentGameState().resetGame()));
+		}
+	}
+
+	// Seed 1 deals the player 16 against a dealer 16, so the round always reaches the dealer's turn
+	private static void standOnDeal(HostedBlackjackTable table) {
+		table.performAction(engine -> {
+			engine.getCurrentGameState().startGame();
+			assertEquals(engine.getPlayerTurnState(), engine.getCurrentGameState());
+			engine.getCurrentGameState().endPlayerTurn();
+		});
+	}
+
+	private static CountDownLatch awaitSettlement(HostedBlackjackTable table) {
+		CountDownLatch settled = new CountDownLatch(1);
+		table.getGameEngine().getEventBus().subscribe(events -> {
+			for (GameEvent event : events) {
+				if (event.getType() == GameEventType.ROUND_SETTLED) {
+					settled.countDown();
+				}
+			}
+		}, Runnable::run);
+		return settled;
+	}
+}
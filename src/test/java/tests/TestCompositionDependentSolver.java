@@ -0,0 +1,186 @@
+package tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import blackjack.strategy.CompositionDependentSolver;
+import blackjack.strategy.HandExpectedValues;
+
+/**
+ * Unit tests for the exact expected value solver, checked against brute-force enumeration of
+ * every order in which the remaining physical cards can come out.
+ */
+class TestCompositionDependentSolver {
+
+	/** Remaining cards per rank slot (ace, two to nine, ten) after the hands were dealt */
+	private static final int[] SMALL_SHOE = { 1, 1, 2, 1, 1, 0, 1, 1, 1, 3 };
+
+	/**
+	 * Tests hit and stand expected values against brute force for several hands and upcards.
+	 */
+	@Test
+	void testAgreesWithBruteForce() {
+		CompositionDependentSolver solver = new CompositionDependentSolver();
+		int[][] cases = { { 12, 0, 5 }, { 16, 0, 9 }, { 7, 1, 0 }, { 10, 0, 6 }, { 18, 0, 9 } };
+
+		for (int[] testCase : cases) {
+			int hardTotal = testCase[0];
+			boolean hasAce = testCase[1] == 1;
+			int upcardSlot = testCase[2];
+			HandExpectedValues values = solver.evaluate(hardTotal, hasAce, upcardSlot, SMALL_SHOE);
+			List<Integer> cards = physicalCards(SMALL_SHOE);
+			boolean[] used = new boolean[cards.size()];
+
+			assertEquals(bruteStand(best(hardTotal, hasAce), upcardSlot, cards, used), values.getStandExpectedValue(), 1e-12,
+					"Stand EV for hard " + hardTotal + " vs slot " + upcardSlot);
+			assertEquals(bruteHit(hardTotal, hasAce, upcardSlot, cards, used), values.getHitExpectedValue(), 1e-12,
+					"Hit EV for hard " + hardTotal + " vs slot " + upcardSlot);
+		}
+	}
+
+	/**
+	 * Tests that a repeated query is answered from the dealer cache.
+	 */
+	@Test
+	void testDealerCacheReuse() {
+		CompositionDependentSolver solver = new CompositionDependentSolver(64);
+		int[] fullDeck = { 4, 4, 4, 4, 4, 4, 4, 4, 4, 16 };
+		fullDeck[9] -= 2;
+		fullDeck[5]--;
+
+		HandExpectedValues first = solver.evaluate(20, false, 5, fullDeck);
+		long missesAfterFirst = solver.getCacheMissCount();
+		HandExpectedValues second = solver.evaluate(20, false, 5, fullDeck);
+
+		assertEquals(first.getStandExpectedValue(), second.getStandExpectedValue());
+		assertEquals(missesAfterFirst, solver.getCacheMissCount(), "Second query should not recompute the dealer.");
+		assertTrue(solver.getCacheHitCount() > 0);
+		assertTrue(solver.getCacheSize() <= 64, "Cache should stay within its capacity.");
+
+		double[] dealer = solver.dealerFinalProbabilities(5, fullDeck, 17);
+		double total = 0;
+		for (double probability : dealer) {
+			total += probability;
+		}
+		assertEquals(1.0, total, 1e-12, "Dealer outcomes should sum to one.");
+	}
+
+	/**
+	 * Tests that dealer orders running the shoe dry are left out rather than booked as a dealer 17.
+	 */
+	@Test
+	void testDealerRunningOutIsRenormalised() {
+		// Six up over an ace, a two and a three: an ace first stands on soft 17, a two or three first stands on
+		// soft 19 or 20 when the ace follows and runs dry on hard 12 otherwise
+		double[] dealer = new CompositionDependentSolver().dealerFinalProbabilities(5, new int[] { 1, 1, 1, 0, 0, 0, 0, 0, 0, 0 }, 17);
+		assertArrayEquals(new double[] { 0.5, 0, 0.25, 0.25, 0, 0 }, dealer, 1e-12);
+
+		// A short shoe where many hit and dealer paths run dry
+		CompositionDependentSolver solver = new CompositionDependentSolver();
+		int[] shortShoe = { 1, 2, 1, 1, 0, 0, 0, 0, 0, 1 };
+		for (int upcardSlot : new int[] { 1, 5, 9 }) {
+			HandExpectedValues values = solver.evaluate(12, false, upcardSlot, shortShoe);
+			List<Integer> cards = physicalCards(shortShoe);
+			boolean[] used = new boolean[cards.size()];
+			assertEquals(bruteStand(12, upcardSlot, cards, used), values.getStandExpectedValue(), 1e-12);
+			assertEquals(bruteHit(12, false, upcardSlot, cards, used), values.getHitExpectedValue(), 1e-12);
+		}
+	}
+
+	private static List<Integer> physicalCards(int[] composition) {
+		List<Integer> cards = new ArrayList<>();
+		for (int slot = 0; slot < composition.length; slot++) {
+			for (int i = 0; i < composition[slot]; i++) {
+				cards.add(slot + 1);
+			}
+		}
+		return cards;
+	}
+
+	private static int best(int hard, boolean hasAce) {
+		return hasAce && hard <= 11 ? hard + 10 : hard;
+	}
+
+	private static int remaining(boolean[] used) {
+		int count = 0;
+		for (boolean cardUsed : used) {
+			if (!cardUsed) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private static double bruteHit(int hard, boolean hasAce, int upcardSlot, List<Integer> cards, boolean[] used) {
+		int remaining = remaining(used);
+		double ev = 0;
+		for (int i = 0; i < cards.size(); i++) {
+			if (used[i]) {
+				continue;
+			}
+			int value = cards.get(i);
+			int newHard = hard + value;
+			boolean newHasAce = hasAce || value == 1;
+			double outcome;
+			used[i] = true;
+			if (newHard > 21) {
+				outcome = -1;
+			} else if (best(newHard, newHasAce) == 21) {
+				outcome = bruteTwentyOne(upcardSlot, cards, used);
+			} else {
+				outcome = Math.max(bruteStand(best(newHard, newHasAce), upcardSlot, cards, used),
+						bruteHit(newHard, newHasAce, upcardSlot, cards, used));
+			}
+			used[i] = false;
+			ev += outcome / remaining;
+		}
+		return ev;
+	}
+
+	private static double bruteTwentyOne(int upcardSlot, List<Integer> cards, boolean[] used) {
+		int remaining = remaining(used);
+		double ev = 0;
+		for (int i = 0; i < cards.size(); i++) {
+			if (!used[i]) {
+				ev += (best(upcardSlot + 1 + cards.get(i), upcardSlot == 0 || cards.get(i) == 1) == 21 ? 0 : 1.0) / remaining;
+			}
+		}
+		return ev;
+	}
+
+	// Averages over the dealer orders that finish before the cards run out, as the engine reshuffles the rest
+	private static double bruteStand(int playerTotal, int upcardSlot, List<Integer> cards, boolean[] used) {
+		double[] finished = new double[2];
+		bruteDealer(playerTotal, upcardSlot + 1, upcardSlot == 0, cards, used, 1.0, finished);
+		return finished[1] == 0 ? 0.0 : finished[0] / finished[1];
+	}
+
+	private static void bruteDealer(int playerTotal, int dealerHard, boolean dealerHasAce, List<Integer> cards, boolean[] used,
+			double weight, double[] finished) {
+		int remaining = remaining(used);
+		for (int i = 0; i < cards.size(); i++) {
+			if (used[i]) {
+				continue;
+			}
+			int value = cards.get(i);
+			int newHard = dealerHard + value;
+			boolean newHasAce = dealerHasAce || value == 1;
+			int total = best(newHard, newHasAce);
+			double probability = weight / remaining;
+			used[i] = true;
+			if (newHard > 21) {
+				finished[0] += probability;
+				finished[1] += probability;
+			} else if (total == 21 || (total >= 17 && total >= playerTotal)) {
+				finished[0] += probability * Integer.compare(playerTotal, total);
+				finished[1] += probability;
+			} else {
+				bruteDealer(playerTotal, newHard, newHasAce, cards, used, probability, finished);
+			}
+			used[i] = false;
+		}
+	}
+}
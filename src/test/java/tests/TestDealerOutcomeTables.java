@@ -0,0 +1,84 @@
+package tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import blackjack.engine.BlackjackGameEngine;
+import blackjack.model.PlayingCardRepresentation;
+import blackjack.model.ShuffleRandomSource;
+import blackjack.model.StandardDeckCardManager;
+import blackjack.rules.DealerStandRule;
+import blackjack.rules.TableRules;
+import blackjack.strategy.CompositionDependentSolver;
+import blackjack.strategy.DealerOutcomeTables;
+import blackjack.util.GameAdvisor;
+
+/**
+ * Unit tests for the build-time dealer outcome tables.
+ */
+class TestDealerOutcomeTables {
+
+	/**
+	 * Tests that the packaged single-deck tables match the solver for every upcard and threshold.
+	 */
+	@Test
+	void testMatchesSolver() {
+		DealerOutcomeTables tables = DealerOutcomeTables.getInstance();
+		CompositionDependentSolver solver = new CompositionDependentSolver();
+		double[] fromTables = new double[DealerOutcomeTables.OUTCOME_COUNT];
+
+		for (int upcardSlot = 0; upcardSlot < 10; upcardSlot++) {
+			int[] composition = { 4, 4, 4, 4, 4, 4, 4, 4, 4, 16 };
+			composition[upcardSlot]--;
+			for (int threshold = 17; threshold <= 21; threshold++) {
+				assertArrayEquals(solver.dealerFinalProbabilities(upcardSlot, composition, threshold),
+						tables.copyDistribution(1, upcardSlot, threshold, fromTables), 1e-15);
+			}
+		}
+	}
+
+	/**
+	 * Tests the infinite-deck tables against the published stand-on-soft-17 bust rate for a six upcard.
+	 */
+	@Test
+	void testInfiniteDeckValues() {
+		DealerOutcomeTables tables = DealerOutcomeTables.getInstance();
+		assertEquals(0.42315, tables.getBustProbability(DealerOutcomeTables.INFINITE_DECKS, PlayingCardRepresentation.valueOf("6H")), 1e-4);
+
+		double total = 0;
+		for (int outcome = 0; outcome < DealerOutcomeTables.OUTCOME_COUNT; outcome++) {
+			total += tables.getProbability(DealerOutcomeTables.INFINITE_DECKS, 9, 19, outcome);
+		}
+		assertEquals(1.0, total, 1e-12, "Dealer outcomes should sum to one.");
+		assertEquals(0.0, tables.getProbability(DealerOutcomeTables.INFINITE_DECKS, 9, 19, 0), "Dealer never stops below the threshold.");
+	}
+
+	/**
+	 * Tests that the dealer outlook reads the shoe's deck count and the table's dealer rule, and is skipped for H17.
+	 */
+	@Test
+	void testDealerOutlookFollowsTable() {
+		BlackjackGameEngine sixDecks = new BlackjackGameEngine(true,
+				new StandardDeckCardManager(ShuffleRandomSource.seeded(2), 6, 0.75), 1, TableRules.casinoStandard());
+		sixDecks.getCurrentGameState().startGame();
+		PlayingCardRepresentation upcard = sixDecks.getDealerUpCard();
+		double bust = DealerOutcomeTables.getInstance().getBustProbability(6, upcard);
+		assertEquals(String.format("Dealer busts %.0f%% of the time showing %s.", bust * 100, upcard),
+				GameAdvisor.describeDealerOutlook(sixDecks));
+
+		TableRules hitSoft17 = TableRules.builder().dealerStandRule(DealerStandRule.HIT_ON_SOFT_17).build();
+		BlackjackGameEngine h17 = new BlackjackGameEngine(true,
+				new StandardDeckCardManager(ShuffleRandomSource.seeded(2), 6, 0.75), 1, hitSoft17);
+		h17.getCurrentGameState().startGame();
+		assertNull(GameAdvisor.describeDealerOutlook(h17), "The tables only model a dealer standing on soft 17.");
+		BlackjackGameEngine legacySeats = new BlackjackGameEngine(true,
+				new StandardDeckCardManager(ShuffleRandomSource.seeded(4), 2, 0.75), 3);
+		legacySeats.getCurrentGameState().startGame();
+		int threshold = Math.max(17, legacySeats.getBestLivePlayerTotal());
+		double legacyBust = DealerOutcomeTables.getInstance().getProbability(2, legacySeats.getDealerUpCard().getRankSlot(),
+				threshold, CompositionDependentSolver.DEALER_BUST_INDEX);
+		assertEquals(String.format("Dealer busts %.0f%% of the time showing %s.", legacyBust * 100, legacySeats.getDealerUpCard()),
+				GameAdvisor.describeDealerOutlook(legacySeats), "The legacy dealer stands against the best hand at the table.");
+		assertTrue(DealerOutcomeTables.isAvailable());
+	}
+}
@@ -0,0 +1,63 @@
+package tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+import blackjack.simulation.MonteCarloSimulator;
+import blackjack.simulation.SimulationResult;
+import blackjack.strategy.BasicStrategyChart;
+import blackjack.strategy.DeviationIndexSet;
+import blackjack.strategy.IndexPlayStrategy;
+import blackjack.strategy.StrategyAction;
+
+/**
+ * Unit tests for count-based index plays.
+ */
+class TestDeviationIndexSet {
+
+	/**
+	 * Tests that the bundled index set overrides the chart on the right side of each index.
+	 */
+	@Test
+	void testIllustriousIndices() {
+		DeviationIndexSet indexSet = DeviationIndexSet.illustrious18();
+		int hard16 = BasicStrategyChart.totalHandKey(16, false);
+		int hard12 = BasicStrategyChart.totalHandKey(12, false);
+
+		assertEquals(10, indexSet.size());
+		assertEquals(StrategyAction.STAND, indexSet.apply(hard16, 9, 0.0, StrategyAction.HIT), "16 vs 10 stands at 0.");
+		assertEquals(StrategyAction.HIT, indexSet.apply(hard16, 9, -0.5, StrategyAction.HIT), "16 vs 10 hits below 0.");
+		assertEquals(StrategyAction.HIT, indexSet.apply(hard12, 3, -0.5, StrategyAction.STAND), "12 vs 4 hits below 0.");
+		assertEquals(StrategyAction.STAND, indexSet.apply(hard12, 8, 9.0, StrategyAction.STAND), "Cells without an index keep the chart action.");
+	}
+
+	/**
+	 * Tests that malformed or conflicting index sets are rejected.
+	 */
+	@Test
+	void testParseErrors() {
+		assertThrows(IllegalArgumentException.class,
+				() -> DeviationIndexSet.parse("duplicate", new StringReader("hard 16 10 0 S H\nhard 16 10 1 S H\n")));
+		assertThrows(IllegalArgumentException.class,
+				() -> DeviationIndexSet.parse("bad action", new StringReader("hard 11 A 1 D H\n")));
+		assertThrows(IllegalArgumentException.class,
+				() -> DeviationIndexSet.parse("short line", new StringReader("soft 18 9\n")));
+	}
+
+	/**
+	 * Tests that index sets can be simulated against each other on multi-deck shoes.
+	 */
+	@Test
+	void testBulkComparison() {
+		MonteCarloSimulator simulator = new MonteCarloSimulator(2, 17L, 6, 0.75);
+		DeviationIndexSet illustrious = DeviationIndexSet.illustrious18();
+
+		SimulationResult plain = simulator.run(4000, engine -> new IndexPlayStrategy(DeviationIndexSet.empty(), engine));
+		SimulationResult indexed = simulator.run(4000, engine -> new IndexPlayStrategy(illustrious, engine));
+
+		assertEquals(4000, plain.getRoundCount());
+		assertEquals(4000, indexed.getRoundCount());
+	}
+}
@@ -0,0 +1,98 @@
+package tests;
+
+import blackjack.engine.BlackjackGameEngine;
+import blackjack.engine.HeadlessRoundExecutor;
+import blackjack.engine.PlayerDecisionStrategy;
+import blackjack.event.GameEventSubscription;
+import blackjack.metrics.EngineMetrics;
+import blackjack.metrics.LatencyHistogram;
+import blackjack.metrics.LatencySnapshot;
+import blackjack.model.ShuffleRandomSource;
+import blackjack.model.StandardDeckCardManager;
+import org.junit.jupiter.api.Test;
+
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the engine metrics, their histograms and their JMX registration.
+ */
+class TestEngineMetrics {
+
+	/**
+	 * Verifies that histogram percentiles stay within the bucket precision and that concurrent recording loses nothing.
+	 */
+	@Test
+	void testHistogramPercentiles() throws InterruptedException {
+		LatencyHistogram histogram = new LatencyHistogram();
+		List<Thread> threads = new ArrayList<>();
+		for (int t = 0; t < 4; t++) {
+			Thread thread = new Thread(() -> {
+				for (long nanos = 1_000; nanos <= 100_000; nanos++) {
+					histogram.record(nanos);
+				}
+			});
+			thread.start();
+			threads.add(thread);
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		LatencySnapshot snapshot = histogram.snapshot();
+		assertEquals(4 * 99_001, snapshot.getCount());
+		assertEquals(50.5, snapshot.getMeanMicros(), 1e-9);
+		assertTrue(snapshot.getP50Micros() >= 50.5 && snapshot.getP50Micros() <= 50.5 * 1.25, "p50 " + snapshot.getP50Micros());
+		assertTrue(snapshot.getP99Micros() >= 99.0 && snapshot.getP99Micros() <= 100.0, "p99 " + snapshot.getP99Micros());
+		assertEquals(100.0, snapshot.getMaxMicros(), 1e-9);
+
+		histogram.reset();
+		assertEquals(0, histogram.snapshot().getCount());
+		assertEquals(0.0, histogram.snapshot().getP99Micros());
+	}
+
+	/**
+	 * Verifies that engines count started and settled rounds and reshuffles, visible through the platform MBean server.
+	 */
+	@Test
+	void testEngineCountersOverJmx() throws Exception {
+		EngineMetrics metrics = EngineMetrics.getInstance();
+		long startedBefore = metrics.getRoundsStarted();
+		long settledBefore = metrics.getRoundsSettled();
+		long reshufflesBefore = metrics.getDeckReshuffles();
+
+		BlackjackGameEngine engine = new BlackjackGameEngine(true, new StandardDeckCardManager(ShuffleRandomSource.seeded(4)));
+		new HeadlessRoundExecutor(engine).playRounds(500, PlayerDecisionStrategy.stayOnOrAbove(17));
+
+		assertTrue(metrics.getRoundsStarted() - startedBefore >= 500);
+		assertTrue(metrics.getRoundsSettled() - settledBefore >= 500);
+		assertTrue(metrics.getDeckReshuffles() - reshufflesBefore >= 499, "A single deck is reshuffled before every round.");
+
+		ObjectName name = new ObjectName(EngineMetrics.OBJECT_NAME);
+		assertTrue((Long) ManagementFactory.getPlatformMBeanServer().getAttribute(name, "RoundsSettled") >= 500);
+		CompositeData deal = (CompositeData) ManagementFactory.getPlatformMBeanServer().getAttribute(name, "DealLatency");
+		assertTrue(deal.containsKey("p99Micros"));
+	}
+
+	/**
+	 * Verifies that event delivery to subscribers is timed.
+	 */
+	@Test
+	void testObserverNotificationIsTimed() throws InterruptedException {
+		long before = EngineMetrics.getInstance().getObserverNotificationLatency().getCount();
+		BlackjackGameEngine engine = new BlackjackGameEngine(false, new StandardDeckCardManager(ShuffleRandomSource.seeded(6)));
+		CountDownLatch delivered = new CountDownLatch(1);
+		try (GameEventSubscription subscription = engine.getEventBus().subscribe(events -> delivered.countDown(), Runnable::run)) {
+			engine.broadcastGameLogMessage("metrics");
+			assertTrue(delivered.await(5, TimeUnit.SECONDS));
+		}
+		assertTrue(EngineMetrics.getInstance().getObserverNotificationLatency().getCount() > before);
+	}
+}
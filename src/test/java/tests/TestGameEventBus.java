@@ -0,0 +1,116 @@
+package tests;
+
+import blackjack.engine.BlackjackGameEngine;
+import blackjack.event.GameEvent;
+import blackjack.event.GameEventBus;
+import blackjack.event.GameEventSubscription;
+import blackjack.event.GameEventType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for batched delivery through the engine's event bus.
+ */
+class TestGameEventBus {
+
+	/**
+	 * Verifies that events arrive complete and in publish order.
+	 */
+	@Test
+	void testEventsDeliveredInOrder() {
+		GameEventBus bus = new GameEventBus(64);
+		List<GameEvent> received = new ArrayList<>();
+		bus.subscribe(events -> received.addAll(events), Runnable::run);
+
+		for (int i = 0; i < 500; i++) {
+			bus.publish(GameEventType.LOG_MESSAGE, GameEvent.NO_SEAT, "event " + i, null, null);
+		}
+
+		assertEquals(500, received.size());
+		for (int i = 0; i < received.size(); i++) {
+			assertEquals("event " + i, received.get(i).getMessage());
+		}
+	}
+
+	/**
+	 * Verifies that a lagging subscriber gets one batch and counts events it fell behind on.
+	 */
+	@Test
+	void testLaggingSubscriberDropsOverwrittenEvents() {
+		GameEventBus bus = new GameEventBus(16);
+		List<Runnable> pendingDrains = new ArrayList<>();
+		Executor manualExecutor = pendingDrains::add;
+		List<Integer> batchSizes = new ArrayList<>();
+		GameEventSubscription subscription = bus.subscribe(events -> batchSizes.add(events.size()), manualExecutor);
+
+		for (int i = 0; i < 40; i++) {
+			bus.publish(GameEventType.TABLE_UPDATED);
+		}
+		assertEquals(1, pendingDrains.size(), "Only one drain should be queued per subscriber.");
+
+		pendingDrains.get(0).run();
+		assertEquals(List.of(16), batchSizes);
+		assertEquals(24, subscription.getDroppedEventCount());
+	}
+
+	/**
+	 * Verifies that concurrent publishers neither lose nor duplicate sequence numbers.
+	 */
+	@Test
+	void testConcurrentPublishersGetDistinctSequences() throws InterruptedException {
+		GameEventBus bus = new GameEventBus(8192);
+		List<Runnable> pendingDrains = new ArrayList<>();
+		List<GameEvent> received = new ArrayList<>();
+		bus.subscribe(received::addAll, command -> {
+			synchronized (pendingDrains) {
+				pendingDrains.add(command);
+			}
+		});
+
+		Thread[] publishers = new Thread[4];
+		for (int t = 0; t < publishers.length; t++) {
+			publishers[t] = new Thread(() -> {
+				for (int i = 0; i < 1000; i++) {
+					bus.publish(GameEventType.TABLE_UPDATED);
+				}
+			});
+			publishers[t].start();
+		}
+		for (Thread publisher : publishers) {
+			publisher.join();
+		}
+		// Drains run after the publishers finish; each one rescans the cursor, so replay until idle
+		while (!pendingDrains.isEmpty()) {
+			pendingDrains.remove(0).run();
+		}
+
+		assertEquals(3999, bus.getPublishedSequence());
+		assertEquals(4000, received.size());
+		for (int i = 0; i < received.size(); i++) {
+			assertEquals(i, received.get(i).getSequence());
+		}
+	}
+
+	/**
+	 * Verifies that the engine publishes typed events for a round and none when headless.
+	 */
+	@Test
+	void testEnginePublishesTypedEvents() {
+		List<GameEventType> types = new ArrayList<>();
+		BlackjackGameEngine engine = new BlackjackGameEngine();
+		engine.getEventBus().subscribe(events -> events.forEach(event -> types.add(event.getType())), Runnable::run);
+		engine.getCurrentGameState().startGame();
+		assertEquals(GameEventType.ROUND_STARTED, types.get(1));
+		assertEquals(4, types.stream().filter(type -> type == GameEventType.CARD_DEALT).count());
+
+		BlackjackGameEngine headless = new BlackjackGameEngine(true);
+		List<GameEvent> headlessEvents = new ArrayList<>();
+		headless.getEventBus().subscribe(headlessEvents::addAll, Runnable::run);
+		headless.getCurrentGameState().startGame();
+		assertTrue(headlessEvents.isEmpty());
+	}
+}
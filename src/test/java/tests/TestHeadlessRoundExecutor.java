@@ -0,0 +1,100 @@
+package tests;
+
+import blackjack.engine.BlackjackGameEngine;
+import blackjack.engine.HeadlessRoundExecutor;
+import blackjack.engine.PlayerDecisionStrategy;
+import blackjack.engine.RoundOutcome;
+import blackjack.model.ShuffleRandomSource;
+import blackjack.model.StandardDeckCardManager;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for synchronous round execution on a headless engine.
+ */
+class TestHeadlessRoundExecutor {
+
+	/**
+	 * Verifies that every played round settles and leaves the engine in the RoundEnd state.
+	 */
+	@Test
+	void testRoundsSettle() {
+		BlackjackGameEngine engine = new BlackjackGameEngine(true);
+		HeadlessRoundExecutor executor = new HeadlessRoundExecutor(engine);
+		PlayerDecisionStrategy strategy = PlayerDecisionStrategy.stayOnOrAbove(17);
+
+		int[] outcomeCounts = new int[RoundOutcome.values().length];
+		for (int i = 0; i < 10_000; i++) {
+			RoundOutcome outcome = executor.playRound(strategy);
+			assertNotNull(outcome, "Every round should produce an outcome.");
+			assertEquals(engine.getRoundEndState(), engine.getCurrentGameState());
+			outcomeCounts[outcome.ordinal()]++;
+		}
+
+		assertTrue(outcomeCounts[RoundOutcome.PLAYER_WIN.ordinal()] > 0);
+		assertTrue(outcomeCounts[RoundOutcome.DEALER_WIN.ordinal()] > 0);
+	}
+
+	/**
+	 * Verifies that every seat of a full table is settled in each round.
+	 */
+	@Test
+	void testAllSeatsSettle() {
+		BlackjackGameEngine engine = new BlackjackGameEngine(true, new StandardDeckCardManager(new Random(3)),
+				BlackjackGameEngine.MAXIMUM_SEAT_COUNT);
+		HeadlessRoundExecutor executor = new HeadlessRoundExecutor(engine);
+
+		for (int i = 0; i < 1_000; i++) {
+			executor.playRound(PlayerDecisionStrategy.stayOnOrAbove(16));
+			for (int seat = 0; seat < engine.getSeatCount(); seat++) {
+				assertNotNull(engine.getLastRoundOutcome(seat), "Seat " + seat + " should be settled.");
+			}
+		}
+		for (int seat = 0; seat < engine.getSeatCount(); seat++) {
+			assertEquals(1_000, engine.getSeatStatistics(seat).getTotalRounds());
+		}
+		assertEquals(1_000 * engine.getSeatCount(), engine.getStatistics().getTotalRounds());
+	}
+
+	/**
+	 * Verifies that a table refuses more seats than allowed.
+	 */
+	@Test
+	void testSeatLimit() {
+		assertThrows(IllegalArgumentException.class,
+				() -> new BlackjackGameEngine(true, new StandardDeckCardManager(new Random()), BlackjackGameEngine.MAXIMUM_SEAT_COUNT + 1));
+	}
+
+	/**
+	 * Verifies that headless execution refuses an engine that still notifies observers.
+	 */
+	/**
+	 * Verifies that a full table on a small shoe keeps playing when the shoe runs dry mid-round:
+	 * the discards are shuffled back in and every round settles.
+	 */
+	@Test
+	void testShoeRunningDryMidRound() {
+		StandardDeckCardManager shoe = new StandardDeckCardManager(ShuffleRandomSource.seeded(1), 1, 0.75);
+		BlackjackGameEngine engine = new BlackjackGameEngine(true, shoe, BlackjackGameEngine.MAXIMUM_SEAT_COUNT);
+		HeadlessRoundExecutor executor = new HeadlessRoundExecutor(engine);
+		PlayerDecisionStrategy strategy = PlayerDecisionStrategy.stayOnOrAbove(17);
+
+		assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+			for (int round = 0; round < 2_000; round++) {
+				executor.playRound(strategy);
+				assertEquals(engine.getRoundEndState(), engine.getCurrentGameState());
+				for (int seat = 0; seat < engine.getSeatCount(); seat++) {
+					assertTrue(engine.getSeat(seat).calculateTotalHandValue() >= 17, "Every seat draws until it stands or busts.");
+				}
+			}
+		});
+	}
+
+	@Test
+	void testRequiresHeadlessEngine() {
+		assertThrows(IllegalArgumentException.class, () -> new HeadlessRoundExecutor(new BlackjackGameEngine()));
+	}
+}
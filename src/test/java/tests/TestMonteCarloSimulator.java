@@ -0,0 +1,37 @@
+package tests;
+
+import blackjack.engine.PlayerDecisionStrategy;
+import blackjack.simulation.MonteCarloSimulator;
+import blackjack.simulation.SimulationResult;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the parallel Monte Carlo simulator.
+ */
+class TestMonteCarloSimulator {
+
+	/**
+	 * Verifies that all requested rounds are played and merged across workers.
+	 */
+	@Test
+	void testAllRoundsMerged() {
+		SimulationResult result = new MonteCarloSimulator(4, 7L).run(10_001, PlayerDecisionStrategy.stayOnOrAbove(17));
+		assertEquals(10_001, result.getRoundCount());
+		assertEquals(result.getWins() + result.getLosses() + result.getDraws(), result.getRoundCount());
+		assertTrue(result.getExpectedValue() > -1.0 && result.getExpectedValue() < 1.0);
+	}
+
+	/**
+	 * Verifies that workers with the same seeds produce the same merged counts.
+	 */
+	@Test
+	void testSameSeedSameResult() {
+		PlayerDecisionStrategy strategy = PlayerDecisionStrategy.stayOnOrAbove(15);
+		SimulationResult first = new MonteCarloSimulator(3, 99L).run(5_000, strategy);
+		SimulationResult second = new MonteCarloSimulator(3, 99L).run(5_000, strategy);
+		assertEquals(first.getWins(), second.getWins());
+		assertEquals(first.getLosses(), second.getLosses());
+		assertEquals(first.getDraws(), second.getDraws());
+	}
+}
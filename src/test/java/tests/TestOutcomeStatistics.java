@@ -0,0 +1,145 @@
+package tests;
+
+import blackjack.engine.BlackjackGameEngine;
+import blackjack.engine.HeadlessRoundExecutor;
+import blackjack.engine.PlayerDecisionStrategy;
+import blackjack.engine.RoundOutcome;
+import blackjack.model.ShuffleRandomSource;
+import blackjack.model.StandardDeckCardManager;
+import blackjack.simulation.MonteCarloSimulator;
+import blackjack.simulation.SimulationResult;
+import blackjack.stats.OutcomeStatistics;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for streaming outcome statistics and their merging.
+ */
+class TestOutcomeStatistics {
+
+	private static final double[] NET_VALUES = {-2.0, -1.0, -0.5, 0.0, 1.0, 1.5, 2.0};
+
+	/**
+	 * Verifies that merging statistics of two halves gives the same result as recording everything in one pass.
+	 */
+	@Test
+	void testMergeMatchesSinglePass() {
+		SplittableRandom random = new SplittableRandom(11);
+		OutcomeStatistics whole = new OutcomeStatistics();
+		OutcomeStatistics first = new OutcomeStatistics();
+		OutcomeStatistics second = new OutcomeStatistics();
+		double sum = 0;
+		double sumOfSquares = 0;
+		int count = 50_001;
+		for (int i = 0; i < count; i++) {
+			double net = NET_VALUES[random.nextInt(NET_VALUES.length)];
+			int playerTotal = 4 + random.nextInt(22);
+			int dealerTotal = 17 + random.nextInt(9);
+			int handSize = 2 + random.nextInt(12);
+			whole.record(net, playerTotal, dealerTotal, handSize);
+			(i < 20_000 ? first : second).record(net, playerTotal, dealerTotal, handSize);
+			sum += net;
+			sumOfSquares += net * net;
+		}
+
+		double mean = sum / count;
+		assertEquals(mean, whole.getMean(), 1e-12);
+		assertEquals((sumOfSquares - count * mean * mean) / (count - 1), whole.getVariance(), 1e-9);
+
+		OutcomeStatistics merged = first.copy().merge(second);
+		assertEquals(whole.getCount(), merged.getCount());
+		assertEquals(whole.getMean(), merged.getMean(), 1e-12);
+		assertEquals(whole.getVariance(), merged.getVariance(), 1e-9);
+		assertEquals(whole.getMinimum(), merged.getMinimum());
+		assertEquals(whole.getMaximum(), merged.getMaximum());
+		assertEquals(whole.getLongestWinStreak(), merged.getLongestWinStreak());
+		assertEquals(whole.getLongestLossStreak(), merged.getLongestLossStreak());
+		assertEquals(whole.getCurrentStreak(), merged.getCurrentStreak());
+		assertArrayEquals(whole.getPlayerTotalHistogram(), merged.getPlayerTotalHistogram());
+		assertArrayEquals(whole.getDealerTotalHistogram(), merged.getDealerTotalHistogram());
+		assertArrayEquals(whole.getHandSizeHistogram(), merged.getHandSizeHistogram());
+		assertEquals(count, Arrays.stream(merged.getHandSizeHistogram()).sum());
+	}
+
+	/**
+	 * Verifies that streaks running across a merge boundary are joined.
+	 */
+	@Test
+	void testStreaksJoinAcrossMerges() {
+		OutcomeStatistics[] parts = {new OutcomeStatistics(), new OutcomeStatistics(), new OutcomeStatistics()};
+		double[][] sequences = {{1, 1}, {1, -1, -1}, {-1, -1, 0, 1}};
+		for (int p = 0; p < parts.length; p++) {
+			for (double net : sequences[p]) {
+				parts[p].record(net, 20, 19, 2);
+			}
+		}
+
+		OutcomeStatistics merged = new OutcomeStatistics().merge(parts[0]).merge(parts[1]).merge(parts[2]);
+		assertEquals(3, merged.getLongestWinStreak());
+		assertEquals(4, merged.getLongestLossStreak());
+		assertEquals(1, merged.getCurrentStreak());
+		assertEquals(9, merged.getCount());
+	}
+
+	/**
+	 * Verifies that the engine feeds every settled hand into its seat and table trackers.
+	 */
+	@Test
+	void testEngineRecordsHands() {
+		BlackjackGameEngine engine = new BlackjackGameEngine(true, new StandardDeckCardManager(ShuffleRandomSource.seeded(3)), 2);
+		new HeadlessRoundExecutor(engine).playRounds(5_000, PlayerDecisionStrategy.stayOnOrAbove(17));
+
+		OutcomeStatistics table = engine.getStatistics().getOutcomeStatistics();
+		OutcomeStatistics seat = engine.getSeatStatistics(0).getOutcomeStatistics();
+		assertEquals(10_000, table.getCount());
+		assertEquals(5_000, seat.getCount());
+		assertEquals(engine.getSeatStatistics(0).getWins() - engine.getSeatStatistics(0).getLosses(), seat.getSum(), 1e-9);
+		assertEquals(5_000, Arrays.stream(seat.getDealerTotalHistogram()).sum());
+		assertEquals(0, seat.getPlayerTotalCount(16), "A player standing on 17 never finishes on 16.");
+		assertTrue(seat.getPlayerTotalCount(OutcomeStatistics.BUST_BUCKET) > 0);
+		assertTrue(seat.getLongestLossStreak() >= 2);
+
+		OutcomeStatistics seatsInOrder = seat.copy().merge(engine.getSeatStatistics(1).getOutcomeStatistics());
+		assertEquals(seatsInOrder.getLongestLossStreak(), table.getLongestLossStreak(), "Table streaks are built seat by seat.");
+		assertEquals(seatsInOrder.getVariance(), table.getVariance(), 1e-12);
+	}
+
+	/**
+	 * Verifies that parallel simulation statistics are merged in a fixed order and repeat exactly.
+	 */
+	@Test
+	void testSimulationStatisticsAreDeterministic() {
+		SimulationResult first = new MonteCarloSimulator(4, 77).run(40_000, PlayerDecisionStrategy.stayOnOrAbove(17));
+		SimulationResult second = new MonteCarloSimulator(4, 77).run(40_000, PlayerDecisionStrategy.stayOnOrAbove(17));
+
+		OutcomeStatistics statistics = first.getOutcomeStatistics();
+		assertEquals(40_000, statistics.getCount());
+		assertEquals(first.getExpectedValue(), statistics.getMean(), 1e-12);
+		assertEquals(statistics.getVariance(), second.getOutcomeStatistics().getVariance());
+		assertEquals(statistics.getLongestLossStreak(), second.getOutcomeStatistics().getLongestLossStreak());
+		assertArrayEquals(statistics.getPlayerTotalHistogram(), second.getOutcomeStatistics().getPlayerTotalHistogram());
+	}
+
+	/**
+	 * Verifies that rounds recorded without final hands still feed the expected value and standard error.
+	 */
+	@Test
+	void testSimulationResultUsesOneAccumulator() {
+		SimulationResult result = new SimulationResult();
+		result.recordRound(RoundOutcome.PLAYER_WIN, 1.5);
+		result.recordRound(RoundOutcome.DEALER_WIN, -2.0, 22, 18, 3);
+		result.recordOutcome(RoundOutcome.DRAW);
+		result.recordOutcome(RoundOutcome.PLAYER_WIN);
+
+		OutcomeStatistics statistics = result.getOutcomeStatistics();
+		assertEquals(4, statistics.getCount());
+		assertEquals(0.5, result.getNetUnits(), 1e-12);
+		assertEquals(0.125, result.getExpectedValue(), 1e-12);
+		assertEquals(statistics.getStandardError(), result.getStandardError());
+		assertEquals(1, Arrays.stream(statistics.getHandSizeHistogram()).sum(), "Only one round came with its final hands.");
+	}
+}
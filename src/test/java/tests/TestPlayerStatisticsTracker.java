@@ -0,0 +1,106 @@
+package tests;
+
+import blackjack.engine.BlackjackGameEngine;
+import blackjack.engine.HeadlessRoundExecutor;
+import blackjack.engine.PlayerDecisionStrategy;
+import blackjack.model.ShuffleRandomSource;
+import blackjack.model.StandardDeckCardManager;
+import blackjack.stats.PlayerStatisticsTracker;
+import blackjack.stats.StatisticsBreakdown;
+import blackjack.stats.StatisticsSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the concurrent statistics tracker, its snapshots and seat roll-ups.
+ */
+class TestPlayerStatisticsTracker {
+
+	/**
+	 * Verifies that no update is lost when many threads record into the same seat tracker.
+	 */
+	@Test
+	void testConcurrentRecordingIsExact() throws InterruptedException {
+		PlayerStatisticsTracker table = new PlayerStatisticsTracker();
+		PlayerStatisticsTracker seat = table.createChild();
+		int threadCount = 8;
+		int roundsPerThread = 100_000;
+		CountDownLatch start = new CountDownLatch(1);
+		List<Thread> threads = new ArrayList<>();
+		for (int t = 0; t < threadCount; t++) {
+			Thread thread = new Thread(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				for (int i = 0; i < roundsPerThread; i++) {
+					switch (i % 3) {
+						case 0: seat.recordWin(); break;
+						case 1: seat.recordLoss(); break;
+						default: seat.recordDraw(); break;
+					}
+				}
+			});
+			thread.start();
+			threads.add(thread);
+		}
+		start.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		long expectedRounds = (long) threadCount * roundsPerThread;
+		assertEquals(expectedRounds, seat.getTotalRounds());
+		assertEquals(expectedRounds, table.getTotalRounds(), "Seat rounds should roll up into the table.");
+		assertEquals(threadCount * 33_334L, seat.getWins());
+	}
+
+	/**
+	 * Verifies that snapshots are immutable and can be combined and subtracted.
+	 */
+	@Test
+	void testSnapshotArithmetic() {
+		PlayerStatisticsTracker tracker = new PlayerStatisticsTracker();
+		tracker.recordWin();
+		tracker.recordLoss();
+		StatisticsSnapshot before = tracker.snapshot();
+		tracker.recordDraw();
+		tracker.recordWin();
+
+		assertEquals(2, before.getTotalRounds());
+		StatisticsSnapshot delta = tracker.snapshot().minus(before);
+		assertEquals(1, delta.getWins());
+		assertEquals(1, delta.getDraws());
+		assertEquals(0, delta.getLosses());
+		assertEquals(6, before.plus(tracker.snapshot()).getTotalRounds());
+		assertEquals("Wins: 2, Losses: 1, Draws: 1", tracker.getSummary());
+
+		tracker.resetStats();
+		assertEquals(StatisticsSnapshot.EMPTY.getSummary(), tracker.getSummary());
+	}
+
+	/**
+	 * Verifies that an engine's breakdown lists every seat and that the seats add up to the table.
+	 */
+	@Test
+	void testEngineBreakdown() {
+		BlackjackGameEngine engine = new BlackjackGameEngine(true, new StandardDeckCardManager(ShuffleRandomSource.seeded(9)), 3);
+		new HeadlessRoundExecutor(engine).playRounds(2_000, PlayerDecisionStrategy.stayOnOrAbove(17));
+
+		StatisticsBreakdown breakdown = engine.getStatisticsBreakdown();
+		assertEquals(3, breakdown.getSeatCount());
+		StatisticsSnapshot seatSum = StatisticsSnapshot.EMPTY;
+		for (int seat = 0; seat < breakdown.getSeatCount(); seat++) {
+			assertEquals(2_000, breakdown.getSeat(seat).getTotalRounds());
+			seatSum = seatSum.plus(breakdown.getSeat(seat));
+		}
+		assertEquals(breakdown.getTable().getSummary(), seatSum.getSummary());
+	}
+}
@@ -0,0 +1,78 @@
+package tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import blackjack.model.PlayingCardRepresentation;
+import blackjack.util.BlackjackParticipant;
+
+/**
+ * Unit tests for the shared, immutable card instances.
+ */
+class TestPlayingCardRepresentation {
+
+	/**
+	 * Tests that both factories return the same 52 distinct canonical instances.
+	 */
+	@Test
+	void testFactoriesShareCanonicalInstances() {
+		Map<PlayingCardRepresentation, Boolean> distinct = new IdentityHashMap<>();
+		for (int i = 0; i < PlayingCardRepresentation.CARD_COUNT; i++) {
+			PlayingCardRepresentation card = PlayingCardRepresentation.fromIndex(i);
+			assertSame(card, PlayingCardRepresentation.fromIndex(i));
+			assertSame(card, PlayingCardRepresentation.valueOf(card.getCardSymbolCode()));
+			assertEquals(i, card.getCardIndex());
+			distinct.put(card, Boolean.TRUE);
+		}
+		assertEquals(52, distinct.size());
+		assertThrows(IllegalArgumentException.class, () -> PlayingCardRepresentation.valueOf("1X"));
+	}
+
+	/**
+	 * Tests the precomputed rank, suit, value, rank slot and image path.
+	 */
+	@Test
+	void testPrecomputedAttributes() {
+		PlayingCardRepresentation ace = PlayingCardRepresentation.valueOf("AS");
+		assertEquals('A', ace.getRankSymbol());
+		assertEquals('S', ace.getSuitSymbol());
+		assertEquals(1, ace.getBlackjackValue());
+		assertEquals(0, ace.getRankSlot());
+		assertTrue(ace.isAce());
+		assertEquals("assets/img/AS.png", ace.retrieveCardImagePath());
+
+		PlayingCardRepresentation seven = PlayingCardRepresentation.valueOf("7D");
+		assertEquals(7, seven.getBlackjackValue());
+		assertEquals(6, seven.getRankSlot());
+		assertFalse(seven.isAce());
+
+		for (String tenValued : new String[] { "0H", "JC", "QD", "KS" }) {
+			PlayingCardRepresentation card = PlayingCardRepresentation.valueOf(tenValued);
+			assertEquals(10, card.getBlackjackValue(), tenValued);
+			assertEquals(9, card.getRankSlot(), tenValued);
+			assertEquals("assets/img/" + tenValued + ".png", card.retrieveCardImagePath());
+			assertEquals(tenValued, card.toString());
+		}
+	}
+
+	/**
+	 * Tests that a face-down card is a property of the hand holding it, not of the shared card.
+	 */
+	@Test
+	void testFaceDownStateLivesInTheHand() {
+		PlayingCardRepresentation king = PlayingCardRepresentation.valueOf("KH");
+		BlackjackParticipant dealer = new BlackjackParticipant();
+		BlackjackParticipant player = new BlackjackParticipant();
+		dealer.acquireCardIntoHand(king, true);
+		player.acquireCardIntoHand(king);
+
+		assertTrue(dealer.isCardFaceDown(0));
+		assertEquals(PlayingCardRepresentation.CARD_BACK_IMAGE_PATH, dealer.retrieveCardImagePath(0));
+		assertFalse(player.isCardFaceDown(0));
+		assertEquals("assets/img/KH.png", player.retrieveCardImagePath(0));
+		assertEquals("assets/img/KH.png", king.retrieveCardImagePath(), "The shared card itself never turns face-down.");
+	}
+}
@@ -0,0 +1,114 @@
+package tests;
+
+import blackjack.engine.BlackjackGameEngine;
+import blackjack.engine.HeadlessRoundExecutor;
+import blackjack.event.GameEventSubscription;
+import blackjack.model.ShuffleRandomSource;
+import blackjack.model.StandardDeckCardManager;
+import blackjack.rules.TableRules;
+import blackjack.strategy.BasicStrategyChart;
+import blackjack.tracing.RoundTracer;
+import blackjack.tracing.TraceWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for round tracing into Chrome trace files.
+ */
+class TestRoundTracing {
+
+	@TempDir
+	Path tempDir;
+
+	/**
+	 * Verifies that every sampled round is written with its deal, card, state and settlement spans.
+	 */
+	@Test
+	void testSampledRoundsAreWritten() throws IOException {
+		Path file = tempDir.resolve("rounds.json");
+		TraceWriter writer = new TraceWriter(file);
+		BlackjackGameEngine engine = new BlackjackGameEngine(true,
+				new StandardDeckCardManager(ShuffleRandomSource.seeded(12), 6, 0.75), 2, TableRules.casinoStandard());
+		engine.setRoundTracer(new RoundTracer(writer, 1.0));
+		new HeadlessRoundExecutor(engine).playRounds(10, BasicStrategyChart.getInstance().asDecisionStrategy(engine));
+		writer.close();
+
+		String trace = Files.readString(file).trim();
+		assertTrue(trace.startsWith("[") && trace.endsWith("]"), "The trace should be a complete JSON array.");
+		assertEquals(10, count(trace, "\"cat\":\"round\""));
+		assertEquals(10, count(trace, "\"name\":\"executeCardDealSequence\""));
+		assertTrue(count(trace, "\"name\":\"drawCardForDealer\"") >= 20, "The dealer gets two cards in every round.");
+		assertTrue(count(trace, "\"name\":\"determineWinnerAnnouncement\"") == 10);
+		assertTrue(trace.contains("\"name\":\"GameStatePlayerTurn\",\"ph\":\"X\""));
+		assertTrue(trace.contains("\"name\":\"process_name\""));
+		assertEquals(0, writer.getDroppedEventCount());
+		assertEquals(count(trace, "\"ph\":"), writer.getWrittenEventCount());
+	}
+
+	/**
+	 * Verifies that a sample rate of zero writes no spans.
+	 */
+	@Test
+	void testUnsampledRoundsWriteNothing() throws IOException {
+		Path file = tempDir.resolve("empty.json");
+		TraceWriter writer = new TraceWriter(file);
+		BlackjackGameEngine engine = new BlackjackGameEngine(true, new StandardDeckCardManager(ShuffleRandomSource.seeded(2)));
+		engine.setRoundTracer(new RoundTracer(writer, 0.0));
+		new HeadlessRoundExecutor(engine).playRounds(200, BasicStrategyChart.getInstance().asDecisionStrategy());
+		writer.close();
+
+		assertEquals(0, count(Files.readString(file), "\"ph\":\"X\""));
+	}
+
+	/**
+	 * Verifies that delivering a traced round's events to a subscriber is recorded as a notification span.
+	 */
+	@Test
+	void testSubscriberDeliveryIsTraced() throws IOException {
+		Path file = tempDir.resolve("delivery.json");
+		TraceWriter writer = new TraceWriter(file);
+		BlackjackGameEngine engine = new BlackjackGameEngine(false, new StandardDeckCardManager(ShuffleRandomSource.seeded(3)));
+		engine.setRoundTracer(new RoundTracer(writer, 1.0));
+		try (GameEventSubscription subscription = engine.getEventBus().subscribe(events -> { }, Runnable::run)) {
+			engine.getCurrentGameState().startGame();
+			engine.getCurrentGameState().resetGame();
+		}
+		writer.close();
+
+		String trace = Files.readString(file);
+		assertTrue(count(trace, "\"name\":\"notifySubscriber\"") > 0);
+		assertEquals(1, count(trace, "\"cat\":\"round\""), "A reset ends the traced round.");
+	}
+
+	/**
+	 * Verifies that closing an idle writer wakes it right away instead of waiting out its idle timeout.
+	 */
+	@Test
+	void testIdleWriterClosesPromptly() throws IOException {
+		Path file = tempDir.resolve("idle.json");
+		TraceWriter writer = new TraceWriter(file);
+		long start = System.nanoTime();
+		writer.close();
+
+		assertTrue(System.nanoTime() - start < 500_000_000L, "Close should not wait for the idle timeout.");
+		assertEquals("[\n\n]", Files.readString(file).trim());
+		assertEquals(0, writer.getWrittenEventCount());
+	}
+
+	private static int count(String text, String fragment) {
+		Matcher matcher = Pattern.compile(Pattern.quote(fragment)).matcher(text);
+		int count = 0;
+		while (matcher.find()) {
+			count++;
+		}
+		return count;
+	}
+}
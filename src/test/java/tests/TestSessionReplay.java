@@ -0,0 +1,132 @@
+package tests;
+
+import blackjack.engine.PlayerAction;
+import blackjack.engine.PlayerDecisionStrategy;
+import blackjack.engine.RoundOutcome;
+import blackjack.model.PlayingCardRepresentation;
+import blackjack.model.ShuffleRandomSource;
+import blackjack.model.StandardDeckCardManager;
+import blackjack.replay.RecordedRound;
+import blackjack.replay.RecordedSession;
+import blackjack.replay.ReplayReport;
+import blackjack.replay.SessionRecorder;
+import blackjack.replay.SessionReplayer;
+import blackjack.rules.TableRules;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for seeded shuffles and bit-exact round replay.
+ */
+class TestSessionReplay {
+
+	/**
+	 * Verifies that two decks with the same seed deal the same cards.
+	 */
+	@Test
+	void testSeededDecksMatch() {
+		StandardDeckCardManager first = new StandardDeckCardManager(ShuffleRandomSource.seeded(11L));
+		StandardDeckCardManager second = new StandardDeckCardManager(ShuffleRandomSource.seeded(11L));
+		for (int shuffle = 0; shuffle < 5; shuffle++) {
+			first.shuffleDeck();
+			second.shuffleDeck();
+			while (first.hasNext()) {
+				PlayingCardRepresentation card = first.next();
+				assertEquals(card.getCardSymbolCode(), second.next().getCardSymbolCode());
+			}
+		}
+	}
+
+	/**
+	 * Verifies that a recorded multi-seat session replays identically, also after serialization.
+	 */
+	@Test
+	void testSessionReplaysIdentically() throws IOException {
+		SessionRecorder recorder = new SessionRecorder(2024L, 3);
+		PlayerDecisionStrategy strategy = PlayerDecisionStrategy.stayOnOrAbove(16);
+		for (int i = 0; i < 2_000; i++) {
+			recorder.playRound(strategy);
+		}
+		RecordedSession session = recorder.getRecordedSession();
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		session.writeTo(new DataOutputStream(bytes));
+		RecordedSession restored = RecordedSession.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+		ReplayReport report = SessionReplayer.replaySession(restored);
+		assertEquals(2_000, report.getReplayedRoundCount());
+		assertTrue(report.isIdentical(), report.getSummary());
+	}
+
+	/**
+	 * Verifies that a single round replays on its own and that a changed action is detected.
+	 */
+	@Test
+	void testSingleRoundReplayDetectsDivergence() {
+		SessionRecorder recorder = new SessionRecorder(5L, 1);
+		for (int i = 0; i < 50; i++) {
+			recorder.playRound(PlayerDecisionStrategy.stayOnOrAbove(17));
+		}
+		RecordedSession session = recorder.getRecordedSession();
+		RecordedRound round = session.getRounds().get(42);
+		assertTrue(round.startsShoe(), "A single deck is reshuffled before every round.");
+		assertTrue(new SessionReplayer(session).replayRound(round));
+
+		RecordedRound tampered = new RecordedRound(round.getRoundIndex(), round.getDeckStateBeforeRound() + 1, true,
+				new byte[0], new RoundOutcome[] { round.getSeatOutcome(0) }, round.getCardFingerprint());
+		assertFalse(new SessionReplayer(session).replayRound(tampered));
+	}
+
+	/**
+	 * Verifies that a six-deck shoe with a cut card and casino rules is rebuilt from the recording,
+	 * including doubles, splits and surrenders, and that it does not replay under other rules.
+	 */
+	@Test
+	void testShoeAndRulesAreRecorded() throws IOException {
+		SessionRecorder recorder = new SessionRecorder(77L, 2, 6, 0.75, TableRules.casinoStandard());
+		PlayerDecisionStrategy strategy = (player, dealerUpCard) -> {
+			int total = player.calculateTotalHandValue();
+			if (player.getNumberOfCardsInHand() == 2) {
+				if (player.getHandCards().get(0).getRankSlot() == player.getHandCards().get(1).getRankSlot()
+						&& (total == 16 || player.isSoftHand())) {
+					return PlayerAction.SPLIT;
+				}
+				if (total == 10 || total == 11) {
+					return PlayerAction.DOUBLE;
+				}
+				if (total == 16 && dealerUpCard.getBlackjackValue() == 10) {
+					return PlayerAction.SURRENDER;
+				}
+			}
+			return total >= 17 ? PlayerAction.STAY : PlayerAction.HIT;
+		};
+		for (int i = 0; i < 1_000; i++) {
+			recorder.playRound(strategy);
+		}
+		RecordedSession session = recorder.getRecordedSession();
+		assertTrue(session.getRounds().get(0).startsShoe());
+		long shoeCount = session.getRounds().stream().filter(RecordedRound::startsShoe).count();
+		assertTrue(shoeCount > 1 && shoeCount < 1_000, "Rounds share a shoe until the cut card comes out: " + shoeCount);
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		session.writeTo(new DataOutputStream(bytes));
+		RecordedSession restored = RecordedSession.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+		assertEquals(6, restored.getDeckCount());
+		assertEquals(0.75, restored.getPenetration());
+		assertEquals(TableRules.casinoStandard().toString(), restored.getTableRules().toString());
+
+		ReplayReport report = SessionReplayer.replaySession(restored);
+		assertEquals(1_000, report.getReplayedRoundCount());
+		assertTrue(report.isIdentical(), report.getSummary());
+
+		RecordedSession legacyRules = new RecordedSession(session.getSessionSeed(), session.getSeatCount(),
+				session.getDeckCount(), session.getPenetration(), TableRules.legacy(), session.getRounds());
+		assertFalse(SessionReplayer.replaySession(legacyRules).isIdentical());
+	}
+}
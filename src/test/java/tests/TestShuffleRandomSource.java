@@ -0,0 +1,66 @@
+package tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+import blackjack.model.PlayingCardRepresentation;
+import blackjack.model.ShuffleRandomSource;
+import blackjack.model.StandardDeckCardManager;
+
+/**
+ * Unit tests for the pluggable shuffle random sources.
+ */
+class TestShuffleRandomSource {
+
+	/** Chi-square critical value for 51 degrees of freedom at the 0.1% level */
+	private static final double CHI_SQUARE_CRITICAL = 87.97;
+
+	/**
+	 * Tests that every seedable generator places the ace of clubs at each deck position equally often.
+	 */
+	@Test
+	void testShufflePositionUniformity() {
+		assertUniformShuffles(ShuffleRandomSource.seeded(1L), "SplitMix64");
+		assertUniformShuffles(ShuffleRandomSource.xoshiro256(1L), "xoshiro256**");
+		assertUniformShuffles(ShuffleRandomSource.fromSplittable(new SplittableRandom(1L)), "SplittableRandom");
+	}
+
+	/**
+	 * Tests that xoshiro256** respects small and large bounds.
+	 */
+	@Test
+	void testXoshiroBounds() {
+		ShuffleRandomSource random = ShuffleRandomSource.xoshiro256(7L);
+		for (int i = 0; i < 10_000; i++) {
+			int small = random.nextInt(3);
+			int large = random.nextInt(Integer.MAX_VALUE);
+			assertTrue(small >= 0 && small < 3);
+			assertTrue(large >= 0);
+		}
+		assertThrows(IllegalArgumentException.class, () -> random.nextInt(0));
+	}
+
+	private static void assertUniformShuffles(ShuffleRandomSource random, String name) {
+		StandardDeckCardManager deck = new StandardDeckCardManager(random);
+		int shuffles = 26_000;
+		int[] positionCounts = new int[PlayingCardRepresentation.CARD_COUNT];
+
+		for (int i = 0; i < shuffles; i++) {
+			deck.shuffleDeck();
+			for (int position = 0; deck.hasNext(); position++) {
+				if (deck.next().getCardIndex() == 0) {
+					positionCounts[position]++;
+				}
+			}
+		}
+
+		double expected = (double) shuffles / PlayingCardRepresentation.CARD_COUNT;
+		double chiSquare = 0;
+		for (int count : positionCounts) {
+			chiSquare += (count - expected) * (count - expected) / expected;
+		}
+		assertTrue(chiSquare < CHI_SQUARE_CRITICAL, name + " shuffles should be uniform, chi-square was " + chiSquare);
+	}
+}
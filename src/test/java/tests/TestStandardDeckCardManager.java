@@ -6,20 +6,25 @@ import java.util.ArrayList;
 import org.junit.jupiter.api.Test;
 import blackjack.model.StandardDeckCardManager;
 import blackjack.model.PlayingCardRepresentation;
+import blackjack.model.ShuffleRandomSource;
 
 /**
- * Unit tests for StandardDeckCardManager singleton and iterator behavior.
+ * Unit tests for StandardDeckCardManager shoes and iterator behavior.
  */
 class TestStandardDeckCardManager {
 
 	/**
-	 * Tests that the Singleton instance always returns the same object.
+	 * Tests that every deck is independent: dealing from one leaves another untouched.
 	 */
 	@Test
-	void testGetInstance() {
-		StandardDeckCardManager deck = StandardDeckCardManager.getInstance();
-		StandardDeckCardManager anotherDeck = StandardDeckCardManager.getInstance();
-		assertEquals(deck, anotherDeck, "Singleton instances should be the same.");
+	void testDecksAreIndependent() {
+		StandardDeckCardManager deck = new StandardDeckCardManager(ShuffleRandomSource.seeded(1L));
+		StandardDeckCardManager anotherDeck = new StandardDeckCardManager(ShuffleRandomSource.seeded(1L));
+		assertNotSame(deck, anotherDeck);
+		deck.next();
+		deck.next();
+		assertEquals(2, deck.getDealtCardCount());
+		assertEquals(0, anotherDeck.getDealtCardCount(), "Decks must not share their position.");
 	}
 
 	/**
@@ -27,7 +32,7 @@ class TestStandardDeckCardManager {
 	 */
 	@Test
 	void testShuffle() {
-		StandardDeckCardManager deck = StandardDeckCardManager.getInstance();
+		StandardDeckCardManager deck = new StandardDeckCardManager(ShuffleRandomSource.seeded(2L));
 		deck.shuffleDeck();
 		PlayingCardRepresentation firstCard = deck.next();
 		deck.shuffleDeck();
@@ -40,7 +45,7 @@ class TestStandardDeckCardManager {
 	 */
 	@Test
 	void testDeckIterator() {
-		StandardDeckCardManager deck = StandardDeckCardManager.getInstance();
+		StandardDeckCardManager deck = new StandardDeckCardManager(ShuffleRandomSource.seeded(3L));
 		deck.shuffleDeck(); // Ensure full deck order
 		ArrayList<PlayingCardRepresentation> cards = new ArrayList<>();
 
@@ -50,4 +55,136 @@ class TestStandardDeckCardManager {
 
 		assertEquals(52, cards.size(), "Deck should contain 52 cards.");
 	}
+
+	/**
+	 * Tests that a six-deck shoe holds every card exactly six times.
+	 */
+	@Test
+	void testMultiDeckShoeComposition() {
+		StandardDeckCardManager shoe = new StandardDeckCardManager(ShuffleRandomSource.seeded(5L), 6, 0.75);
+		int[] copies = new int[PlayingCardRepresentation.CARD_COUNT];
+
+		while (shoe.hasNext()) {
+			copies[shoe.next().getCardIndex()]++;
+		}
+
+		assertEquals(312, shoe.getShoeSize(), "Six decks should hold 312 cards.");
+		for (int count : copies) {
+			assertEquals(6, count, "Each card should appear once per deck.");
+		}
+	}
+
+	/**
+	 * Tests that the shoe is only reshuffled once dealing reaches the cut card.
+	 */
+	@Test
+	void testReshuffleAtCutCard() {
+		StandardDeckCardManager shoe = new StandardDeckCardManager(ShuffleRandomSource.seeded(5L), 2, 0.5);
+		assertEquals(52, shoe.getCutCardPosition(), "Cut card should sit halfway into two decks.");
+
+		for (int i = 0; i < 51; i++) {
+			shoe.next();
+		}
+		assertFalse(shoe.reshuffleIfCutCardReached(), "Shoe should not be reshuffled before the cut card.");
+		assertEquals(53, shoe.getRemainingCardCount());
+
+		shoe.next();
+		assertTrue(shoe.reshuffleIfCutCardReached(), "Shoe should be reshuffled once the cut card is out.");
+		assertEquals(104, shoe.getRemainingCardCount());
+	}
+
+	/**
+	 * Tests that a continuous shuffler keeps every card and deals each card first equally often.
+	 * Chi-square over 52 cards (51 degrees of freedom) must stay below the 0.1% critical value.
+	 */
+	@Test
+	void testContinuousShufflerUniformity() {
+		StandardDeckCardManager shoe = StandardDeckCardManager.continuousShuffler(ShuffleRandomSource.seeded(9L), 1);
+		int rounds = 52_000;
+		int[] firstCardCounts = new int[PlayingCardRepresentation.CARD_COUNT];
+
+		for (int round = 0; round < rounds; round++) {
+			firstCardCounts[shoe.next().getCardIndex()]++;
+			for (int i = 0; i < round % 7; i++) {
+				shoe.next();
+			}
+			shoe.prepareForNextRound();
+			assertEquals(52, shoe.getRemainingCardCount(), "Used cards should be back in the shoe.");
+			assertEquals(0, shoe.getRunningCount(), "Returned cards should cancel the running count.");
+		}
+
+		double expected = (double) rounds / PlayingCardRepresentation.CARD_COUNT;
+		double chiSquare = 0;
+		for (int count : firstCardCounts) {
+			chiSquare += (count - expected) * (count - expected) / expected;
+		}
+		assertTrue(chiSquare < 87.97, "First cards should be uniform, chi-square was " + chiSquare);
+
+		boolean[] seen = new boolean[PlayingCardRepresentation.CARD_COUNT];
+		while (shoe.hasNext()) {
+			seen[shoe.next().getCardIndex()] = true;
+		}
+		for (boolean cardSeen : seen) {
+			assertTrue(cardSeen, "Continuous shoe should still hold every card.");
+		}
+	}
+
+	/**
+	 * Tests that rank counts and the Hi-Lo running count follow the dealt cards.
+	 */
+	@Test
+	void testCompositionAndRunningCount() {
+		StandardDeckCardManager shoe = new StandardDeckCardManager(ShuffleRandomSource.seeded(21L), 2, 0.75);
+		int[] dealtPerSlot = new int[StandardDeckCardManager.RANK_SLOT_COUNT];
+		int expectedRunningCount = 0;
+
+		for (int i = 0; i < 40; i++) {
+			PlayingCardRepresentation card = shoe.next();
+			dealtPerSlot[card.getRankSlot()]++;
+			int value = card.getBlackjackValue();
+			expectedRunningCount += value >= 2 && value <= 6 ? 1 : (value >= 7 && value <= 9 ? 0 : -1);
+		}
+
+		int[] remaining = shoe.copyRemainingRankCounts(new int[StandardDeckCardManager.RANK_SLOT_COUNT]);
+		for (int slot = 0; slot < StandardDeckCardManager.RANK_SLOT_COUNT; slot++) {
+			int full = slot == StandardDeckCardManager.RANK_SLOT_COUNT - 1 ? 32 : 8;
+			assertEquals(full - dealtPerSlot[slot], remaining[slot], "Remaining count for rank slot " + slot);
+		}
+		assertEquals(expectedRunningCount, shoe.getRunningCount());
+		assertEquals(expectedRunningCount * 52.0 / 64, shoe.getTrueCount(), 1e-9);
+
+		shoe.shuffleDeck();
+		assertEquals(0, shoe.getRunningCount(), "Running count should restart after a shuffle.");
+		assertEquals(32, shoe.getRemainingRankCount(StandardDeckCardManager.RANK_SLOT_COUNT - 1));
+	}
+
+	/**
+	 * Tests that reshuffling the discards keeps the cards in play dealt and returns all others to the shoe.
+	 */
+	@Test
+	void testReshuffleDiscardsKeepsCardsInPlay() {
+		StandardDeckCardManager shoe = new StandardDeckCardManager(ShuffleRandomSource.seeded(8L), 1, 0.75);
+		ArrayList<PlayingCardRepresentation> inPlay = new ArrayList<>();
+		while (shoe.hasNext()) {
+			PlayingCardRepresentation card = shoe.next();
+			if (inPlay.size() < 5) {
+				inPlay.add(card);
+			}
+		}
+
+		shoe.reshuffleDiscards(inPlay);
+		assertEquals(47, shoe.getRemainingCardCount());
+		int expectedRunningCount = 0;
+		for (PlayingCardRepresentation card : inPlay) {
+			expectedRunningCount += StandardDeckCardManager.getHiLoTag(card);
+		}
+		assertEquals(expectedRunningCount, shoe.getRunningCount());
+		ArrayList<PlayingCardRepresentation> redealt = new ArrayList<>();
+		while (shoe.hasNext()) {
+			redealt.add(shoe.next());
+		}
+		for (PlayingCardRepresentation card : inPlay) {
+			assertFalse(redealt.contains(card), "A card in play must not be dealt again: " + card);
+		}
+	}
 }
@@ -0,0 +1,80 @@
+package tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import blackjack.engine.PlayerDecisionStrategy;
+import blackjack.rules.TableRules;
+import blackjack.simulation.StrategyCandidate;
+import blackjack.simulation.StrategyEvaluation;
+import blackjack.simulation.StrategyEvaluationHarness;
+import blackjack.strategy.BasicStrategyChart;
+
+/**
+ * Unit tests for the strategy evaluation harness.
+ */
+class TestStrategyEvaluationHarness {
+
+	/**
+	 * Tests that a run stops after the first batch that reaches the precision target.
+	 */
+	@Test
+	void testStopsEarlyOnceIntervalIsTight() {
+		StrategyEvaluationHarness harness = new StrategyEvaluationHarness(2, 5L)
+				.setBatchRounds(10_000).setMaximumRounds(1_000_000).setTargetHalfWidth(0.015);
+		StrategyEvaluation evaluation = harness.evaluate(StrategyCandidate.of("dealer mimic", PlayerDecisionStrategy.stayOnOrAbove(17)));
+
+		assertTrue(evaluation.isConverged());
+		assertTrue(evaluation.getResult().getConfidenceHalfWidth95() <= 0.015);
+		assertTrue(evaluation.getResult().getRoundCount() < 1_000_000, "Run should stop well before the limit.");
+		assertEquals(0, evaluation.getResult().getRoundCount() % 10_000, "Runs stop on batch boundaries.");
+	}
+
+	/**
+	 * Tests that the round limit ends runs that cannot reach the target, and that every candidate is reported.
+	 */
+	@Test
+	void testRoundLimitAndCustomChart() {
+		String[] hardRows = BasicStrategyChart.getStandardHardRows();
+		hardRows[12] = "HHHHHHHHHH"; // hit every hard 16
+		BasicStrategyChart custom = BasicStrategyChart.fromRows(hardRows,
+				BasicStrategyChart.getStandardSoftRows(), BasicStrategyChart.getStandardPairRows());
+		StrategyEvaluationHarness harness = new StrategyEvaluationHarness(2, 5L)
+				.setBatchRounds(3_000).setMaximumRounds(6_000).setTargetHalfWidth(0.0001);
+
+		List<StrategyEvaluation> evaluations = harness.evaluateAll(List.of(
+				StrategyCandidate.of("chart", BasicStrategyChart.getInstance().asDecisionStrategy()),
+				StrategyCandidate.of("custom chart", custom.asDecisionStrategy())));
+
+		assertEquals(2, evaluations.size());
+		for (StrategyEvaluation evaluation : evaluations) {
+			assertFalse(evaluation.isConverged());
+			assertEquals(6_000, evaluation.getResult().getRoundCount());
+			assertTrue(evaluation.getResult().getStandardError() > 0);
+		}
+	}
+
+	/**
+	 * Tests that the harness plays the given table rules and rejects limits that could never stop a run sensibly.
+	 */
+	@Test
+	void testRulesAndSettingValidation() {
+		BasicStrategyChart chart = BasicStrategyChart.getInstance();
+		StrategyCandidate fullChart = new StrategyCandidate("full chart", chart::asDecisionStrategy);
+		StrategyEvaluation legacy = new StrategyEvaluationHarness(2, 5L)
+				.setBatchRounds(20_000).setMaximumRounds(20_000).evaluate(fullChart);
+		StrategyEvaluation casino = new StrategyEvaluationHarness(2, 5L, 6, 0.75, TableRules.casinoStandard())
+				.setBatchRounds(20_000).setMaximumRounds(20_000).evaluate(fullChart);
+		assertEquals(legacy.getResult().getWins() - legacy.getResult().getLosses(), legacy.getResult().getNetUnits(), 1e-9);
+		assertNotEquals(casino.getResult().getWins() - casino.getResult().getLosses(), casino.getResult().getNetUnits(), 1e-9,
+				"Casino rounds settle doubles and 3:2 blackjacks in net units.");
+
+		StrategyEvaluationHarness harness = new StrategyEvaluationHarness(2, 5L);
+		assertThrows(IllegalArgumentException.class, () -> harness.setMaximumRounds(0));
+		assertThrows(IllegalArgumentException.class, () -> harness.setTargetHalfWidth(0.0));
+		assertThrows(IllegalArgumentException.class, () -> harness.setTargetHalfWidth(-0.01));
+		assertThrows(IllegalArgumentException.class, () -> new StrategyEvaluationHarness(0, 5L));
+	}
+}
@@ -0,0 +1,188 @@
+package tests;
+
+import blackjack.engine.BlackjackGameEngine;
+import blackjack.engine.HeadlessRoundExecutor;
+import blackjack.engine.PlayerAction;
+import blackjack.engine.PlayerDecisionStrategy;
+import blackjack.model.PlayingCardRepresentation;
+import blackjack.model.ShuffleRandomSource;
+import blackjack.model.StandardDeckCardManager;
+import blackjack.rules.BlackjackPayout;
+import blackjack.rules.CompiledTableRules;
+import blackjack.rules.DealerStandRule;
+import blackjack.rules.TableRules;
+import blackjack.simulation.MonteCarloSimulator;
+import blackjack.simulation.SimulationResult;
+import blackjack.strategy.BasicStrategyChart;
+import blackjack.util.BlackjackDealer;
+import blackjack.util.BlackjackParticipant;
+import blackjack.util.PlayerHand;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for table rules: dealer stand rules, payouts, settlement and player options.
+ */
+class TestTableRules {
+
+	private static <T extends BlackjackParticipant> T deal(T participant, String... cards) {
+		for (String card : cards) {
+			participant.acquireCardIntoHand(PlayingCardRepresentation.valueOf(card));
+		}
+		return participant;
+	}
+
+	/**
+	 * Verifies that a natural pays the configured payout and that only casino settlement ranks it above other 21s.
+	 */
+	@Test
+	void testNaturalPayouts() {
+		PlayerHand natural = deal(new PlayerHand(0), "AS", "KD");
+		BlackjackDealer dealerTwenty = deal(new BlackjackDealer(), "0H", "QC");
+		BlackjackDealer dealerThreeCardTwentyOne = deal(new BlackjackDealer(), "5H", "6C", "0D");
+
+		CompiledTableRules legacy = TableRules.legacy().compile();
+		CompiledTableRules casino = TableRules.casinoStandard().compile();
+		CompiledTableRules sixToFive = TableRules.builder()
+				.dealerStandRule(DealerStandRule.HIT_ON_SOFT_17)
+				.blackjackPayout(BlackjackPayout.SIX_TO_FIVE)
+				.build().compile();
+
+		assertEquals(1.0, legacy.settle(natural, dealerTwenty));
+		assertEquals(1.5, casino.settle(natural, dealerTwenty));
+		assertEquals(1.2, sixToFive.settle(natural, dealerTwenty), 1e-12);
+		assertEquals(0.0, legacy.settle(natural, dealerThreeCardTwentyOne), "Legacy rules settle on totals only.");
+		assertEquals(1.5, casino.settle(natural, dealerThreeCardTwentyOne));
+
+		BlackjackDealer dealerNatural = deal(new BlackjackDealer(), "AH", "JC");
+		assertEquals(0.0, casino.settle(natural, dealerNatural));
+		assertEquals(-1.0, casino.settle(deal(new PlayerHand(0), "5C", "6D", "QS"), dealerNatural),
+				"A dealer natural beats a three-card 21.");
+	}
+
+	/**
+	 * Verifies doubled, surrendered and busted hands settle for the right number of units.
+	 */
+	@Test
+	void testWagerAdjustments() {
+		CompiledTableRules casino = TableRules.casinoStandard().compile();
+		BlackjackDealer dealerNineteen = deal(new BlackjackDealer(), "9H", "0C");
+
+		PlayerHand doubledWin = deal(new PlayerHand(0), "5C", "6D");
+		doubledWin.markDoubled();
+		deal(doubledWin, "9S");
+		assertEquals(2.0, casino.settle(doubledWin, dealerNineteen));
+
+		PlayerHand doubledBust = deal(new PlayerHand(0), "8C", "4D");
+		doubledBust.markDoubled();
+		deal(doubledBust, "KS");
+		assertEquals(-2.0, casino.settle(doubledBust, dealerNineteen));
+
+		PlayerHand surrendered = deal(new PlayerHand(0), "0C", "6D");
+		surrendered.markSurrendered();
+		assertEquals(-0.5, casino.settle(surrendered, dealerNineteen));
+		assertFalse(casino.needsDealerTurn(surrendered));
+	}
+
+	/**
+	 * Verifies the dealer's stopping test of every stand rule, including soft 17.
+	 */
+	@Test
+	void testDealerStandRules() {
+		BlackjackDealer softSeventeen = deal(new BlackjackDealer(), "AH", "6C");
+		BlackjackDealer hardSeventeen = deal(new BlackjackDealer(), "0H", "7C");
+
+		assertTrue(DealerStandRule.STAND_ON_SOFT_17.shouldStand(softSeventeen, 20));
+		assertFalse(DealerStandRule.HIT_ON_SOFT_17.shouldStand(softSeventeen, 0));
+		assertTrue(DealerStandRule.HIT_ON_SOFT_17.shouldStand(hardSeventeen, 0));
+		assertFalse(DealerStandRule.LEGACY_NOT_BEHIND_PLAYER.shouldStand(hardSeventeen, 18),
+				"The legacy dealer keeps drawing while behind the best player hand.");
+		assertTrue(DealerStandRule.LEGACY_NOT_BEHIND_PLAYER.shouldStand(hardSeventeen, 17));
+	}
+
+	/**
+	 * Verifies split hands lose naturals and doubling follows the DAS option.
+	 */
+	@Test
+	void testSplitHandPermissions() {
+		CompiledTableRules noDoubleAfterSplit = TableRules.builder()
+				.dealerStandRule(DealerStandRule.STAND_ON_SOFT_17)
+				.doubleDownAllowed(true)
+				.lateSurrender(true)
+				.maximumHandsPerSeat(2)
+				.build().compile();
+
+		PlayerHand hand = deal(new PlayerHand(0), "8C", "8D");
+		assertTrue(noDoubleAfterSplit.canSplit(hand, 1));
+		assertFalse(noDoubleAfterSplit.canSplit(hand, 2), "The seat is at its hand limit.");
+
+		PlayerHand splitHand = new PlayerHand(0);
+		hand.splitInto(splitHand);
+		deal(hand, "3S");
+		deal(splitHand, "AS");
+		assertTrue(hand.isFromSplit() && splitHand.isFromSplit());
+		assertEquals(11, hand.calculateTotalHandValue());
+		assertFalse(noDoubleAfterSplit.canDoubleDown(hand));
+		assertFalse(noDoubleAfterSplit.canSurrender(hand));
+
+		PlayerHand splitTen = deal(new PlayerHand(0), "AC", "KH");
+		splitTen.splitInto(new PlayerHand(0));
+		deal(splitTen, "KS");
+		assertFalse(splitTen.hasBlackjackImmediately(), "Ace and ten after a split is not a natural.");
+	}
+
+	/**
+	 * Verifies that the legacy rules reject the casino-only actions on the engine.
+	 */
+	@Test
+	void testLegacyEngineRejectsCasinoActions() {
+		BlackjackGameEngine engine = new BlackjackGameEngine(true, new StandardDeckCardManager(ShuffleRandomSource.seeded(5)));
+		engine.getCurrentGameState().startGame();
+
+		assertFalse(engine.canDoubleDown());
+		assertFalse(engine.doubleDownActiveHand());
+		assertFalse(engine.canSurrender());
+		assertFalse(engine.splitActiveHand());
+		assertEquals(2, engine.getPlayer().getNumberOfCardsInHand());
+	}
+
+	/**
+	 * Verifies that casino rounds with splits, doubles and surrenders settle every hand and respect the hand limit.
+	 */
+	@Test
+	void testCasinoRoundsSettleEveryHand() {
+		BlackjackGameEngine engine = new BlackjackGameEngine(true,
+				new StandardDeckCardManager(ShuffleRandomSource.seeded(17), 6, 0.75), 3, TableRules.casinoStandard());
+		HeadlessRoundExecutor executor = new HeadlessRoundExecutor(engine);
+		PlayerDecisionStrategy chart = BasicStrategyChart.getInstance().asDecisionStrategy(engine);
+
+		int splitRounds = 0;
+		for (int i = 0; i < 20_000; i++) {
+			executor.playRound(chart);
+			assertEquals(engine.getRoundEndState(), engine.getCurrentGameState());
+			for (int seat = 0; seat < engine.getSeatCount(); seat++) {
+				int hands = engine.getSeatHandCount(seat);
+				assertTrue(hands <= TableRules.MAXIMUM_HANDS_PER_SEAT);
+				double net = engine.getLastRoundNet(seat);
+				assertTrue(Math.abs(net) <= 2.0 * hands, "Net " + net + " exceeds the doubled wagers.");
+				splitRounds += hands > 1 ? 1 : 0;
+			}
+		}
+		assertTrue(splitRounds > 0, "The chart should have split some pairs.");
+	}
+
+	/**
+	 * Verifies the full chart under S17/3:2/DAS/LS rules plays close to break-even, as published.
+	 */
+	@Test
+	void testCasinoRulesExpectedValue() {
+		MonteCarloSimulator simulator = new MonteCarloSimulator(4, 2024, 6, 0.75, TableRules.casinoStandard());
+		SimulationResult result = simulator.run(400_000, engine -> BasicStrategyChart.getInstance().asDecisionStrategy(engine));
+
+		assertEquals(-0.004, result.getExpectedValue(), 0.015, result.getSummary());
+		assertNotEquals(result.getWins() - result.getLosses(), Math.round(result.getNetUnits()),
+				"Blackjack payouts and doubles should move the net away from the win-loss count.");
+		assertEquals(PlayerAction.SURRENDER, PlayerAction.values()[4], "Recorded sessions rely on stable ordinals.");
+	}
+}
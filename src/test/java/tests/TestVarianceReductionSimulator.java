@@ -0,0 +1,109 @@
+package tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import blackjack.engine.PlayerDecisionStrategy;
+import blackjack.model.ShuffleRandomSource;
+import blackjack.model.StandardDeckCardManager;
+import blackjack.rules.TableRules;
+import blackjack.strategy.BasicStrategyChart;
+import blackjack.simulation.PairedSampleStatistics;
+import blackjack.simulation.StrategyCandidate;
+import blackjack.simulation.VarianceReductionResult;
+import blackjack.simulation.VarianceReductionSimulator;
+
+/**
+ * Unit tests for common random number and antithetic simulations.
+ */
+class TestVarianceReductionSimulator {
+
+	/**
+	 * Tests that a strategy compared with itself on common decks shows no difference at all.
+	 */
+	@Test
+	void testIdenticalStrategiesCancelExactly() {
+		StrategyCandidate strategy = StrategyCandidate.of("stay from 17", PlayerDecisionStrategy.stayOnOrAbove(17));
+		VarianceReductionResult result = new VarianceReductionSimulator(2, 3L)
+				.compareWithCommonRandomNumbers(strategy, strategy, 5_000);
+
+		assertEquals(0.0, result.getEstimate());
+		assertEquals(0.0, result.getStandardError());
+		assertTrue(result.getIndependentStandardError() > 0);
+	}
+
+	/**
+	 * Tests that common decks make the comparison of two similar strategies markedly more precise.
+	 */
+	@Test
+	void testCommonRandomNumbersReduceVariance() {
+		VarianceReductionResult result = new VarianceReductionSimulator(2, 3L).compareWithCommonRandomNumbers(
+				StrategyCandidate.of("stay from 17", PlayerDecisionStrategy.stayOnOrAbove(17)),
+				StrategyCandidate.of("stay from 16", PlayerDecisionStrategy.stayOnOrAbove(16)),
+				40_000);
+
+		assertEquals(40_000, result.getPairCount());
+		assertTrue(result.getVarianceReductionFactor() > 3.0, "Reduction was " + result.getVarianceReductionFactor());
+	}
+
+	/**
+	 * Tests that paired rounds are scored in net units under the table rules, so doubling and splitting show their value.
+	 */
+	@Test
+	void testScoresNetUnitsUnderTableRules() {
+		BasicStrategyChart chart = BasicStrategyChart.getInstance();
+		VarianceReductionResult result = new VarianceReductionSimulator(2, 5L, 6, 0.0, TableRules.casinoStandard())
+				.compareWithCommonRandomNumbers(
+						new StrategyCandidate("full chart", chart::asDecisionStrategy),
+						StrategyCandidate.of("hit or stand chart", chart.asDecisionStrategy()),
+						40_000);
+
+		assertTrue(result.getEstimate() > 0.005, "Doubling, splitting and surrender should add EV: " + result.getEstimate());
+	}
+
+	/**
+	 * Tests that an antithetic source mirrors every draw and still deals a full deck.
+	 */
+	@Test
+	void testAntitheticSource() {
+		ShuffleRandomSource plain = ShuffleRandomSource.seeded(8L);
+		ShuffleRandomSource mirrored = ShuffleRandomSource.antithetic(ShuffleRandomSource.seeded(8L));
+		for (int bound = 1; bound < 60; bound++) {
+			assertEquals(bound - 1 - plain.nextInt(bound), mirrored.nextInt(bound));
+		}
+
+		StandardDeckCardManager deck = new StandardDeckCardManager(ShuffleRandomSource.antithetic(ShuffleRandomSource.seeded(8L)));
+		boolean[] seen = new boolean[52];
+		while (deck.hasNext()) {
+			seen[deck.next().getCardIndex()] = true;
+		}
+		for (boolean cardSeen : seen) {
+			assertTrue(cardSeen);
+		}
+	}
+
+	/**
+	 * Tests that paired moments stay exact around a large offset and that merging matches recording in sequence.
+	 */
+	@Test
+	void testPairedMomentsAreStable() {
+		PairedSampleStatistics sequential = new PairedSampleStatistics();
+		PairedSampleStatistics first = new PairedSampleStatistics();
+		PairedSampleStatistics second = new PairedSampleStatistics();
+		for (int i = 0; i < 30_000; i++) {
+			double x = 1e9 + i % 3;
+			double y = 1e9 - i % 3;
+			sequential.record(x, y);
+			(i < 10_000 ? first : second).record(x, y);
+		}
+		PairedSampleStatistics merged = first.merge(second);
+
+		// x cycles 0, 1, 2 around the offset: population variance 2/3
+		double expectedVariance = 2.0 / 3.0 * 30_000 / 29_999;
+		assertEquals(expectedVariance, sequential.getVarianceX(), 1e-6);
+		assertEquals(expectedVariance, sequential.getVarianceY(), 1e-6);
+		assertEquals(-expectedVariance, sequential.getCovariance(), 1e-6);
+		assertEquals(sequential.getCovariance(), merged.getCovariance(), 1e-6);
+		assertEquals(sequential.getMeanX(), merged.getMeanX(), 1e-4);
+	}
+}